@@ -0,0 +1,39 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada del JAR de benchmarks.
+ * <p>
+ * Ejecuta la suite de JMH con el perfilador de GC siempre activo, de modo que cada
+ * resultado incluya la tasa de asignación de memoria ({@code gc.alloc.rate.norm},
+ * bytes por operación) además del tiempo promedio. Acepta las mismas opciones de
+ * línea de comandos que JMH (ej. {@code -p tamano=1000 -p tipo=ARRAY}).
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Constructor privado para prevenir la instanciación de esta clase de utilidad.
+     */
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions lineaDeComandos = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(lineaDeComandos);
+
+        // Si no se indica un filtro, se ejecuta la suite completa de repositorios.
+        if (lineaDeComandos.getIncludes().isEmpty()) {
+            builder.include(RepositorioVentasBenchmark.class.getSimpleName());
+        }
+        Options opciones = builder.addProfiler(GCProfiler.class).build();
+        new Runner(opciones).run();
+    }
+}
@@ -0,0 +1,169 @@
+package benchmark;
+
+import model.RepositorioVentas;
+import model.TipoRepositorio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import util.RepositorioFactory;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite JMH que mide cada operación de {@link RepositorioVentas} sobre todas las
+ * implementaciones registradas en {@link TipoRepositorio}.
+ * <p>
+ * A diferencia de {@code PerformanceTestController}, que cronometra una única ejecución
+ * "en frío", JMH realiza iteraciones de calentamiento para que el JIT compile el código
+ * medido y repite la medición en un proceso separado, reduciendo el ruido del GC.
+ * </p>
+ * <p>
+ * Las operaciones que modifican el tamaño se miden en pareja con su operación inversa
+ * (ej. {@code agregarAlInicio} + {@code eliminarAlInicio}) para que el repositorio
+ * conserve exactamente {@code tamano} elementos durante toda la medición.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx4g"})
+public class RepositorioVentasBenchmark {
+
+    //region Constantes
+    /** Cantidad de índices aleatorios precalculados (potencia de 2 para usar una máscara). */
+    private static final int INDICES_PRECALCULADOS = 1024;
+    /** Semilla fija para que todas las implementaciones reciban la misma secuencia de índices. */
+    private static final long SEMILLA = 42L;
+    //endregion
+
+    //region Parámetros
+    /**
+     * Implementación a medir, por nombre de constante de {@link TipoRepositorio}. COLUMNAR no
+     * aparece: es un almacén de registros completos y no un repositorio de una sola columna.
+     */
+    @Param({"ARRAY", "ARRAY_DINAMICO", "SIMPLE", "DOBLE", "CIRCULAR", "HUECO", "DESENROLLADA", "TREAP", "SERIE_TEMPORAL"})
+    private String tipo;
+
+    /** Número de elementos que contiene el repositorio durante la medición. */
+    @Param({"10", "1000", "100000", "10000000"})
+    private int tamano;
+    //endregion
+
+    //region Estado
+    private RepositorioVentas repo;
+    private int[] indices;
+    private int cursor;
+    private double[] buffer;
+    //endregion
+
+    /**
+     * Crea el repositorio mediante {@link RepositorioFactory} y lo llena con los valores
+     * {@code 0..tamano-1}, de modo que el valor de cada posición coincide con su índice.
+     */
+    @Setup(Level.Trial)
+    public void preparar() {
+        TipoRepositorio tipoRepositorio = TipoRepositorio.valueOf(tipo);
+        // Se reserva un espacio extra para las implementaciones de capacidad fija.
+        repo = RepositorioFactory.crear(tipoRepositorio, tamano + 1);
+        llenar();
+
+        Random random = new Random(SEMILLA);
+        indices = new int[INDICES_PRECALCULADOS];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(tamano);
+        }
+        cursor = 0;
+    }
+
+    //region Benchmarks
+    @Benchmark
+    public boolean agregarAlInicio() {
+        repo.agregarAlInicio(-1.0);
+        return repo.eliminarAlInicio();
+    }
+
+    @Benchmark
+    public boolean agregarAlFinal() {
+        repo.agregarAlFinal(-1.0);
+        return repo.eliminarAlFinal();
+    }
+
+    @Benchmark
+    public boolean insertarDespuesDe() {
+        int indice = siguienteIndice();
+        repo.insertarDespuesDe(indice, -1.0);
+        return repo.eliminar(indice + 1);
+    }
+
+    @Benchmark
+    public double obtener() {
+        return repo.obtener(siguienteIndice());
+    }
+
+    @Benchmark
+    public boolean eliminar() {
+        int indice = siguienteIndice();
+        double valor = repo.obtener(indice);
+        repo.eliminar(indice);
+        // Restaura el elemento eliminado en su posición original.
+        return indice == 0 ? repo.agregarAlInicio(valor) : repo.insertarDespuesDe(indice - 1, valor);
+    }
+
+    @Benchmark
+    public int buscarIndiceDe() {
+        // Los valores coinciden con su índice, por lo que el valor buscado siempre existe.
+        return repo.buscarIndiceDe(siguienteIndice());
+    }
+
+    @Benchmark
+    public List<Double> obtenerTodos() {
+        return repo.obtenerTodos();
+    }
+
+    @Benchmark
+    public double[] aArray() {
+        // Se reutiliza el mismo buffer, como hacen los refrescos de la UI.
+        buffer = repo.aArray(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public void recorrer(Blackhole bh) {
+        repo.recorrer(bh::consume);
+    }
+    //endregion
+
+    //region Métodos de Ayuda
+    /**
+     * Llena el repositorio añadiendo al final los valores {@code 0..tamano-1}.
+     */
+    private void llenar() {
+        for (int i = 0; i < tamano; i++) {
+            repo.agregarAlFinal(i);
+        }
+    }
+
+    /**
+     * Devuelve el siguiente índice aleatorio precalculado, recorriendo el arreglo de forma circular.
+     */
+    private int siguienteIndice() {
+        int indice = indices[cursor];
+        cursor = (cursor + 1) & (INDICES_PRECALCULADOS - 1);
+        return indice;
+    }
+    //endregion
+}
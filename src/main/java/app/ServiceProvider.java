@@ -26,6 +26,12 @@ public class ServiceProvider {
      */
     private static TipoRepositorio currentType;
 
+    /**
+     * Capacidad inicial de los repositorios basados en arrays. Las estructuras dinámicas
+     * crecen a partir de ella; solo el array de tamaño fijo queda limitado a este valor.
+     */
+    private static final int CAPACIDAD_INICIAL = 12;
+
     /**
      * Constructor privado para prevenir la instanciación directa y asegurar
      * el patrón Singleton.
@@ -42,10 +48,7 @@ public class ServiceProvider {
     public static VentasService getInstance() {
         if (instance == null) {
             currentType = TipoRepositorio.DOBLE; // Estructura por defecto al iniciar.
-            instance = new VentasServiceImplementacion(
-                    RepositorioFactory.crear(currentType, 12),
-                    RepositorioFactory.crear(currentType, 12)
-            );
+            instance = new VentasServiceImplementacion(RepositorioFactory.crearRegistros(currentType, CAPACIDAD_INICIAL));
             CargarDatos.precargarDemo(instance);
         }
         return instance;
@@ -69,10 +72,7 @@ public class ServiceProvider {
      */
     public static void reiniciarServicio(TipoRepositorio tipo) {
         currentType = tipo;
-        instance = new VentasServiceImplementacion(
-                RepositorioFactory.crear(tipo, 12),
-                RepositorioFactory.crear(tipo, 12)
-        );
+        instance = new VentasServiceImplementacion(RepositorioFactory.crearRegistros(tipo, CAPACIDAD_INICIAL));
         CargarDatos.precargarDemo(instance);
     }
 }
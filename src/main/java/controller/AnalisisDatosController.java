@@ -4,31 +4,52 @@ import app.NotificationManager;
 import app.ServiceProvider;
 import javafx.animation.*;
 import javafx.fxml.FXML;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.geometry.Bounds;
-import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Line;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
 import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
+import model.ArbolBusqueda;
 import model.NodoArbol;
-import repository.ArbolBinarioBusqueda;
+import model.ResultadoBusqueda;
+import model.VisitanteNodo;
+import repository.ArbolAVL;
+import repository.ArbolCongelado;
 import service.VentasService;
 import util.InputValidador;
 import util.ValidacionExcepcion;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Controlador para la vista de "Análisis de Datos", que gestiona la visualización
  * y la interacción con un Árbol Binario de Búsqueda (ABB) de los datos de ventas.
+ * <p>
+ * Se usa un {@link ArbolAVL}: las ventas llegan en el orden de la serie y, a menudo,
+ * casi ordenadas, lo que degeneraría un ABB sin balancear en una lista.
+ * </p>
+ * <p>
+ * El árbol se dibuja de forma <b>virtualizada</b>: un único {@link Canvas} del tamaño
+ * del viewport del ScrollPane pinta solo los nodos y conectores visibles, por lo que
+ * desplazarse, buscar o resaltar cuesta lo mismo con cien nodos que con cien mil.
+ * </p>
  */
 public class AnalisisDatosController {
 
@@ -37,24 +58,54 @@ public class AnalisisDatosController {
     private static final double VERT_SPACING = 90;
     private static final double HORIZ_SPACING = 110;
     private static final double CANVAS_MARGIN = 50;
+
+    // Paleta de la hoja de estilos, aplicada a mano: el CSS no afecta a lo pintado en un Canvas.
+    private static final Color COLOR_CONECTOR = Color.web("#4f4b8a");
+    private static final Color COLOR_BORDE = Color.web("#2c2a4d");
+    private static final Color COLOR_SOMBRA = Color.rgb(44, 42, 77, 0.25);
+    private static final Color COLOR_RESALTADO = Color.web("#f1c40f");
+    private static final Color COLOR_RECORRIDO = Color.web("#3498db");
+    private static final RadialGradient RELLENO_NODO = new RadialGradient(0, 0, 0.5, 0.5, 0.5, true,
+            CycleMethod.NO_CYCLE, new Stop(0, Color.web("#a19eeb")), new Stop(1, Color.web("#7e78d2")));
+    /** Fuentes de las etiquetas, de mayor a menor, para ajustar el texto al círculo. */
+    private static final Font[] FUENTES_NODO = {
+            Font.font("System", FontWeight.BOLD, 14), Font.font("System", FontWeight.BOLD, 12.5),
+            Font.font("System", FontWeight.BOLD, 11), Font.font("System", FontWeight.BOLD, 9.5),
+            Font.font("System", FontWeight.BOLD, 8)
+    };
     //endregion
 
     //region Componentes FXML
     @FXML private StackPane rootPane;
     @FXML private Pane canvas;
     @FXML private ScrollPane scrollPane;
-    @FXML private TextField txtValor;
+    @FXML private TextField txtValor, txtHasta;
     @FXML private TextArea resultsArea;
     @FXML private Button btnGenerar, btnInorden, btnPreorden,
-            btnPostorden, btnBuscar, btnEliminar;
+            btnPostorden, btnBuscar, btnEliminar, btnRango, btnEstadisticas;
     //endregion
 
     //region Atributos del Controlador
     private final VentasService ventasModel;
-    private ArbolBinarioBusqueda arbolDeVentas;
+    private ArbolBusqueda arbolDeVentas;
+    /** Copia compacta del árbol recién generado para las consultas de solo lectura; null tras modificarlo. */
+    private ArbolCongelado instantanea;
     private List<Button> controlButtons;
-    /** Mapea un valor del árbol a su nodo de UI correspondiente (StackPane). */
-    private final Map<Double, StackPane> nodoUI = new HashMap<>();
+    /** Lienzo del tamaño del viewport, situado sobre la zona visible del contenido. */
+    private final Canvas lienzo = new Canvas();
+    private final DisposicionArbol disposicion = new DisposicionArbol();
+    /** Desplazamiento horizontal para centrar el árbol cuando cabe en el viewport. */
+    private double shiftX;
+    /** Columnas resaltadas de forma persistente (por ejemplo, un rango). */
+    private final BitSet resaltados = new BitSet();
+    /** Columna que se está animando (búsqueda o recorrido), o -1. */
+    private int columnaActiva = -1;
+    private Color colorActivo = COLOR_RESALTADO;
+    private int columnaHover = -1;
+    /** Crecimiento adicional del nodo activo durante el pulso (0.18 = 18%). */
+    private final DoubleProperty pulso = new SimpleDoubleProperty(0);
+    /** Escala de aparición de todos los nodos al generar el árbol (de 0 a 1). */
+    private final DoubleProperty aparicion = new SimpleDoubleProperty(1);
     //endregion
 
     /**
@@ -62,7 +113,7 @@ public class AnalisisDatosController {
      */
     public AnalisisDatosController() {
         this.ventasModel = ServiceProvider.getInstance();
-        this.arbolDeVentas = new ArbolBinarioBusqueda();
+        this.arbolDeVentas = new ArbolAVL();
     }
 
     /**
@@ -71,19 +122,41 @@ public class AnalisisDatosController {
     @FXML
     public void initialize() {
         controlButtons = List.of(btnGenerar, btnInorden, btnPreorden,
-                btnPostorden, btnBuscar, btnEliminar);
+                btnPostorden, btnBuscar, btnEliminar, btnRango, btnEstadisticas);
 
         resultsArea.setText("Genere un árbol para comenzar el análisis.");
         resultsArea.setWrapText(true);
 
         // Permite buscar al presionar Enter en el campo de texto.
         txtValor.setOnAction(event -> handleBuscar());
+        txtHasta.setOnAction(event -> handleResaltarRango());
 
         // Configura el ScrollPane para que las barras aparezcan solo cuando sea necesario.
         scrollPane.setFitToWidth(false);
         scrollPane.setFitToHeight(false);
         scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
         scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+
+        // El contenido solo reserva el tamaño del árbol; el lienzo sigue a la zona visible.
+        lienzo.setManaged(false);
+        lienzo.getGraphicsContext2D().setTextAlign(TextAlignment.CENTER);
+        lienzo.getGraphicsContext2D().setTextBaseline(VPos.CENTER);
+        canvas.getChildren().setAll(lienzo);
+        ChangeListener<Object> ventana = (obs, anterior, nuevo) -> actualizarVentana();
+        scrollPane.hvalueProperty().addListener(ventana);
+        scrollPane.vvalueProperty().addListener(ventana);
+        scrollPane.viewportBoundsProperty().addListener(ventana);
+        canvas.widthProperty().addListener(ventana);
+        canvas.heightProperty().addListener(ventana);
+        pulso.addListener((obs, anterior, nuevo) -> repintar());
+        aparicion.addListener((obs, anterior, nuevo) -> repintar());
+        lienzo.setOnMouseMoved(event -> actualizarHover(event.getX(), event.getY()));
+        lienzo.setOnMouseExited(event -> {
+            if (columnaHover != -1) {
+                columnaHover = -1;
+                repintar();
+            }
+        });
     }
 
     //region Manejadores de Eventos (Handlers)
@@ -92,16 +165,18 @@ public class AnalisisDatosController {
      */
     @FXML
     private void handleGenerarArbol() {
-        List<Double> ventas = ventasModel.getVentas();
-        if (ventas.isEmpty()) {
+        int cantidad = ventasModel.cantidadVentas();
+        if (cantidad == 0) {
             NotificationManager.showNotification(rootPane, "No hay datos de ventas para generar el árbol.", NotificationManager.NotificationType.ERROR);
             return;
         }
 
-        arbolDeVentas = new ArbolBinarioBusqueda();
-        ventas.forEach(arbolDeVentas::insertar);
+        // Carga en bloque: un árbol balanceado en O(n) tras ordenar, sin n inserciones.
+        arbolDeVentas = new ArbolAVL();
+        arbolDeVentas.cargar(ventasModel.copiarVentas(null), cantidad);
+        instantanea = ArbolCongelado.desde(arbolDeVentas);
 
-        resultsArea.setText("Árbol generado con " + ventas.size() + " registros.");
+        resultsArea.setText("Árbol generado con " + cantidad + " registros.");
         drawTree(true);
         NotificationManager.showNotification(rootPane, "Árbol Binario de Búsqueda generado exitosamente.", NotificationManager.NotificationType.SUCCESS);
     }
@@ -111,7 +186,9 @@ public class AnalisisDatosController {
      */
     @FXML
     private void handleRecorridoInorden() {
-        playRecorrido("In-Orden", toDouble(arbolDeVentas.recorridoInorden()));
+        SecuenciaRecorrido secuencia = new SecuenciaRecorrido();
+        arbolDeVentas.visitarInorden(secuencia);
+        playRecorrido("In-Orden", secuencia);
     }
 
     /**
@@ -119,7 +196,9 @@ public class AnalisisDatosController {
      */
     @FXML
     private void handleRecorridoPreorden() {
-        playRecorrido("Pre-Orden", toDouble(arbolDeVentas.recorridoPreorden()));
+        SecuenciaRecorrido secuencia = new SecuenciaRecorrido();
+        arbolDeVentas.visitarPreorden(secuencia);
+        playRecorrido("Pre-Orden", secuencia);
     }
 
     /**
@@ -127,7 +206,9 @@ public class AnalisisDatosController {
      */
     @FXML
     private void handleRecorridoPostorden() {
-        playRecorrido("Post-Orden", toDouble(arbolDeVentas.recorridoPostorden()));
+        SecuenciaRecorrido secuencia = new SecuenciaRecorrido();
+        arbolDeVentas.visitarPostorden(secuencia);
+        playRecorrido("Post-Orden", secuencia);
     }
 
     /**
@@ -138,16 +219,20 @@ public class AnalisisDatosController {
         if (isArbolInvalido()) return;
         try {
             double valorBuscado = InputValidador.parseNonNegativeDouble(txtValor.getText());
-            ArbolBinarioBusqueda.ResultadoBusqueda res = arbolDeVentas.buscarConDetalles(valorBuscado);
+            // La instantánea descarta los valores ausentes sin recorrer nodos; el informe de
+            // estructura (profundidad, padre e hijos) necesita el árbol enlazado.
+            ResultadoBusqueda res = (instantanea != null && !instantanea.contiene(valorBuscado))
+                    ? null : arbolDeVentas.buscarConDetalles(valorBuscado);
 
-            drawTree(false); // Limpia resaltados previos.
+            limpiarResaltados();
 
             if (res != null) {
-                highlightFoundNode(nodoUI.get(valorBuscado));
+                highlightFoundNode(disposicion.columnaDe(valorBuscado));
                 resultsArea.setText(generarInformeBusqueda(res));
                 NotificationManager.showNotification(rootPane, "Valor encontrado en el árbol.", NotificationManager.NotificationType.INFO);
             } else {
-                resultsArea.setText("--- Resultado de la Búsqueda ---\nEstado: NO ENCONTRADO.");
+                resultsArea.setText("--- Resultado de la Búsqueda ---\nEstado: NO ENCONTRADO.\n"
+                        + generarInformeVecinos(valorBuscado));
                 NotificationManager.showNotification(rootPane, "Valor " + valorBuscado + " no encontrado.", NotificationManager.NotificationType.ERROR);
             }
         } catch (ValidacionExcepcion ex) {
@@ -166,8 +251,9 @@ public class AnalisisDatosController {
             boolean exito = arbolDeVentas.eliminar(valorAEliminar);
 
             if (exito) {
+                instantanea = null; // Ya no refleja el árbol.
                 txtValor.clear();
-                drawTree(true);
+                drawTree(false);
                 resultsArea.setText("Valor " + valorAEliminar + " eliminado del árbol.");
                 NotificationManager.showNotification(rootPane, "Nodo eliminado.", NotificationManager.NotificationType.SUCCESS);
             } else {
@@ -177,104 +263,274 @@ public class AnalisisDatosController {
             NotificationManager.showNotification(rootPane, ex.getMessage(), NotificationManager.NotificationType.ERROR);
         }
     }
+
+    /**
+     * Resalta los nodos cuyo valor está entre "Valor" y "Hasta" (ambos incluidos) y los
+     * lista en orden. Solo se visitan los nodos del intervalo y el camino hasta el primero,
+     * O(log n + k), sin recorrer el árbol completo. Mientras el árbol no se haya modificado
+     * se lee de la instantánea, contigua en memoria.
+     */
+    @FXML
+    private void handleResaltarRango() {
+        if (isArbolInvalido()) return;
+        try {
+            double desde = InputValidador.parseNonNegativeDouble(txtValor.getText());
+            double hasta = InputValidador.parseNonNegativeDouble(txtHasta.getText());
+            if (desde > hasta) {
+                NotificationManager.showNotification(rootPane, "El inicio del rango no puede ser mayor que el final.", NotificationManager.NotificationType.ERROR);
+                return;
+            }
+
+            resaltados.clear();
+
+            SecuenciaRecorrido enRango = new SecuenciaRecorrido();
+            if (instantanea != null) {
+                instantanea.visitarRango(desde, hasta, enRango);
+            } else {
+                Iterator<NodoArbol> it = arbolDeVentas.nodosEnRango(desde, hasta);
+                while (it.hasNext()) {
+                    NodoArbol nodo = it.next();
+                    enRango.visitar(nodo.getValor(), nodo.getFrecuencia());
+                }
+            }
+
+            int nodos = enRango.cantidad, ventas = 0;
+            int primera = (nodos > 0) ? disposicion.columnaDe(enRango.valores[0]) : -1;
+            for (int i = 0; i < nodos; i++) {
+                ventas += enRango.frecuencias[i];
+            }
+
+            // Los nodos del rango ocupan columnas consecutivas de la disposición in-orden.
+            if (primera >= 0) resaltados.set(primera, primera + nodos);
+            columnaActiva = -1;
+            repintar();
+
+            String encabezado = String.format("--- Ventas entre %.2f y %.2f ---%n", desde, hasta);
+            if (nodos == 0) {
+                resultsArea.setText(encabezado + "Ninguna venta en el rango.\n" + generarInformeVecinos(desde));
+                NotificationManager.showNotification(rootPane, "No hay ventas en el rango indicado.", NotificationManager.NotificationType.INFO);
+                return;
+            }
+            resultsArea.setText(encabezado + "Valores distintos: " + nodos + "\tVentas: " + ventas + "\n" + enRango.formatear(", ", false));
+            smoothScrollTo(primera, Duration.millis(400)).play();
+        } catch (ValidacionExcepcion ex) {
+            NotificationManager.showNotification(rootPane, ex.getMessage(), NotificationManager.NotificationType.ERROR);
+        }
+    }
+
+    /**
+     * Muestra la mediana y los percentiles 90 y 95 de las ventas del árbol. Si se indicó
+     * un valor, añade su posición dentro de la distribución. Todas las consultas usan el
+     * peso de los nodos y cuestan O(log n).
+     */
+    @FXML
+    private void handleEstadisticas() {
+        if (isArbolInvalido()) return;
+        try {
+            int total = arbolDeVentas.cantidadTotal();
+            StringBuilder sb = new StringBuilder();
+            sb.append("--- Estadísticas de Orden ---\n");
+            sb.append("Cantidad de ventas: \t").append(total).append("\n");
+            sb.append("Mediana (P50): \t\t").append(String.format("%.2f", arbolDeVentas.percentil(50))).append("\n");
+            sb.append("Percentil 90: \t\t").append(String.format("%.2f", arbolDeVentas.percentil(90))).append("\n");
+            sb.append("Percentil 95: \t\t").append(String.format("%.2f", arbolDeVentas.percentil(95))).append("\n");
+
+            if (!txtValor.getText().isBlank()) {
+                double valor = InputValidador.parseNonNegativeDouble(txtValor.getText());
+                int menores = arbolDeVentas.rango(valor);
+                int iguales = arbolDeVentas.contarEnRango(valor, valor);
+                sb.append("Ventas menores que ").append(String.format("%.2f", valor)).append(": \t")
+                        .append(menores).append(String.format(" (%.1f%%)", 100.0 * menores / total)).append("\n");
+                sb.append("Ventas iguales: \t\t").append(iguales).append("\n");
+            }
+            resultsArea.setText(sb.toString());
+        } catch (ValidacionExcepcion ex) {
+            NotificationManager.showNotification(rootPane, ex.getMessage(), NotificationManager.NotificationType.ERROR);
+        }
+    }
     //endregion
 
     //region Lógica de Dibujo del Árbol
     /**
-     * Orquesta el proceso de dibujado del árbol en el canvas.
-     * Limpia el canvas, calcula las posiciones de los nodos y luego los renderiza.
+     * Recalcula la disposición del árbol y lo vuelve a pintar.
+     * <p>
+     * La disposición se guarda en arrays primitivos que se reutilizan entre llamadas
+     * ({@link DisposicionArbol}) y se calcula con una sola pasada in-orden iterativa, O(n)
+     * sin mapas ni objetos por nodo. El contenido del ScrollPane solo reserva el tamaño del
+     * árbol completo: el dibujo se hace en un único {@link Canvas} del tamaño del viewport.
+     * </p>
      * @param animate Indica si la aparición de los nodos debe ser animada.
      */
     private void drawTree(boolean animate) {
-        canvas.getChildren().clear();
-        nodoUI.clear();
-        if (arbolDeVentas.estaVacio()) return;
-
-        // 1. Calcular posiciones de nodos usando un recorrido in-order.
-        Map<NodoArbol, Point2D> posiciones = new HashMap<>();
-        int[] columnaActual = {0};
-        computePos(arbolDeVentas.obtenerRaiz(), 0, posiciones, columnaActual);
-
-        // 2. Determinar el tamaño necesario para el canvas.
-        double widthNeeded = columnaActual[0] * HORIZ_SPACING + CANVAS_MARGIN * 2;
-        double heightNeeded = (depth(arbolDeVentas.obtenerRaiz()) + 1) * VERT_SPACING + CANVAS_MARGIN * 2;
+        disposicion.calcular(arbolDeVentas.obtenerRaiz());
+        resaltados.clear();
+        columnaActiva = -1;
+        columnaHover = -1;
+
+        // Determinar el tamaño necesario para el contenido.
+        double widthNeeded = disposicion.cantidad * HORIZ_SPACING + CANVAS_MARGIN * 2;
+        double heightNeeded = (disposicion.profundidadMaxima + 1) * VERT_SPACING + CANVAS_MARGIN * 2;
         canvas.setPrefSize(widthNeeded, heightNeeded);
 
-        // 3. Centrar el árbol si cabe en el viewport.
+        // Centrar el árbol si cabe en el viewport.
         double viewportW = getViewportWidthSafe();
-        double shiftX = Math.max((viewportW - widthNeeded) / 2, 0);
+        shiftX = Math.max((viewportW - widthNeeded) / 2, 0);
+
+        if (animate) {
+            aparicion.set(0);
+            new Timeline(new KeyFrame(Duration.millis(280), new KeyValue(aparicion, 1))).play();
+        } else {
+            aparicion.set(1);
+        }
+        actualizarVentana();
+    }
 
-        // 4. Renderizar nodos y conectores.
-        render(arbolDeVentas.obtenerRaiz(), null, posiciones, animate, shiftX);
+    /**
+     * Quita los resaltados de búsquedas o rangos anteriores sin recalcular la disposición.
+     */
+    private void limpiarResaltados() {
+        resaltados.clear();
+        columnaActiva = -1;
+        repintar();
     }
 
     /**
-     * Calcula recursivamente la posición (x, y) de cada nodo.
-     * El eje Y se basa en la profundidad y el eje X en el orden in-order.
+     * Sitúa el lienzo sobre la zona visible del contenido y lo ajusta al tamaño del viewport.
+     * Se invoca al desplazar el ScrollPane o cambiar su tamaño.
      */
-    private void computePos(NodoArbol nodo, int depth, Map<NodoArbol, Point2D> pos, int[] col) {
-        if (nodo == null) return;
-        computePos(nodo.getIzquierdo(), depth + 1, pos, col);
+    private void actualizarVentana() {
+        Bounds viewport = scrollPane.getViewportBounds();
+        double ancho = Math.max(viewport.getWidth(), 0);
+        double alto = Math.max(viewport.getHeight(), 0);
+        lienzo.setLayoutX(scrollPane.getHvalue() * Math.max(canvas.getWidth() - ancho, 0));
+        lienzo.setLayoutY(scrollPane.getVvalue() * Math.max(canvas.getHeight() - alto, 0));
+        lienzo.setWidth(ancho);
+        lienzo.setHeight(alto);
+        repintar();
+    }
 
-        double x = col[0] * HORIZ_SPACING + CANVAS_MARGIN;
-        double y = depth * VERT_SPACING + CANVAS_MARGIN;
-        pos.put(nodo, new Point2D(x, y));
-        col[0]++;
+    /**
+     * Pinta únicamente los nodos y conectores que cortan la zona visible.
+     * <p>
+     * Las columnas visibles se obtienen directamente de la coordenada X (cada columna es un
+     * nodo en in-orden). Para cada una se dibujan los conectores con sus hijos y se sube por
+     * sus ancestros dibujando los conectores del camino: así aparecen también las líneas
+     * largas de los niveles superiores cuyos extremos quedan fuera de la vista. Cada ancestro
+     * se procesa una sola vez por repintado.
+     * </p>
+     * <p><b>Complejidad: O(v + a)</b>, siendo v las columnas visibles y a sus ancestros distintos,
+     * independiente del tamaño del árbol.</p>
+     */
+    private void repintar() {
+        GraphicsContext gc = lienzo.getGraphicsContext2D();
+        double ancho = lienzo.getWidth(), alto = lienzo.getHeight();
+        gc.clearRect(0, 0, ancho, alto);
+        if (disposicion.cantidad == 0) return;
+
+        double origenX = lienzo.getLayoutX(), origenY = lienzo.getLayoutY();
+        double margen = NODE_RADIUS * 1.5; // Incluye el pulso y la sombra de los nodos.
+        double minY = origenY - margen, maxY = origenY + alto + margen;
+        int primera = Math.max(0, (int) Math.floor((origenX - margen - shiftX - CANVAS_MARGIN) / HORIZ_SPACING));
+        int ultima = Math.min(disposicion.cantidad - 1, (int) Math.ceil((origenX + ancho + margen - shiftX - CANVAS_MARGIN) / HORIZ_SPACING));
+        if (primera > ultima) return;
+
+        gc.save();
+        gc.translate(-origenX, -origenY);
+
+        // 1. Conectores.
+        gc.setStroke(COLOR_CONECTOR);
+        gc.setLineWidth(2);
+        int marca = disposicion.nuevaMarca();
+        for (int c = primera; c <= ultima; c++) {
+            int izquierdo = disposicion.hijosIzq[c], derecho = disposicion.hijosDer[c];
+            if (izquierdo >= 0 && izquierdo < primera) dibujarConector(gc, c, izquierdo, minY, maxY);
+            if (derecho > ultima) dibujarConector(gc, c, derecho, minY, maxY);
+
+            for (int k = c; disposicion.padres[k] >= 0 && disposicion.marcas[k] != marca; k = disposicion.padres[k]) {
+                disposicion.marcas[k] = marca;
+                if (posY(k) < minY) break; // Los conectores superiores quedan por encima de la vista.
+                dibujarConector(gc, disposicion.padres[k], k, minY, maxY);
+            }
+        }
 
-        computePos(nodo.getDerecho(), depth + 1, pos, col);
+        // 2. Nodos.
+        for (int c = primera; c <= ultima; c++) {
+            double y = posY(c);
+            if (y >= minY && y <= maxY) dibujarNodo(gc, c, posX(c), y);
+        }
+        gc.restore();
+    }
+
+    /**
+     * Dibuja la línea entre un padre y su hijo, recortada al borde de ambos círculos,
+     * si su tramo vertical corta la zona visible.
+     */
+    private void dibujarConector(GraphicsContext gc, int padre, int hijo, double minY, double maxY) {
+        double x0 = posX(padre), y0 = posY(padre);
+        double x = posX(hijo), y = posY(hijo);
+        if (y < minY || y0 > maxY) return;
+
+        double dx = x - x0, dy = y - y0;
+        double dist = Math.hypot(dx, dy);
+        double offX = (dx / dist) * NODE_RADIUS;
+        double offY = (dy / dist) * NODE_RADIUS;
+        gc.strokeLine(x0 + offX, y0 + offY, x - offX, y - offY);
     }
 
     /**
-     * Dibuja recursivamente los nodos y las líneas que los conectan en el canvas.
+     * Dibuja un nodo (sombra, círculo y valor) con el estilo que corresponda a su estado.
      */
-    private void render(NodoArbol nodo, NodoArbol parent, Map<NodoArbol, Point2D> pos, boolean animate, double shiftX) {
-        if (nodo == null) return;
-
-        Point2D p = pos.get(nodo);
-        double x = p.getX() + shiftX, y = p.getY();
-
-        // Dibuja la línea conectora desde el padre (si existe).
-        if (parent != null) {
-            Point2D pp = pos.get(parent);
-            double x0 = pp.getX() + shiftX, y0 = pp.getY();
-            double dx = x - x0, dy = y - y0;
-            double dist = Math.hypot(dx, dy);
-            double offX = (dx / dist) * NODE_RADIUS;
-            double offY = (dy / dist) * NODE_RADIUS;
-
-            Line line = new Line(x0 + offX, y0 + offY, x - offX, y - offY);
-            line.getStyleClass().add("tree-connector");
-            canvas.getChildren().add(line);
+    private void dibujarNodo(GraphicsContext gc, int columna, double x, double y) {
+        double escala = aparicion.get() * (columna == columnaActiva ? 1 + pulso.get() : 1);
+        if (escala <= 0) return;
+        double r = NODE_RADIUS * escala;
+
+        gc.setFill(COLOR_SOMBRA);
+        gc.fillOval(x - r, y - r + 3, 2 * r, 2 * r);
+        gc.setFill(RELLENO_NODO);
+        gc.fillOval(x - r, y - r, 2 * r, 2 * r);
+
+        if (columna == columnaActiva) {
+            gc.setStroke(colorActivo);
+            gc.setLineWidth(3);
+        } else if (columna == columnaHover || resaltados.get(columna)) {
+            gc.setStroke(COLOR_RESALTADO);
+            gc.setLineWidth(3);
+        } else {
+            gc.setStroke(COLOR_BORDE);
+            gc.setLineWidth(2);
         }
+        gc.strokeOval(x - r, y - r, 2 * r, 2 * r);
 
-        // Crea y posiciona el nodo visual (círculo + texto).
-        Label label = fitLabel(String.format("%.2f", nodo.getValor()));
-        Circle mainCircle = createMainCircle();
-        StackPane pane = new StackPane(new Circle(NODE_RADIUS, Color.WHITE), mainCircle, label);
-        pane.getStyleClass().add("tree-node-pane");
-        pane.setLayoutX(x - NODE_RADIUS);
-        pane.setLayoutY(y - NODE_RADIUS);
+        gc.setFill(Color.WHITE);
+        gc.setFont(FUENTES_NODO[disposicion.fuente(columna)]);
+        gc.fillText(disposicion.etiqueta(columna), x, y);
+    }
 
-        // Añade efecto hover para interactividad.
-        pane.setOnMouseEntered(event -> mainCircle.getStyleClass().add("tree-node-circle-hover"));
-        pane.setOnMouseExited(event -> mainCircle.getStyleClass().remove("tree-node-circle-hover"));
+    private double posX(int columna) {
+        return columna * HORIZ_SPACING + CANVAS_MARGIN + shiftX;
+    }
 
-        nodoUI.put(nodo.getValor(), pane);
-        canvas.getChildren().add(pane);
+    private double posY(int columna) {
+        return disposicion.profundidades[columna] * VERT_SPACING + CANVAS_MARGIN;
+    }
 
-        // Anima la aparición del nodo si se solicita.
-        if (animate) {
-            pane.setScaleX(0);
-            pane.setScaleY(0);
-            ScaleTransition st = new ScaleTransition(Duration.millis(280), pane);
-            st.setToX(1);
-            st.setToY(1);
-            st.play();
+    /**
+     * Actualiza el nodo bajo el puntero (efecto hover) repintando solo si cambia.
+     */
+    private void actualizarHover(double xLienzo, double yLienzo) {
+        int nueva = -1;
+        if (disposicion.cantidad > 0) {
+            double x = xLienzo + lienzo.getLayoutX(), y = yLienzo + lienzo.getLayoutY();
+            int c = (int) Math.round((x - shiftX - CANVAS_MARGIN) / HORIZ_SPACING);
+            if (c >= 0 && c < disposicion.cantidad && Math.hypot(x - posX(c), y - posY(c)) <= NODE_RADIUS) {
+                nueva = c;
+            }
+        }
+        if (nueva != columnaHover) {
+            columnaHover = nueva;
+            repintar();
         }
-
-        // Continúa el renderizado para los hijos.
-        render(nodo.getIzquierdo(), nodo, pos, animate, shiftX);
-        render(nodo.getDerecho(), nodo, pos, animate, shiftX);
     }
     //endregion
 
@@ -283,43 +539,36 @@ public class AnalisisDatosController {
      * Ejecuta una secuencia de animaciones para visualizar un recorrido del árbol.
      * Para cada nodo en el orden dado, se desplaza suavemente hacia él y lo hace pulsar.
      * @param nombre El nombre del recorrido (ej. "In-Orden").
-     * @param orden  La lista de valores en el orden del recorrido.
+     * @param orden  Los nodos en el orden del recorrido.
      */
-    private void playRecorrido(String nombre, List<Double> orden) {
+    private void playRecorrido(String nombre, SecuenciaRecorrido orden) {
         if (isArbolInvalido()) return;
 
-        drawTree(false);
+        limpiarResaltados();
         setControlsDisabled(true);
         resultsArea.setText("Animando recorrido " + nombre + "…");
 
         SequentialTransition recorridoAnimation = new SequentialTransition();
 
-        for (Double valor : orden) {
-            StackPane pane = nodoUI.get(valor);
-            if (pane == null) continue;
+        for (int i = 0; i < orden.cantidad; i++) {
+            int columna = disposicion.columnaDe(orden.valores[i]);
+            if (columna < 0) continue;
 
             // 1. Scroll suave hasta el nodo.
-            Animation scroll = smoothScrollTo(pane, Duration.millis(350));
+            Animation scroll = smoothScrollTo(columna, Duration.millis(350));
 
             // 2. Resaltado y pulso del nodo.
             PauseTransition highlightOn = new PauseTransition(Duration.millis(1));
-            highlightOn.setOnFinished(e -> ((Circle) pane.getChildren().get(1)).getStyleClass().add("tree-node-traversed"));
-
-            ScaleTransition pulse = new ScaleTransition(Duration.millis(400), pane);
-            pulse.setByX(0.18);
-            pulse.setByY(0.18);
-            pulse.setCycleCount(2);
-            pulse.setAutoReverse(true);
+            highlightOn.setOnFinished(e -> activarNodo(columna, COLOR_RECORRIDO));
 
             PauseTransition highlightOff = new PauseTransition(Duration.millis(1));
-            highlightOff.setOnFinished(e -> ((Circle) pane.getChildren().get(1)).getStyleClass().remove("tree-node-traversed"));
+            highlightOff.setOnFinished(e -> activarNodo(-1, COLOR_RECORRIDO));
 
-            recorridoAnimation.getChildren().addAll(scroll, highlightOn, pulse, highlightOff, new PauseTransition(Duration.millis(120)));
+            recorridoAnimation.getChildren().addAll(scroll, highlightOn, crearPulso(Duration.millis(400)), highlightOff, new PauseTransition(Duration.millis(120)));
         }
 
         recorridoAnimation.setOnFinished(e -> {
-            String resultadoTexto = orden.stream().map(x -> String.format("%.2f", x)).collect(Collectors.joining("  ->  "));
-            resultsArea.setText("Recorrido " + nombre + ":\n" + resultadoTexto);
+            resultsArea.setText("Recorrido " + nombre + " (" + orden.cantidad + " valores distintos):\n" + orden.formatear("  ->  ", true));
             smoothScrollToTop(Duration.millis(500)).play();
             setControlsDisabled(false);
         });
@@ -329,36 +578,48 @@ public class AnalisisDatosController {
     /**
      * Resalta un nodo encontrado con una animación de scroll y pulso.
      */
-    private void highlightFoundNode(StackPane pane) {
-        if (pane == null) return;
+    private void highlightFoundNode(int columna) {
+        if (columna < 0) return;
+
+        activarNodo(columna, COLOR_RESALTADO);
+        Animation scroll = smoothScrollTo(columna, Duration.millis(400));
+        SequentialTransition seq = new SequentialTransition(scroll, crearPulso(Duration.millis(350)), new PauseTransition(Duration.millis(80)));
+        seq.setOnFinished(e -> activarNodo(-1, COLOR_RESALTADO));
+        seq.play();
+    }
 
-        Circle c = (Circle) pane.getChildren().get(1);
-        c.getStyleClass().add("tree-node-circle-found");
+    /**
+     * Marca el nodo que se está animando (o ninguno, con -1) y repinta.
+     */
+    private void activarNodo(int columna, Color color) {
+        columnaActiva = columna;
+        colorActivo = color;
+        pulso.set(0);
+        repintar();
+    }
 
-        Animation scroll = smoothScrollTo(pane, Duration.millis(400));
-        ScaleTransition pulse = new ScaleTransition(Duration.millis(350), pane);
-        pulse.setByX(0.18);
-        pulse.setByY(0.18);
+    /**
+     * Crea el pulso del nodo activo: crece un 18% y vuelve a su tamaño.
+     */
+    private Animation crearPulso(Duration dur) {
+        Timeline pulse = new Timeline(new KeyFrame(dur, new KeyValue(pulso, 0.18)));
         pulse.setCycleCount(2);
         pulse.setAutoReverse(true);
-
-        SequentialTransition seq = new SequentialTransition(scroll, pulse, new PauseTransition(Duration.millis(80)));
-        seq.setOnFinished(e -> c.getStyleClass().remove("tree-node-circle-found"));
-        seq.play();
+        return pulse;
     }
 
     /**
      * Crea una animación de desplazamiento suave del ScrollPane hacia un nodo específico.
      */
-    private Animation smoothScrollTo(StackPane pane, Duration dur) {
+    private Animation smoothScrollTo(int columna, Duration dur) {
         Bounds viewportBounds = scrollPane.getViewportBounds();
         double contentWidth = canvas.getWidth();
         double contentHeight = canvas.getHeight();
         double viewportWidth = viewportBounds.getWidth();
         double viewportHeight = viewportBounds.getHeight();
 
-        double nodeCenterX = pane.getLayoutX() + NODE_RADIUS;
-        double nodeCenterY = pane.getLayoutY() + NODE_RADIUS;
+        double nodeCenterX = posX(columna);
+        double nodeCenterY = posY(columna);
 
         double targetHValue = clamp((nodeCenterX - viewportWidth / 2) / (contentWidth - viewportWidth));
         double targetVValue = clamp((nodeCenterY - viewportHeight / 2) / (contentHeight - viewportHeight));
@@ -393,37 +654,10 @@ public class AnalisisDatosController {
         controlButtons.forEach(b -> b.setDisable(disabled));
     }
 
-    /**
-     * Crea el círculo principal de un nodo con su estilo CSS.
-     */
-    private Circle createMainCircle() {
-        Circle c = new Circle(NODE_RADIUS);
-        c.getStyleClass().add("tree-node-circle");
-        return c;
-    }
-
-    /**
-     * Ajusta el tamaño de la fuente de una etiqueta para que quepa dentro del círculo del nodo.
-     */
-    private Label fitLabel(String text) {
-        double maxWidth = NODE_RADIUS * 1.7;
-        double fontSize = 16;
-        Text tempText = new Text(text);
-        while (true) {
-            tempText.setFont(Font.font(fontSize));
-            if (tempText.getLayoutBounds().getWidth() <= maxWidth || fontSize <= 8) break;
-            fontSize -= 1.5;
-        }
-        Label label = new Label(text);
-        label.setFont(Font.font(fontSize));
-        label.getStyleClass().add("tree-node-label");
-        return label;
-    }
-
     /**
      * Genera un informe de texto detallado a partir de un resultado de búsqueda.
      */
-    private String generarInformeBusqueda(ArbolBinarioBusqueda.ResultadoBusqueda res) {
+    private String generarInformeBusqueda(ResultadoBusqueda res) {
         StringBuilder sb = new StringBuilder();
         sb.append("--- Resultado de la Búsqueda ---\n");
         sb.append("Estado: ENCONTRADO\n");
@@ -448,19 +682,22 @@ public class AnalisisDatosController {
     }
 
     /**
-     * Convierte una lista de strings (formato "valor (frec: X)") a una lista de doubles.
-     */
-    private List<Double> toDouble(List<String> raw) {
-        return raw.stream()
-                .map(s -> Double.parseDouble(s.split(" ")[0].replace(",", ".")))
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Calcula la profundidad (altura) de un subárbol.
+     * Describe los valores del árbol más cercanos por debajo y por encima de uno dado, que
+     * no está en el árbol (por eso el piso y el techo de la instantánea son estrictos).
      */
-    private int depth(NodoArbol nodo) {
-        return nodo == null ? -1 : 1 + Math.max(depth(nodo.getIzquierdo()), depth(nodo.getDerecho()));
+    private String generarInformeVecinos(double valor) {
+        double inferior, superior;
+        if (instantanea != null) {
+            inferior = instantanea.piso(valor);
+            superior = instantanea.techo(valor);
+        } else {
+            NodoArbol anterior = arbolDeVentas.anteriorMenor(valor);
+            NodoArbol siguiente = arbolDeVentas.siguienteMayor(valor);
+            inferior = (anterior != null) ? anterior.getValor() : Double.NaN;
+            superior = (siguiente != null) ? siguiente.getValor() : Double.NaN;
+        }
+        return "Valor inferior más cercano: \t" + (!Double.isNaN(inferior) ? String.format("%.2f", inferior) : "Ninguno") + "\n"
+                + "Valor superior más cercano: \t" + (!Double.isNaN(superior) ? String.format("%.2f", superior) : "Ninguno");
     }
 
     /**
@@ -491,4 +728,235 @@ public class AnalisisDatosController {
         return (bounds == null || bounds.getWidth() == 0) ? scrollPane.getWidth() : bounds.getWidth();
     }
     //endregion
+
+    //region Secuencia de Recorrido
+    /**
+     * Acumula los nodos de un recorrido en arrays primitivos paralelos (valor y frecuencia),
+     * sin crear cadenas ni objetos por nodo. El texto se genera solo al mostrar el resultado.
+     */
+    private static final class SecuenciaRecorrido implements VisitanteNodo {
+        /** Entradas que se muestran al principio y al final del listado; las del medio se resumen. */
+        private static final int MAX_EXTREMOS = 50;
+
+        private double[] valores = new double[16];
+        private int[] frecuencias = new int[16];
+        private int cantidad;
+
+        @Override
+        public void visitar(double valor, int frecuencia) {
+            if (cantidad == valores.length) {
+                valores = Arrays.copyOf(valores, cantidad * 2);
+                frecuencias = Arrays.copyOf(frecuencias, cantidad * 2);
+            }
+            valores[cantidad] = valor;
+            frecuencias[cantidad] = frecuencia;
+            cantidad++;
+        }
+
+        /**
+         * Lista los valores de la secuencia. Con más de {@code 2 * MAX_EXTREMOS} entradas solo
+         * se formatean las primeras y las últimas, y las intermedias se resumen con su cantidad,
+         * de modo que el coste no depende del tamaño del árbol.
+         * @param separador          El texto entre dos valores consecutivos.
+         * @param mostrarFrecuencias Si los valores repetidos indican su frecuencia.
+         * @return El listado para mostrar en el área de resultados.
+         */
+        private String formatear(String separador, boolean mostrarFrecuencias) {
+            StringBuilder sb = new StringBuilder();
+            boolean recortar = cantidad > 2 * MAX_EXTREMOS;
+            int finCabeza = recortar ? MAX_EXTREMOS : cantidad;
+            for (int i = 0; i < finCabeza; i++) {
+                if (i > 0) sb.append(separador);
+                anexar(sb, i, mostrarFrecuencias);
+            }
+            if (recortar) {
+                sb.append(separador).append("… (").append(cantidad - 2 * MAX_EXTREMOS).append(" valores más) …");
+                for (int i = cantidad - MAX_EXTREMOS; i < cantidad; i++) {
+                    sb.append(separador);
+                    anexar(sb, i, mostrarFrecuencias);
+                }
+            }
+            return sb.toString();
+        }
+
+        private void anexar(StringBuilder sb, int i, boolean mostrarFrecuencias) {
+            sb.append(String.format("%.2f", valores[i]));
+            if (mostrarFrecuencias && frecuencias[i] > 1) sb.append(" (x").append(frecuencias[i]).append(')');
+        }
+    }
+    //endregion
+
+    //region Disposición del Árbol
+    /**
+     * Disposición del árbol en columnas: la columna de cada nodo es su posición in-orden
+     * (X) y su profundidad determina la fila (Y). Como las columnas siguen el orden
+     * ascendente, la columna de un valor se encuentra por búsqueda binaria.
+     * <p>
+     * Todos los datos viven en arrays primitivos paralelos indexados por columna, que solo
+     * se reasignan cuando el árbol crece por encima de su capacidad. Las etiquetas de texto
+     * y su tamaño de fuente se calculan al dibujar un nodo por primera vez y se reutilizan
+     * en los repintados siguientes, de modo que solo se formatean los nodos que se ven.
+     * </p>
+     */
+    private static final class DisposicionArbol {
+        private NodoArbol[] nodos = new NodoArbol[0];
+        private int[] profundidades = new int[0];
+        private int[] padres = new int[0];
+        private int[] hijosIzq = new int[0];
+        private int[] hijosDer = new int[0];
+        /** Marca del último repintado que procesó el conector con el padre. */
+        private int[] marcas = new int[0];
+        private String[] etiquetas = new String[0];
+        /** Índice en {@link #FUENTES_NODO} más uno; 0 indica que aún no se midió. */
+        private byte[] fuentes = new byte[0];
+        private int cantidad;
+        private int profundidadMaxima;
+        private int marcaActual;
+
+        // Pila del recorrido in-orden iterativo, reutilizada entre cálculos.
+        private NodoArbol[] pilaNodos = new NodoArbol[16];
+        private int[] pilaProfundidad = new int[16];
+        private int[] pilaHijoIzq = new int[16];
+        private int[] pilaPadre = new int[16];
+        private boolean[] pilaEsIzquierdo = new boolean[16];
+
+        private final Text medidor = new Text();
+
+        /**
+         * Calcula columna, profundidad, padre e hijos de cada nodo con un recorrido in-orden
+         * iterativo (pila explícita de O(h)).
+         * <p>
+         * Un hijo derecho se visita después que su padre, así que ya conoce su columna. Un
+         * hijo izquierdo se visita antes: al visitarse está justo encima de su padre en la
+         * pila y deja allí su columna, que el padre enlaza cuando le llega el turno.
+         * </p>
+         * <p><b>Complejidad: O(n)</b></p>
+         */
+        private void calcular(NodoArbol raiz) {
+            int anterior = cantidad;
+            cantidad = 0;
+            profundidadMaxima = 0;
+            int tope = 0;
+            NodoArbol actual = raiz;
+            int profundidad = 0;
+            int padre = -1;
+            boolean esIzquierdo = false;
+
+            while (actual != null || tope > 0) {
+                while (actual != null) {
+                    if (tope == pilaNodos.length) crecerPila();
+                    pilaNodos[tope] = actual;
+                    pilaProfundidad[tope] = profundidad;
+                    pilaHijoIzq[tope] = -1;
+                    pilaPadre[tope] = padre;
+                    pilaEsIzquierdo[tope] = esIzquierdo;
+                    tope++;
+                    actual = actual.getIzquierdo();
+                    profundidad++;
+                    padre = -1;
+                    esIzquierdo = true;
+                }
+
+                tope--;
+                if (cantidad == nodos.length) crecer();
+                int c = cantidad++;
+                nodos[c] = pilaNodos[tope];
+                pilaNodos[tope] = null;
+                profundidades[c] = pilaProfundidad[tope];
+                profundidadMaxima = Math.max(profundidadMaxima, profundidades[c]);
+                hijosIzq[c] = pilaHijoIzq[tope];
+                hijosDer[c] = -1;
+                marcas[c] = 0;
+                etiquetas[c] = null;
+                fuentes[c] = 0;
+                if (hijosIzq[c] >= 0) padres[hijosIzq[c]] = c;
+                if (pilaEsIzquierdo[tope]) {
+                    pilaHijoIzq[tope - 1] = c; // El padre está justo debajo en la pila.
+                } else {
+                    padres[c] = pilaPadre[tope];
+                    if (padres[c] >= 0) hijosDer[padres[c]] = c;
+                }
+
+                actual = nodos[c].getDerecho();
+                profundidad = profundidades[c] + 1;
+                padre = c;
+                esIzquierdo = false;
+            }
+            Arrays.fill(nodos, cantidad, Math.max(anterior, cantidad), null); // Sin referencias a nodos eliminados.
+            marcaActual = 0;
+        }
+
+        /**
+         * @return La columna del nodo con ese valor, o -1 si no está.
+         * <p><b>Complejidad: O(log n)</b></p>
+         */
+        private int columnaDe(double valor) {
+            int bajo = 0, alto = cantidad - 1;
+            while (bajo <= alto) {
+                int medio = (bajo + alto) >>> 1;
+                double v = nodos[medio].getValor();
+                if (v < valor) bajo = medio + 1;
+                else if (v > valor) alto = medio - 1;
+                else return medio;
+            }
+            return -1;
+        }
+
+        /**
+         * @return Una marca distinta para cada repintado.
+         */
+        private int nuevaMarca() {
+            if (++marcaActual == Integer.MAX_VALUE) {
+                Arrays.fill(marcas, 0, cantidad, 0);
+                marcaActual = 1;
+            }
+            return marcaActual;
+        }
+
+        private String etiqueta(int columna) {
+            if (etiquetas[columna] == null) {
+                etiquetas[columna] = String.format("%.2f", nodos[columna].getValor());
+            }
+            return etiquetas[columna];
+        }
+
+        /**
+         * Elige la mayor fuente con la que la etiqueta cabe dentro del círculo del nodo.
+         */
+        private int fuente(int columna) {
+            if (fuentes[columna] == 0) {
+                medidor.setText(etiqueta(columna));
+                int i = 0;
+                while (i < FUENTES_NODO.length - 1) {
+                    medidor.setFont(FUENTES_NODO[i]);
+                    if (medidor.getLayoutBounds().getWidth() <= NODE_RADIUS * 1.7) break;
+                    i++;
+                }
+                fuentes[columna] = (byte) (i + 1);
+            }
+            return fuentes[columna] - 1;
+        }
+
+        private void crecer() {
+            int capacidad = Math.max(16, nodos.length * 2);
+            nodos = Arrays.copyOf(nodos, capacidad);
+            profundidades = Arrays.copyOf(profundidades, capacidad);
+            padres = Arrays.copyOf(padres, capacidad);
+            hijosIzq = Arrays.copyOf(hijosIzq, capacidad);
+            hijosDer = Arrays.copyOf(hijosDer, capacidad);
+            marcas = Arrays.copyOf(marcas, capacidad);
+            etiquetas = Arrays.copyOf(etiquetas, capacidad);
+            fuentes = Arrays.copyOf(fuentes, capacidad);
+        }
+
+        private void crecerPila() {
+            int capacidad = pilaNodos.length * 2;
+            pilaNodos = Arrays.copyOf(pilaNodos, capacidad);
+            pilaProfundidad = Arrays.copyOf(pilaProfundidad, capacidad);
+            pilaHijoIzq = Arrays.copyOf(pilaHijoIzq, capacidad);
+            pilaPadre = Arrays.copyOf(pilaPadre, capacidad);
+            pilaEsIzquierdo = Arrays.copyOf(pilaEsIzquierdo, capacidad);
+        }
+    }
+    //endregion
 }
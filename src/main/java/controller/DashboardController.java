@@ -51,12 +51,25 @@ public class DashboardController {
     @FXML private Button btnAddFirst;
     @FXML private Button btnAddLast;
     @FXML private Button btnInsertAfter;
+    @FXML private Label lblTotalVentas;
+    @FXML private Label lblPromedioVentas;
+    @FXML private Label lblExtremosVentas;
+    @FXML private Label lblCumplidos;
     //endregion
 
     //region Dependencias
     private final VentasService model;
     //endregion
 
+    //region Buffers de Refresco
+    /**
+     * Arrays primitivos reutilizados en cada {@link #refreshTable()}; solo crecen cuando
+     * el número de registros supera su capacidad.
+     */
+    private double[] bufferVentas = new double[0];
+    private double[] bufferObjetivos = new double[0];
+    //endregion
+
     /**
      * Constructor que obtiene la instancia del servicio de negocio.
      */
@@ -118,14 +131,17 @@ public class DashboardController {
      * Al final, limpia el formulario y reevalúa el estado de los botones.
      */
     private void refreshTable() {
-        List<Double> ventas = model.getVentas();
-        List<Double> objetivos = model.getObjetivos();
-        int rows = Math.max(ventas.size(), objetivos.size());
+        // Se reutilizan los buffers primitivos entre refrescos para no generar basura.
+        int numVentas = model.cantidadVentas();
+        int numObjetivos = model.cantidadObjetivos();
+        bufferVentas = model.copiarVentas(bufferVentas);
+        bufferObjetivos = model.copiarObjetivos(bufferObjetivos);
+        int rows = Math.max(numVentas, numObjetivos);
 
         ObservableList<List<String>> data = FXCollections.observableArrayList();
         IntStream.range(0, rows).forEach(i -> {
-            double venta = (i < ventas.size()) ? ventas.get(i) : 0.0;
-            double objetivo = (i < objetivos.size()) ? objetivos.get(i) : 0.0;
+            double venta = (i < numVentas) ? bufferVentas[i] : 0.0;
+            double objetivo = (i < numObjetivos) ? bufferObjetivos[i] : 0.0;
             String cumplimiento = objetivo > 0 ? (venta >= objetivo ? "✓ Cumplido" : "✗ No Cumplido") : "N/A";
 
             data.add(List.of(
@@ -137,10 +153,30 @@ public class DashboardController {
         });
 
         ventasTable.setItems(data);
+        refreshIndicadores();
         clearForm();
         updateButtonStates();
     }
 
+    /**
+     * Actualiza las tarjetas de indicadores. El servicio mantiene los valores en caché,
+     * así que el costo no depende del número de registros.
+     */
+    private void refreshIndicadores() {
+        if (model.cantidadVentas() == 0) {
+            lblTotalVentas.setText("—");
+            lblPromedioVentas.setText("—");
+            lblExtremosVentas.setText("—");
+        } else {
+            lblTotalVentas.setText(String.format("%.2f", model.getTotalVentas()));
+            lblPromedioVentas.setText(String.format("%.2f", model.getPromedioVentas()));
+            lblExtremosVentas.setText(String.format("%.2f / %.2f", model.getVentaMinima(), model.getVentaMaxima()));
+        }
+        int conObjetivo = model.getMesesConObjetivo();
+        lblCumplidos.setText(conObjetivo == 0 ? "N/A"
+                : String.format("%d de %d (%.0f%%)", model.getMesesCumplidos(), conObjetivo, 100.0 * model.getMesesCumplidos() / conObjetivo));
+    }
+
     /**
      * Método centralizado que gestiona la habilitación/deshabilitación de los
      * botones de acción basándose en el estado actual de la UI (selección,
@@ -149,12 +185,9 @@ public class DashboardController {
     private void updateButtonStates() {
         List<String> selectedRow = ventasTable.getSelectionModel().getSelectedItem();
         boolean rowIsSelected = selectedRow != null;
-        boolean isFull = model.getVentas().size() >= 12;
-
-        // Lógica para botones de agregación.
-        btnAddFirst.setDisable(isFull);
-        btnAddLast.setDisable(isFull);
-        btnInsertAfter.setDisable(isFull || !rowIsSelected);
+        // Lógica para botones de agregación. No hay límite de meses: si la estructura tiene
+        // capacidad fija y se llena, la operación informa el error al usuario.
+        btnInsertAfter.setDisable(!rowIsSelected);
 
         // Lógica para botón de eliminación.
         btnDeleteSelected.setDisable(!rowIsSelected);
@@ -186,7 +219,7 @@ public class DashboardController {
         executeOperation(() -> {
             double venta = InputValidador.parseDoubleInRange(getVentaInput(), "Valor de Venta", MIN_VALOR, MAX_VALOR);
             double objetivo = InputValidador.parseDoubleInRange(getObjetivoInput(), "Valor de Objetivo", MIN_VALOR, MAX_VALOR);
-            if (!model.registrarVentaAlInicio(venta) || !model.registrarObjetivoAlInicio(objetivo)) {
+            if (!model.registrarAlInicio(venta, objetivo)) {
                 throw new ValidacionExcepcion("Capacidad máxima del repositorio alcanzada.");
             }
         }, "Registro añadido al inicio exitosamente.");
@@ -197,7 +230,7 @@ public class DashboardController {
         executeOperation(() -> {
             double venta = InputValidador.parseDoubleInRange(getVentaInput(), "Valor de Venta", MIN_VALOR, MAX_VALOR);
             double objetivo = InputValidador.parseDoubleInRange(getObjetivoInput(), "Valor de Objetivo", MIN_VALOR, MAX_VALOR);
-            if (!model.registrarVentaAlFinal(venta) || !model.registrarObjetivoAlFinal(objetivo)) {
+            if (!model.registrarAlFinal(venta, objetivo)) {
                 throw new ValidacionExcepcion("Capacidad máxima del repositorio alcanzada.");
             }
         }, "Registro añadido al final exitosamente.");
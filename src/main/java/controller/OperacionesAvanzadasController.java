@@ -16,8 +16,8 @@ import service.VentasService;
 import util.InputValidador;
 import util.ValidacionExcepcion;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleConsumer;
 
 /**
  * Controlador para la vista de "Operaciones Avanzadas" (OperacionesAvanzadasView.fxml).
@@ -60,7 +60,7 @@ public class OperacionesAvanzadasController {
      */
     @FXML
     public void initialize() {
-        // Verifica si la estructura de datos actual (ej. Lista vs. Array) soporta estas operaciones.
+        // Verifica si la estructura de datos actual (ej. Lista vs. Buffer con Hueco) soporta estas operaciones.
         boolean isEnabled = model.soportaOperacionesAvanzadasVentas();
 
         // Habilita o deshabilita todos los controles de la vista según la capacidad de la estructura.
@@ -78,7 +78,7 @@ public class OperacionesAvanzadasController {
             refreshVisualList();
         } else {
             // Si no son soportadas, se muestra un mensaje informativo y se oculta la lista.
-            resultsLabel.setText("La estructura de datos actual (Array) no soporta operaciones avanzadas.");
+            resultsLabel.setText("La estructura de datos actual (" + ServiceProvider.getCurrentType() + ") no soporta operaciones avanzadas.");
             listContainer.setVisible(false);
         }
     }
@@ -197,9 +197,7 @@ public class OperacionesAvanzadasController {
         resultsLabel.setText("Estado Actual de: " + target.toString());
         listContainer.getChildren().clear();
 
-        List<Double> data = (target == TipoEntidad.VENTAS) ? model.getVentas() : model.getObjetivos();
-
-        for (Double value : data) {
+        DoubleConsumer agregarChip = value -> {
             Label chip = new Label(String.format("%.2f", value));
             chip.getStyleClass().add("list-chip");
 
@@ -210,6 +208,12 @@ public class OperacionesAvanzadasController {
             ft.play();
 
             listContainer.getChildren().add(chip);
+        };
+
+        if (target == TipoEntidad.VENTAS) {
+            model.recorrerVentas(agregarChip);
+        } else {
+            model.recorrerObjetivos(agregarChip);
         }
     }
 
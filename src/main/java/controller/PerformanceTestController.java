@@ -15,16 +15,18 @@ import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 import model.RepositorioVentas;
-import repository.ArrayRepositorio;
-import repository.ListaDobleRepositorio;
+import model.TipoRepositorio;
+import util.RepositorioFactory;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Controlador para la vista de "Pruebas de Rendimiento" (PerformanceTestView.fxml).
  * <p>
  * Permite comparar el rendimiento de diferentes implementaciones de
- * {@link RepositorioVentas} (Array vs. Lista Doble) para operaciones
+ * {@link RepositorioVentas} (Array, Lista Doble, buffers, etc.) para operaciones
  * computacionalmente intensivas, ilustrando las diferencias de complejidad
  * algorítmica (ej. O(1) vs. O(n)).
  * </p>
@@ -33,18 +35,28 @@ public class PerformanceTestController {
 
     /**
      * Enum que define los tipos de pruebas de rendimiento disponibles.
-     * Cada tipo tiene un nombre descriptivo que se muestra en la UI.
+     * Cada tipo tiene un nombre descriptivo que se muestra en la UI y la lista
+     * de estructuras de datos que participan en la comparación.
      */
     private enum TestType {
-        ADD_FIRST("Insertar 20,000 al Inicio (O(n) vs O(1))"),
-        ADD_LAST("Insertar 50,000 al Final (O(1) vs O(1))"),
-        RANDOM_ACCESS("Acceder 50,000 veces a un índice aleatorio (O(1) vs O(n))"),
-        DELETE_FIRST("Eliminar 10,000 del Inicio (O(n) vs O(1))");
+        ADD_FIRST("Insertar 20,000 al Inicio (O(n) vs O(1))",
+                TipoRepositorio.ARRAY, TipoRepositorio.DOBLE, TipoRepositorio.CIRCULAR, TipoRepositorio.HUECO),
+        ADD_LAST("Insertar 50,000 al Final (O(1) vs O(1))",
+                TipoRepositorio.ARRAY, TipoRepositorio.SIMPLE, TipoRepositorio.DOBLE, TipoRepositorio.CIRCULAR, TipoRepositorio.HUECO),
+        RANDOM_ACCESS("Acceder 50,000 veces a un índice aleatorio (O(1) vs O(n))",
+                TipoRepositorio.ARRAY, TipoRepositorio.DOBLE, TipoRepositorio.CIRCULAR, TipoRepositorio.HUECO,
+                TipoRepositorio.DESENROLLADA, TipoRepositorio.TREAP),
+        DELETE_FIRST("Eliminar 10,000 del Inicio (O(n) vs O(1))",
+                TipoRepositorio.ARRAY, TipoRepositorio.DOBLE, TipoRepositorio.CIRCULAR, TipoRepositorio.HUECO),
+        LOCAL_EDIT("Editar 20,000 veces junto al cursor (O(n) vs O(1))",
+                TipoRepositorio.ARRAY, TipoRepositorio.DOBLE, TipoRepositorio.HUECO, TipoRepositorio.TREAP);
 
         private final String displayName;
+        private final List<TipoRepositorio> estructuras;
 
-        TestType(String displayName) {
+        TestType(String displayName, TipoRepositorio... estructuras) {
             this.displayName = displayName;
+            this.estructuras = List.of(estructuras);
         }
 
         @Override
@@ -100,15 +112,14 @@ public class PerformanceTestController {
         Task<XYChart.Series<String, Number>> testTask = new Task<>() {
             @Override
             protected XYChart.Series<String, Number> call() {
-                // Ejecuta la misma prueba para ambas estructuras de datos.
-                long timeArray = executeTest(new ArrayRepositorio(ARRAY_CAPACITY), selectedTest);
-                long timeList = executeTest(new ListaDobleRepositorio(), selectedTest);
-
-                // Prepara la serie de datos para la gráfica.
+                // Ejecuta la misma prueba para cada estructura de datos participante
+                // y prepara la serie de datos para la gráfica.
                 XYChart.Series<String, Number> series = new XYChart.Series<>();
                 series.setName(selectedTest.toString());
-                series.getData().add(new XYChart.Data<>("Array", timeArray));
-                series.getData().add(new XYChart.Data<>("Lista Doble", timeList));
+                for (TipoRepositorio tipo : selectedTest.estructuras) {
+                    long time = executeTest(RepositorioFactory.crear(tipo, ARRAY_CAPACITY), selectedTest);
+                    series.getData().add(new XYChart.Data<>(tipo.toString(), time));
+                }
                 return series;
             }
         };
@@ -118,10 +129,10 @@ public class PerformanceTestController {
             XYChart.Series<String, Number> series = testTask.getValue();
             updateChartWithFade(series);
 
-            long timeArray = series.getData().get(0).getYValue().longValue();
-            long timeList = series.getData().get(1).getYValue().longValue();
-
-            resultsLabel.setText(String.format("Resultados: Array (%,d ms) vs Lista Doble (%,d ms)", timeArray, timeList));
+            String resumen = series.getData().stream()
+                    .map(data -> String.format("%s (%,d ms)", data.getXValue(), data.getYValue().longValue()))
+                    .collect(Collectors.joining(" vs "));
+            resultsLabel.setText("Resultados: " + resumen);
             NotificationManager.showNotification(rootPane, "Prueba completada exitosamente.", NotificationManager.NotificationType.SUCCESS);
 
             // Restaura la UI a su estado original.
@@ -179,7 +190,7 @@ public class PerformanceTestController {
 
         // Determina el número de iteraciones según el tipo de prueba.
         switch (test) {
-            case ADD_FIRST -> iterations = 20_000;
+            case ADD_FIRST, LOCAL_EDIT -> iterations = 20_000;
             case DELETE_FIRST -> iterations = 10_000;
             default -> iterations = 50_000;
         }
@@ -187,7 +198,7 @@ public class PerformanceTestController {
         // Pre-carga el repositorio con datos si la prueba lo requiere (ej. eliminar, acceder).
         if (test == TestType.DELETE_FIRST) {
             for (int i = 0; i < iterations; i++) repo.agregarAlInicio(i);
-        } else if (test == TestType.RANDOM_ACCESS) {
+        } else if (test == TestType.RANDOM_ACCESS || test == TestType.LOCAL_EDIT) {
             for (int i = 0; i < iterations; i++) repo.agregarAlFinal(i);
         }
 
@@ -202,6 +213,20 @@ public class PerformanceTestController {
             case DELETE_FIRST -> r -> {
                 for (int i = 0; i < iterations; i++) r.eliminarAlInicio();
             };
+            case LOCAL_EDIT -> r -> {
+                // Simula la edición de la fila seleccionada: insertar después, actualizar
+                // y, cada dos pasos, eliminar, avanzando un cursor desde la mitad.
+                int cursor = r.tamano() / 2;
+                for (int i = 0; i < iterations; i++) {
+                    r.insertarDespuesDe(cursor, i);
+                    cursor++;
+                    r.actualizar(cursor, -i);
+                    if (i % 2 == 1) {
+                        r.eliminar(cursor);
+                        cursor--;
+                    }
+                }
+            };
             default -> r -> { // RANDOM_ACCESS
                 for (int i = 0; i < iterations; i++) r.obtener((int) (Math.random() * r.tamano()));
             };
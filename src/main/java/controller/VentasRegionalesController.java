@@ -152,7 +152,7 @@ public class VentasRegionalesController {
         }
 
         // Obtiene el valor de la venta del mes seleccionado y lo registra en la matriz regional.
-        double valorVenta = model.getVentas().get(mesSeleccionado.getIndiceMes());
+        double valorVenta = model.getVenta(mesSeleccionado.getIndiceMes());
         model.registrarVentaRegional(regionIndex, mesSeleccionado.getIndiceMes(), valorVenta);
 
         refreshAll();
@@ -0,0 +1,412 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Define el contrato común de los árboles binarios de búsqueda de ventas.
+ * <p>
+ * Todas las implementaciones almacenan {@link NodoArbol} y gestionan los valores
+ * duplicados incrementando la frecuencia del nodo existente. Solo la inserción y la
+ * eliminación dependen de la estrategia de balanceo; las operaciones de consulta se
+ * ofrecen como métodos por defecto que recorren el árbol a partir de {@link #obtenerRaiz()}.
+ * </p>
+ * <p>
+ * Las implementaciones mantienen además el <b>peso</b> de cada nodo (la cantidad de valores
+ * de su subárbol, ver {@link NodoArbol#getPeso()}), en el que se basan las consultas de
+ * orden: {@link #seleccionar(int)}, {@link #rango(double)}, {@link #percentil(double)} y
+ * {@link #contarEnRango(double, double)}.
+ * </p>
+ *
+ * @see repository.ArbolBinarioBusqueda
+ * @see repository.ArbolAVL
+ */
+public interface ArbolBusqueda {
+
+    /**
+     * @return El nodo raíz, o {@code null} si el árbol está vacío.
+     */
+    NodoArbol obtenerRaiz();
+
+    /**
+     * Inserta un valor en el árbol. Si ya existe, se incrementa su frecuencia.
+     * @param valor El valor a insertar.
+     * @throws IllegalArgumentException si el valor es {@code NaN}.
+     */
+    void insertar(double valor);
+
+    /**
+     * Elimina el nodo que contiene un valor, sea cual sea su frecuencia (todas sus apariciones).
+     * @param valor El valor a eliminar.
+     * @return {@code true} si el valor fue encontrado y eliminado, {@code false} en caso contrario.
+     * @see #eliminarUnaAparicion(double)
+     */
+    boolean eliminar(double valor);
+
+    /**
+     * Elimina una sola aparición de un valor: si su frecuencia es mayor que 1 se decrementa
+     * y el nodo permanece; si es la última, el nodo se elimina con {@link #eliminar(double)}.
+     * <p><b>Complejidad: O(h)</b> - Al decrementar, la forma del árbol no cambia: basta un
+     * descenso iterativo que reste uno al peso de cada nodo del camino.</p>
+     * @param valor El valor a eliminar.
+     * @return {@code true} si el valor fue encontrado, {@code false} en caso contrario.
+     */
+    default boolean eliminarUnaAparicion(double valor) {
+        NodoArbol nodo = obtenerRaiz();
+        while (nodo != null && valor != nodo.getValor()) {
+            nodo = (valor < nodo.getValor()) ? nodo.getIzquierdo() : nodo.getDerecho();
+        }
+        if (nodo == null) {
+            return false;
+        }
+        if (nodo.getFrecuencia() == 1) {
+            return eliminar(valor);
+        }
+        for (NodoArbol ancestro = obtenerRaiz(); ancestro != nodo; ) {
+            ancestro.setPeso(ancestro.getPeso() - 1);
+            ancestro = (valor < ancestro.getValor()) ? ancestro.getIzquierdo() : ancestro.getDerecho();
+        }
+        nodo.decrementarFrecuencia();
+        return true;
+    }
+
+    /**
+     * Reemplaza el contenido del árbol por los valores indicados, construyendo directamente
+     * un árbol perfectamente balanceado en lugar de insertarlos uno a uno.
+     * <p><b>Complejidad: O(n log n)</b> por la ordenación, y <b>O(n)</b> para agrupar los
+     * duplicados en frecuencias y enlazar los nodos.</p>
+     * @param valores  Los valores a cargar (no se modifican; se ordena una copia).
+     * @param cantidad Cuántos valores tomar desde el inicio del array.
+     * @throws IllegalArgumentException si algún valor es {@code NaN}.
+     * @throws IndexOutOfBoundsException si {@code cantidad} es negativa o supera la longitud del array.
+     */
+    void cargar(double[] valores, int cantidad);
+
+    default boolean estaVacio() {
+        return obtenerRaiz() == null;
+    }
+
+    /**
+     * Busca un nodo en el árbol y devuelve un objeto con detalles sobre su posición y contexto.
+     * @param valor El valor a buscar.
+     * @return Un objeto {@link ResultadoBusqueda} si se encuentra, o {@code null} si no.
+     */
+    default ResultadoBusqueda buscarConDetalles(double valor) {
+        NodoArbol actual = obtenerRaiz();
+        NodoArbol padre = null;
+        int nivel = 0;
+
+        while (actual != null) {
+            if (valor == actual.getValor()) {
+                String posicion = (padre == null) ? "Raíz del árbol"
+                        : (padre.getIzquierdo() == actual ? "Hijo Izquierdo" : "Hijo Derecho");
+                return new ResultadoBusqueda(actual, padre, nivel, posicion);
+            }
+
+            padre = actual;
+            if (valor < actual.getValor()) {
+                actual = actual.getIzquierdo();
+            } else {
+                actual = actual.getDerecho();
+            }
+            nivel++;
+        }
+        return null; // El valor no se encontró.
+    }
+
+    /**
+     * Devuelve el nodo con el mayor valor menor o igual que el indicado.
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado.</p>
+     * @param valor El valor de referencia.
+     * @return El nodo encontrado, o {@code null} si todos los valores son mayores.
+     */
+    default NodoArbol piso(double valor) {
+        return buscarVecino(valor, false, true);
+    }
+
+    /**
+     * Devuelve el nodo con el menor valor mayor o igual que el indicado.
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado.</p>
+     * @param valor El valor de referencia.
+     * @return El nodo encontrado, o {@code null} si todos los valores son menores.
+     */
+    default NodoArbol techo(double valor) {
+        return buscarVecino(valor, true, true);
+    }
+
+    /**
+     * Devuelve el nodo con el menor valor estrictamente mayor que el indicado.
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado.</p>
+     * @param valor El valor de referencia.
+     * @return El nodo encontrado, o {@code null} si no hay valores mayores.
+     */
+    default NodoArbol siguienteMayor(double valor) {
+        return buscarVecino(valor, true, false);
+    }
+
+    /**
+     * Devuelve el nodo con el mayor valor estrictamente menor que el indicado.
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado.</p>
+     * @param valor El valor de referencia.
+     * @return El nodo encontrado, o {@code null} si no hay valores menores.
+     */
+    default NodoArbol anteriorMenor(double valor) {
+        return buscarVecino(valor, false, false);
+    }
+
+    /**
+     * Devuelve un iterador perezoso, en orden ascendente, de los nodos con valor en el
+     * intervalo cerrado [desde, hasta].
+     * <p><b>Complejidad: O(h + k)</b> para recorrer los k nodos del intervalo; O(log n + k)
+     * en un árbol balanceado. Los nodos fuera del intervalo no se visitan.</p>
+     * @param desde El extremo inferior (incluido).
+     * @param hasta El extremo superior (incluido).
+     * @return El iterador (vacío si {@code desde > hasta}).
+     */
+    default Iterator<NodoArbol> nodosEnRango(double desde, double hasta) {
+        return new IteradorRango(obtenerRaiz(), desde, hasta);
+    }
+
+    /**
+     * @return La cantidad total de valores del árbol, contando cada uno tantas veces como
+     * su frecuencia.
+     * <p><b>Complejidad: O(1)</b> - Es el peso de la raíz.</p>
+     */
+    default int cantidadTotal() {
+        NodoArbol raiz = obtenerRaiz();
+        return raiz == null ? 0 : raiz.getPeso();
+    }
+
+    /**
+     * Devuelve el k-ésimo menor valor del árbol (base 0), contando los duplicados según su
+     * frecuencia: con los valores 1, 2, 2 y 5, la posición 2 corresponde al 2.
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado. Desciende usando el
+     * peso del subárbol izquierdo de cada nodo.</p>
+     * @param k La posición en el orden ascendente.
+     * @return El valor en esa posición.
+     * @throws IndexOutOfBoundsException si {@code k} no está en [0, {@link #cantidadTotal()}).
+     */
+    default double seleccionar(int k) {
+        if (k < 0 || k >= cantidadTotal()) {
+            throw new IndexOutOfBoundsException("Posición inválida: " + k + " (cantidad: " + cantidadTotal() + ")");
+        }
+        NodoArbol actual = obtenerRaiz();
+        while (true) {
+            int pesoIzquierdo = peso(actual.getIzquierdo());
+            if (k < pesoIzquierdo) {
+                actual = actual.getIzquierdo();
+            } else if (k < pesoIzquierdo + actual.getFrecuencia()) {
+                return actual.getValor();
+            } else {
+                k -= pesoIzquierdo + actual.getFrecuencia();
+                actual = actual.getDerecho();
+            }
+        }
+    }
+
+    /**
+     * Devuelve cuántos valores del árbol son estrictamente menores que el indicado, es decir,
+     * la posición (base 0) que ocuparía su primera aparición en el orden ascendente.
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado.</p>
+     * @param valor El valor de referencia (no necesita estar en el árbol).
+     * @return La cantidad de valores menores, contando frecuencias (0 si {@code valor} es
+     * {@code NaN}, que no es menor ni mayor que ningún valor del árbol).
+     */
+    default int rango(double valor) {
+        return contarMenores(valor, false);
+    }
+
+    /**
+     * Devuelve el percentil {@code p} de los valores del árbol por el método del rango más
+     * cercano: el menor valor tal que al menos el {@code p}% de los datos es menor o igual.
+     * Así, {@code percentil(50)} es la mediana (la inferior, con una cantidad par de datos).
+     * <p><b>Complejidad: O(h)</b> - O(log n) en un árbol balanceado.</p>
+     * @param p El percentil, entre 0 y 100.
+     * @return El valor del percentil.
+     * @throws IllegalArgumentException si {@code p} no está entre 0 y 100.
+     * @throws IllegalStateException si el árbol está vacío.
+     */
+    default double percentil(double p) {
+        if (!(p >= 0 && p <= 100)) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100.");
+        }
+        int total = cantidadTotal();
+        if (total == 0) {
+            throw new IllegalStateException("El árbol está vacío.");
+        }
+        int posicion = (int) Math.ceil(p / 100.0 * total) - 1;
+        return seleccionar(Math.max(posicion, 0));
+    }
+
+    /**
+     * Cuenta los valores del árbol comprendidos en el intervalo cerrado [desde, hasta].
+     * <p><b>Complejidad: O(h)</b> - Dos descensos; O(log n) en un árbol balanceado.</p>
+     * @param desde El extremo inferior (incluido).
+     * @param hasta El extremo superior (incluido).
+     * @return La cantidad de valores en el intervalo, contando frecuencias (0 si {@code desde > hasta}).
+     */
+    default int contarEnRango(double desde, double hasta) {
+        if (!(desde <= hasta)) {
+            return 0;
+        }
+        return contarMenores(hasta, true) - contarMenores(desde, false);
+    }
+
+    /**
+     * Realiza un recorrido In-Orden del árbol (Izquierdo, Raíz, Derecho),
+     * lo que resulta en una lista ordenada de los valores.
+     * <p>Pensado solo para mostrar el árbol como texto; para procesar los valores conviene
+     * {@link #visitarInorden(VisitanteNodo)}, que no crea cadenas.</p>
+     * @return Una lista de strings representando los nodos en orden ascendente.
+     */
+    default List<String> recorridoInorden() {
+        List<String> resultado = new ArrayList<>();
+        RecorridosArbol.inorden(obtenerRaiz(), nodo -> resultado.add(describir(nodo)));
+        return resultado;
+    }
+
+    /**
+     * Realiza un recorrido Pre-Orden del árbol (Raíz, Izquierdo, Derecho).
+     * @return Una lista de strings representando los nodos en pre-orden.
+     */
+    default List<String> recorridoPreorden() {
+        List<String> resultado = new ArrayList<>();
+        RecorridosArbol.preorden(obtenerRaiz(), nodo -> resultado.add(describir(nodo)));
+        return resultado;
+    }
+
+    /**
+     * Realiza un recorrido Post-Orden del árbol (Izquierdo, Derecho, Raíz).
+     * @return Una lista de strings representando los nodos en post-orden.
+     */
+    default List<String> recorridoPostorden() {
+        List<String> resultado = new ArrayList<>();
+        RecorridosArbol.postorden(obtenerRaiz(), nodo -> resultado.add(describir(nodo)));
+        return resultado;
+    }
+
+    /**
+     * Aplica una acción al valor de cada nodo en in-orden (ascendente), sin construir
+     * listas intermedias.
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(1) en memoria adicional (recorrido de Morris).
+     * La acción no debe modificar el árbol.</p>
+     * @param accion La acción a ejecutar para cada valor.
+     */
+    default void recorrerInorden(DoubleConsumer accion) {
+        RecorridosArbol.inorden(obtenerRaiz(), nodo -> accion.accept(nodo.getValor()));
+    }
+
+    /**
+     * Aplica una acción al valor de cada nodo en pre-orden, sin construir listas intermedias.
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(1) en memoria adicional (recorrido de Morris).
+     * La acción no debe modificar el árbol.</p>
+     * @param accion La acción a ejecutar para cada valor.
+     */
+    default void recorrerPreorden(DoubleConsumer accion) {
+        RecorridosArbol.preorden(obtenerRaiz(), nodo -> accion.accept(nodo.getValor()));
+    }
+
+    /**
+     * Aplica una acción al valor de cada nodo en post-orden, sin construir listas intermedias.
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(h) en memoria (pila explícita).
+     * La acción no debe modificar el árbol.</p>
+     * @param accion La acción a ejecutar para cada valor.
+     */
+    default void recorrerPostorden(DoubleConsumer accion) {
+        RecorridosArbol.postorden(obtenerRaiz(), nodo -> accion.accept(nodo.getValor()));
+    }
+
+    /**
+     * Entrega el valor y la frecuencia de cada nodo en in-orden (ascendente).
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(1) en memoria adicional (recorrido de Morris).
+     * El visitante no debe modificar el árbol.</p>
+     * @param visitante El visitante que recibe cada nodo.
+     */
+    default void visitarInorden(VisitanteNodo visitante) {
+        RecorridosArbol.inorden(obtenerRaiz(), nodo -> visitante.visitar(nodo.getValor(), nodo.getFrecuencia()));
+    }
+
+    /**
+     * Entrega el valor y la frecuencia de cada nodo en pre-orden.
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(1) en memoria adicional (recorrido de Morris).
+     * El visitante no debe modificar el árbol.</p>
+     * @param visitante El visitante que recibe cada nodo.
+     */
+    default void visitarPreorden(VisitanteNodo visitante) {
+        RecorridosArbol.preorden(obtenerRaiz(), nodo -> visitante.visitar(nodo.getValor(), nodo.getFrecuencia()));
+    }
+
+    /**
+     * Entrega el valor y la frecuencia de cada nodo en post-orden.
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(h) en memoria (pila explícita).
+     * El visitante no debe modificar el árbol.</p>
+     * @param visitante El visitante que recibe cada nodo.
+     */
+    default void visitarPostorden(VisitanteNodo visitante) {
+        RecorridosArbol.postorden(obtenerRaiz(), nodo -> visitante.visitar(nodo.getValor(), nodo.getFrecuencia()));
+    }
+
+    /**
+     * Cuenta los valores menores (o menores o iguales) que {@code valor} acumulando, en cada
+     * giro a la derecha, el peso del subárbol izquierdo y la frecuencia del nodo.
+     * Para {@code NaN} devuelve 0: todas sus comparaciones son falsas y caería en la rama de igualdad.
+     */
+    private int contarMenores(double valor, boolean incluirIguales) {
+        if (valor != valor) {
+            return 0;
+        }
+        int cantidad = 0;
+        NodoArbol actual = obtenerRaiz();
+        while (actual != null) {
+            if (valor < actual.getValor()) {
+                actual = actual.getIzquierdo();
+            } else if (valor > actual.getValor()) {
+                cantidad += peso(actual.getIzquierdo()) + actual.getFrecuencia();
+                actual = actual.getDerecho();
+            } else {
+                cantidad += peso(actual.getIzquierdo()) + (incluirIguales ? actual.getFrecuencia() : 0);
+                break;
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Desciende desde la raíz guardando el último candidato: hacia arriba ({@code mayor})
+     * el menor valor por encima de {@code valor}, o hacia abajo el mayor por debajo.
+     * Con {@code incluirIgual}, un nodo con el mismo valor es la respuesta.
+     */
+    private NodoArbol buscarVecino(double valor, boolean mayor, boolean incluirIgual) {
+        NodoArbol candidato = null;
+        NodoArbol actual = (valor == valor) ? obtenerRaiz() : null; // NaN no tiene vecinos.
+        while (actual != null) {
+            if (valor == actual.getValor()) {
+                if (incluirIgual) {
+                    return actual;
+                }
+                actual = mayor ? actual.getDerecho() : actual.getIzquierdo();
+            } else if (valor < actual.getValor()) {
+                if (mayor) {
+                    candidato = actual;
+                }
+                actual = actual.getIzquierdo();
+            } else {
+                if (!mayor) {
+                    candidato = actual;
+                }
+                actual = actual.getDerecho();
+            }
+        }
+        return candidato;
+    }
+
+    private static int peso(NodoArbol nodo) {
+        return nodo == null ? 0 : nodo.getPeso();
+    }
+
+    private static String describir(NodoArbol nodo) {
+        return nodo.getValor() + " (frec: " + nodo.getFrecuencia() + ")";
+    }
+}
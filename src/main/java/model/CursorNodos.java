@@ -0,0 +1,55 @@
+package model;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Implementación de {@link CursorVentas} para listas enlazadas cuyos nodos cumplen
+ * el contrato {@link INodo}.
+ * <p>
+ * Avanza siguiendo la referencia {@code siguiente} de cada nodo, por lo que recorrer
+ * toda la lista cuesta O(n) en total, en lugar de O(n^2) si se usara {@code obtener(i)}.
+ * </p>
+ *
+ * @see repository.ListaSimpleRepositorio
+ * @see repository.ListaDobleRepositorio
+ */
+public final class CursorNodos implements CursorVentas {
+
+    /**
+     * Proveedor de la cabeza actual de la lista, consultado en cada reinicio.
+     */
+    private final Supplier<? extends INodo> cabeza;
+    private INodo actual;
+
+    /**
+     * Construye un cursor situado en la cabeza de la lista.
+     *
+     * @param cabeza Proveedor del primer nodo de la lista; se vuelve a consultar en
+     *               {@link #reiniciar()} porque la cabeza puede cambiar.
+     */
+    public CursorNodos(Supplier<? extends INodo> cabeza) {
+        this.cabeza = cabeza;
+        this.actual = cabeza.get();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return actual != null;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (actual == null) {
+            throw new NoSuchElementException("No hay más elementos en la lista.");
+        }
+        double valor = actual.getValor();
+        actual = actual.getSiguiente();
+        return valor;
+    }
+
+    @Override
+    public void reiniciar() {
+        actual = cabeza.get();
+    }
+}
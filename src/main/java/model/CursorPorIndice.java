@@ -0,0 +1,48 @@
+package model;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación genérica de {@link CursorVentas} que avanza mediante
+ * {@link RepositorioVentas#obtener(int)}.
+ * <p>
+ * Es la opción por defecto y resulta eficiente para los repositorios con acceso por
+ * índice en O(1) (arrays y buffers). Las estructuras enlazadas proporcionan su propio
+ * cursor para no pagar un recorrido desde el inicio en cada paso.
+ * </p>
+ *
+ * @see RepositorioVentas#cursor()
+ */
+public final class CursorPorIndice implements CursorVentas {
+
+    private final RepositorioVentas repo;
+    private int indice;
+
+    /**
+     * Construye un cursor situado en el primer elemento del repositorio.
+     *
+     * @param repo El repositorio a recorrer.
+     */
+    public CursorPorIndice(RepositorioVentas repo) {
+        this.repo = repo;
+        this.indice = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return indice < repo.tamano();
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No hay más elementos en el repositorio.");
+        }
+        return repo.obtener(indice++);
+    }
+
+    @Override
+    public void reiniciar() {
+        indice = 0;
+    }
+}
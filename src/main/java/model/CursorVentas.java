@@ -0,0 +1,28 @@
+package model;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Define un cursor de solo lectura que recorre los valores de un {@link RepositorioVentas}
+ * sin convertirlos a {@code Double} ("boxing").
+ * <p>
+ * Extiende {@link PrimitiveIterator.OfDouble}, por lo que puede usarse con
+ * {@code hasNext()}/{@code nextDouble()} y con cualquier API de Java que acepte
+ * iteradores primitivos. A diferencia de un iterador convencional, el cursor puede
+ * <b>reutilizarse</b>: {@link #reiniciar()} lo devuelve al primer elemento sin crear
+ * un objeto nuevo.
+ * </p>
+ * <p>
+ * El repositorio no debe modificarse mientras se recorre con un cursor; tras una
+ * modificación, se debe invocar {@link #reiniciar()} antes de volver a usarlo.
+ * </p>
+ *
+ * @see RepositorioVentas#cursor()
+ */
+public interface CursorVentas extends PrimitiveIterator.OfDouble {
+
+    /**
+     * Devuelve el cursor a la posición inicial del repositorio.
+     */
+    void reiniciar();
+}
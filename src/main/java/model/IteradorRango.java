@@ -0,0 +1,75 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterador perezoso, en orden ascendente, de los nodos de un árbol binario de búsqueda
+ * cuyo valor está en el intervalo cerrado [desde, hasta].
+ * <p>
+ * Solo visita los nodos necesarios: los del camino hasta el primer valor del intervalo y
+ * los k nodos que devuelve, es decir, <b>O(h + k)</b> en total (O(log n + k) en un árbol
+ * balanceado), con una pila de O(h) elementos. El árbol no debe modificarse mientras se
+ * itera.
+ * </p>
+ *
+ * @see ArbolBusqueda#nodosEnRango(double, double)
+ */
+public final class IteradorRango implements Iterator<NodoArbol> {
+
+    private final double desde;
+    private final double hasta;
+
+    /**
+     * Ancestros pendientes de visitar: todos mayores o iguales que {@code desde}, con el
+     * menor en la cima.
+     */
+    private final Deque<NodoArbol> pendientes = new ArrayDeque<>();
+
+    /**
+     * Construye el iterador y desciende hasta el primer valor del intervalo.
+     *
+     * @param raiz  La raíz del árbol (puede ser {@code null}).
+     * @param desde El extremo inferior (incluido).
+     * @param hasta El extremo superior (incluido).
+     */
+    public IteradorRango(NodoArbol raiz, double desde, double hasta) {
+        this.desde = desde;
+        this.hasta = hasta;
+        if (desde <= hasta) {
+            apilarDesde(raiz);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pendientes.isEmpty() && pendientes.peek().getValor() <= hasta;
+    }
+
+    @Override
+    public NodoArbol next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No hay más nodos en el rango.");
+        }
+        NodoArbol nodo = pendientes.pop();
+        apilarDesde(nodo.getDerecho());
+        return nodo;
+    }
+
+    /**
+     * Apila el camino hacia el menor valor mayor o igual que {@code desde} del subárbol,
+     * descartando las ramas izquierdas que quedan por debajo del intervalo.
+     */
+    private void apilarDesde(NodoArbol nodo) {
+        while (nodo != null) {
+            if (nodo.getValor() < desde) {
+                nodo = nodo.getDerecho();
+            } else {
+                pendientes.push(nodo);
+                nodo = nodo.getIzquierdo();
+            }
+        }
+    }
+}
@@ -32,6 +32,19 @@ public class NodoArbol {
      */
     private NodoArbol derecho;
 
+    /**
+     * Altura del subárbol que cuelga de este nodo (una hoja tiene altura 1). Solo la
+     * mantienen los árboles balanceados, como {@link repository.ArbolAVL}.
+     */
+    private int altura;
+
+    /**
+     * Cantidad de valores del subárbol que cuelga de este nodo, contando cada valor tantas
+     * veces como su frecuencia. Los árboles la mantienen en cada modificación para
+     * responder consultas de orden (posición, mediana, percentiles) en O(h).
+     */
+    private int peso;
+
     /**
      * Construye un nuevo nodo de árbol con un valor específico.
      * La frecuencia se inicializa en 1, representando la primera ocurrencia de este valor.
@@ -43,6 +56,25 @@ public class NodoArbol {
         this.frecuencia = 1;
         this.izquierdo = null;
         this.derecho = null;
+        this.altura = 1;
+        this.peso = 1;
+    }
+
+    /**
+     * Construye un nodo que representa varias apariciones de un mismo valor, como al
+     * cargar un árbol en bloque a partir de datos ya agrupados.
+     *
+     * @param valor      El valor de tipo {@code double} que almacenará el nodo.
+     * @param frecuencia Las veces que aparece el valor.
+     * @throws IllegalArgumentException si la frecuencia es menor que 1.
+     */
+    public NodoArbol(double valor, int frecuencia) {
+        this(valor);
+        if (frecuencia < 1) {
+            throw new IllegalArgumentException("La frecuencia debe ser al menos 1.");
+        }
+        this.frecuencia = frecuencia;
+        this.peso = frecuencia;
     }
 
     // --- Getters y Setters ---
@@ -55,8 +87,28 @@ public class NodoArbol {
         return frecuencia;
     }
 
+    /**
+     * Incrementa la frecuencia y, con ella, el peso de este nodo. El peso de los ancestros
+     * lo actualiza el árbol.
+     */
     public void incrementarFrecuencia() {
         this.frecuencia++;
+        this.peso++;
+    }
+
+    /**
+     * Resta una aparición al valor del nodo y, con ella, una unidad de su peso. El peso de
+     * los ancestros lo actualiza el árbol.
+     *
+     * @throws IllegalStateException si la frecuencia es 1: la última aparición se quita
+     * eliminando el nodo del árbol.
+     */
+    public void decrementarFrecuencia() {
+        if (frecuencia <= 1) {
+            throw new IllegalStateException("La última aparición de un valor se elimina quitando el nodo.");
+        }
+        this.frecuencia--;
+        this.peso--;
     }
 
     public NodoArbol getIzquierdo() {
@@ -74,4 +126,20 @@ public class NodoArbol {
     public void setDerecho(NodoArbol derecho) {
         this.derecho = derecho;
     }
+
+    public int getAltura() {
+        return altura;
+    }
+
+    public void setAltura(int altura) {
+        this.altura = altura;
+    }
+
+    public int getPeso() {
+        return peso;
+    }
+
+    public void setPeso(int peso) {
+        this.peso = peso;
+    }
 }
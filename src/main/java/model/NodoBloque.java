@@ -0,0 +1,93 @@
+package model;
+
+/**
+ * Representa un nodo de una lista doblemente enlazada "desenrollada" (unrolled linked list).
+ * <p>
+ * A diferencia de {@link NodoDoble}, que guarda un único valor por nodo, cada
+ * {@code NodoBloque} almacena un pequeño bloque de valores en un array primitivo.
+ * Esto reparte el costo de la cabecera del objeto y de los punteros entre muchos
+ * valores y hace que los recorridos lean memoria contigua.
+ * </p>
+ * <p>
+ * Por rendimiento, el array interno se expone sin copia defensiva: el repositorio
+ * que lo utiliza desplaza los valores con copias en bloque ({@link System#arraycopy}).
+ * </p>
+ *
+ * @see repository.ListaDesenrolladaRepositorio
+ */
+public class NodoBloque {
+
+    /**
+     * Los valores almacenados en el bloque. Solo las primeras {@code cantidad} posiciones son válidas.
+     */
+    private final double[] valores;
+
+    /**
+     * Número de posiciones ocupadas del bloque.
+     */
+    private int cantidad;
+
+    /**
+     * Referencia al siguiente bloque en la lista.
+     */
+    private NodoBloque siguiente;
+
+    /**
+     * Referencia al bloque anterior en la lista.
+     */
+    private NodoBloque anterior;
+
+    /**
+     * Construye un nuevo bloque vacío.
+     *
+     * @param capacidad El número máximo de valores que puede almacenar el bloque.
+     */
+    public NodoBloque(int capacidad) {
+        this.valores = new double[capacidad];
+        this.cantidad = 0;
+        this.siguiente = null;
+        this.anterior = null;
+    }
+
+    // --- Getters ---
+
+    /**
+     * Devuelve el array interno del bloque. Solo las primeras {@link #getCantidad()}
+     * posiciones contienen valores válidos.
+     *
+     * @return El array primitivo de valores (no es una copia).
+     */
+    public double[] getValores() {
+        return valores;
+    }
+
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    public boolean estaLleno() {
+        return cantidad == valores.length;
+    }
+
+    public NodoBloque getSiguiente() {
+        return siguiente;
+    }
+
+    public NodoBloque getAnterior() {
+        return anterior;
+    }
+
+    // --- Setters ---
+
+    public void setCantidad(int cantidad) {
+        this.cantidad = cantidad;
+    }
+
+    public void setSiguiente(NodoBloque siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    public void setAnterior(NodoBloque anterior) {
+        this.anterior = anterior;
+    }
+}
@@ -0,0 +1,156 @@
+package model;
+
+/**
+ * Representa un nodo de un <b>treap implícito</b>: un árbol binario balanceado
+ * aleatoriamente cuya clave es la posición del elemento en la secuencia.
+ * <p>
+ * Además del valor, cada nodo guarda información agregada de su subárbol que se
+ * mantiene al reestructurar el árbol:
+ * </p>
+ * <ul>
+ *     <li>{@code tamano}: número de nodos del subárbol, usado para traducir índices.</li>
+ *     <li>{@code maximo}: mayor valor del subárbol, usado para búsquedas por umbral.</li>
+ *     <li>{@code invertido}: marca perezosa que indica que el subárbol debe leerse
+ *     en orden inverso; se propaga a los hijos solo cuando se visita el nodo.</li>
+ * </ul>
+ *
+ * @see repository.TreapImplicitoRepositorio
+ */
+public class NodoTreap {
+
+    /**
+     * El valor numérico (la "carga útil" o payload) que almacena el nodo.
+     */
+    private double valor;
+
+    /**
+     * Prioridad aleatoria que determina la forma del árbol (propiedad de montículo).
+     */
+    private final int prioridad;
+
+    /**
+     * Número de nodos del subárbol que tiene a este nodo como raíz.
+     */
+    private int tamano;
+
+    /**
+     * Mayor valor almacenado en el subárbol.
+     */
+    private double maximo;
+
+    /**
+     * Marca perezosa de inversión pendiente de aplicar a los hijos.
+     */
+    private boolean invertido;
+
+    private NodoTreap izquierdo;
+    private NodoTreap derecho;
+
+    /**
+     * Construye un nodo hoja con un valor y una prioridad.
+     *
+     * @param valor     El valor de tipo double que almacenará el nodo.
+     * @param prioridad La prioridad aleatoria del nodo.
+     */
+    public NodoTreap(double valor, int prioridad) {
+        this.valor = valor;
+        this.prioridad = prioridad;
+        this.tamano = 1;
+        this.maximo = valor;
+        this.invertido = false;
+        this.izquierdo = null;
+        this.derecho = null;
+    }
+
+    // --- Getters y Setters ---
+
+    public double getValor() {
+        return valor;
+    }
+
+    public void setValor(double valor) {
+        this.valor = valor;
+    }
+
+    public int getPrioridad() {
+        return prioridad;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    public double getMaximo() {
+        return maximo;
+    }
+
+    public boolean isInvertido() {
+        return invertido;
+    }
+
+    /**
+     * Alterna la marca perezosa de inversión del subárbol.
+     */
+    public void alternarInvertido() {
+        this.invertido = !this.invertido;
+    }
+
+    public NodoTreap getIzquierdo() {
+        return izquierdo;
+    }
+
+    public void setIzquierdo(NodoTreap izquierdo) {
+        this.izquierdo = izquierdo;
+    }
+
+    public NodoTreap getDerecho() {
+        return derecho;
+    }
+
+    public void setDerecho(NodoTreap derecho) {
+        this.derecho = derecho;
+    }
+
+    /**
+     * Aplica la inversión pendiente: intercambia los hijos y traslada la marca a ellos.
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    public void propagarInversion() {
+        if (!invertido) {
+            return;
+        }
+        NodoTreap temp = izquierdo;
+        izquierdo = derecho;
+        derecho = temp;
+        if (izquierdo != null) izquierdo.alternarInvertido();
+        if (derecho != null) derecho.alternarInvertido();
+        invertido = false;
+    }
+
+    /**
+     * Recalcula {@code tamano} y {@code maximo} a partir de los hijos.
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    public void recalcular() {
+        int t = 1;
+        double m = valor;
+        if (izquierdo != null) {
+            t += izquierdo.tamano;
+            m = mayor(m, izquierdo.maximo);
+        }
+        if (derecho != null) {
+            t += derecho.tamano;
+            m = mayor(m, derecho.maximo);
+        }
+        this.tamano = t;
+        this.maximo = m;
+    }
+
+    /**
+     * Devuelve el mayor de dos valores ignorando {@code NaN} siempre que sea posible,
+     * para que un {@code NaN} no oculte valores válidos en las búsquedas por umbral.
+     */
+    private static double mayor(double a, double b) {
+        return (b > a || a != a) ? b : a;
+    }
+}
@@ -4,18 +4,22 @@ import java.util.List;
 
 /**
  * Define un contrato para operaciones complejas aplicables a repositorios
- * implementados como listas enlazadas.
+ * implementados como listas (enlazadas o sobre arrays).
  * <p>
  * Esta interfaz aplica el <b>Principio de Segregación de Interfaces</b>. Separa
  * funcionalidades que no son eficientes o no tienen sentido en todas las
- * estructuras de datos (como un array de tamaño fijo), permitiendo que el
+ * estructuras de datos (como un buffer con hueco), permitiendo que el
  * servicio las invoque de forma segura solo cuando el repositorio subyacente
  * declara su compatibilidad.
  * </p>
  *
  * @see RepositorioVentas#soportaOperacionesAvanzadas()
+ * @see repository.ArrayRepositorio
  * @see repository.ListaSimpleRepositorio
  * @see repository.ListaDobleRepositorio
+ * @see repository.BufferCircularRepositorio
+ * @see repository.ListaDesenrolladaRepositorio
+ * @see repository.TreapImplicitoRepositorio
  */
 public interface OperacionesAvanzadasLista {
 
@@ -0,0 +1,84 @@
+package model;
+
+import java.time.LocalDate;
+
+/**
+ * Define la granularidad temporal de una serie de ventas.
+ * <p>
+ * Cada periodicidad asigna a cada fecha un <b>número de periodo</b> entero y consecutivo
+ * (meses, semanas o días transcurridos desde una referencia fija), de modo que una
+ * serie temporal puede traducir fechas a posiciones con una simple resta.
+ * </p>
+ *
+ * @see repository.SerieTemporalRepositorio
+ */
+public enum Periodicidad {
+    /**
+     * Un periodo por mes natural.
+     */
+    MENSUAL("Mensual"),
+
+    /**
+     * Un periodo por semana ISO (de lunes a domingo).
+     */
+    SEMANAL("Semanal"),
+
+    /**
+     * Un periodo por día.
+     */
+    DIARIA("Diaria");
+
+    /**
+     * El 1970-01-01 (día 0 de la época) fue jueves; sumando 3 días las semanas empiezan en lunes.
+     */
+    private static final int AJUSTE_LUNES = 3;
+
+    private final String displayName;
+
+    Periodicidad(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Devuelve el número de periodo que contiene una fecha.
+     *
+     * @param fecha La fecha a convertir.
+     * @return El número de periodo (puede ser negativo para fechas anteriores a 1970).
+     */
+    public long periodoDe(LocalDate fecha) {
+        switch (this) {
+            case MENSUAL:
+                return fecha.getYear() * 12L + (fecha.getMonthValue() - 1);
+            case SEMANAL:
+                return Math.floorDiv(fecha.toEpochDay() + AJUSTE_LUNES, 7);
+            default:
+                return fecha.toEpochDay();
+        }
+    }
+
+    /**
+     * Devuelve la primera fecha de un periodo; es la operación inversa de {@link #periodoDe(LocalDate)}.
+     *
+     * @param periodo El número de periodo.
+     * @return El primer día del periodo.
+     */
+    public LocalDate inicioDe(long periodo) {
+        switch (this) {
+            case MENSUAL:
+                return LocalDate.of((int) Math.floorDiv(periodo, 12), Math.floorMod(periodo, 12) + 1, 1);
+            case SEMANAL:
+                return LocalDate.ofEpochDay(periodo * 7 - AJUSTE_LUNES);
+            default:
+                return LocalDate.ofEpochDay(periodo);
+        }
+    }
+
+    /**
+     * Devuelve el nombre legible para ser mostrado en la interfaz.
+     * @return El nombre para mostrar en la UI (ej. "Mensual").
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,96 @@
+package model;
+
+/**
+ * Enumeración que define cómo crece el array interno de un repositorio basado en
+ * arrays cuando se queda sin espacio.
+ * <p>
+ * La elección de la política es un compromiso entre memoria y tiempo: un factor
+ * multiplicativo (x2 o x1.5) garantiza inserciones al final en tiempo
+ * <b>O(1) amortizado</b>, mientras que un bloque de tamaño fijo desperdicia menos
+ * memoria a costa de copias más frecuentes (O(n) amortizado por bloque).
+ * </p>
+ *
+ * @see repository.ArrayRepositorio
+ */
+public enum PoliticaCrecimiento {
+    /**
+     * El array no crece: al alcanzar su capacidad, las inserciones fallan.
+     * Es el comportamiento clásico de un array de tamaño fijo.
+     */
+    NINGUNA("Tamaño fijo"),
+
+    /**
+     * La capacidad se duplica en cada redimensionamiento.
+     */
+    DUPLICAR("Duplicar (x2)"),
+
+    /**
+     * La capacidad crece un 50% en cada redimensionamiento (misma estrategia que
+     * {@code java.util.ArrayList}).
+     */
+    FACTOR_1_5("Factor 1.5"),
+
+    /**
+     * La capacidad crece en un número fijo de posiciones en cada redimensionamiento.
+     */
+    BLOQUE_FIJO("Bloque fijo");
+
+    /**
+     * Tamaño máximo de array que la JVM puede reservar de forma segura.
+     */
+    private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - 8;
+
+    /**
+     * El nombre legible de la política, para ser mostrado en la UI.
+     */
+    private final String displayName;
+
+    /**
+     * Constructor privado del enum.
+     * @param displayName El nombre amigable para la interfaz de usuario.
+     */
+    PoliticaCrecimiento(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Calcula la nueva capacidad de un array que necesita alojar al menos
+     * {@code capacidadMinima} elementos.
+     *
+     * @param capacidadActual La longitud actual del array.
+     * @param capacidadMinima El número mínimo de posiciones requeridas.
+     * @param tamanoBloque    El incremento usado por {@link #BLOQUE_FIJO}; se ignora en las demás políticas.
+     * @return La nueva capacidad, siempre mayor o igual a {@code capacidadMinima}.
+     * @throws IllegalStateException si la política es {@link #NINGUNA} o si se excede el tamaño máximo de un array.
+     */
+    public int calcularNuevaCapacidad(int capacidadActual, int capacidadMinima, int tamanoBloque) {
+        if (capacidadMinima < 0 || capacidadMinima > CAPACIDAD_MAXIMA) {
+            throw new IllegalStateException("Se excedió la capacidad máxima de un array.");
+        }
+        long propuesta;
+        switch (this) {
+            case DUPLICAR:
+                propuesta = (long) capacidadActual * 2;
+                break;
+            case FACTOR_1_5:
+                propuesta = (long) capacidadActual + (capacidadActual >> 1);
+                break;
+            case BLOQUE_FIJO:
+                propuesta = (long) capacidadActual + tamanoBloque;
+                break;
+            default:
+                throw new IllegalStateException("La política " + this + " no permite redimensionar el array.");
+        }
+        // Se garantiza el mínimo requerido y se limita al máximo permitido por la JVM.
+        return (int) Math.min(Math.max(propuesta, capacidadMinima), CAPACIDAD_MAXIMA);
+    }
+
+    /**
+     * Devuelve el nombre legible para ser mostrado en la interfaz.
+     * @return El nombre para mostrar en la UI (ej. "Duplicar (x2)").
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
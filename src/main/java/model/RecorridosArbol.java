@@ -0,0 +1,165 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Recorridos de árboles binarios de {@link NodoArbol}
+ * implementados <b>sin recursión</b>, de modo que un árbol degenerado (por ejemplo, de
+ * 100.000 nodos en línea) no provoca un {@link StackOverflowError}.
+ * <p>
+ * In-orden y pre-orden usan el <b>recorrido de Morris</b>: enlazan temporalmente cada
+ * predecesor in-orden con su sucesor para poder volver sin pila, con O(1) de memoria
+ * adicional. Los enlaces se deshacen durante el propio recorrido, así que al terminar el
+ * árbol queda intacto; mientras tanto el árbol <b>no debe leerse ni modificarse</b> desde
+ * otro hilo ni desde la acción. Post-orden usa una pila explícita de O(h) elementos.
+ * </p>
+ *
+ * @see ArbolBusqueda
+ */
+public final class RecorridosArbol {
+
+    private RecorridosArbol() {
+        // Clase de utilidad: no se instancia.
+    }
+
+    /**
+     * Visita los nodos en in-orden (izquierdo, raíz, derecho), es decir, en orden ascendente.
+     * <p><b>Complejidad: O(n)</b> en tiempo y <b>O(1)</b> en memoria adicional.</p>
+     * <p>
+     * Si la acción lanza cualquier {@link Throwable} (también un {@link Error}), el recorrido
+     * continúa sin invocarla hasta deshacer todos los enlaces temporales y después lo relanza.
+     * </p>
+     *
+     * @param raiz   La raíz del árbol (puede ser {@code null}).
+     * @param accion La acción a ejecutar para cada nodo.
+     */
+    public static void inorden(NodoArbol raiz, Consumer<NodoArbol> accion) {
+        Visitador visitador = new Visitador(accion);
+        NodoArbol actual = raiz;
+        while (actual != null) {
+            if (actual.getIzquierdo() == null) {
+                visitador.visitar(actual);
+                actual = actual.getDerecho();
+                continue;
+            }
+            NodoArbol predecesor = predecesorEnlazable(actual);
+            if (predecesor.getDerecho() == null) {
+                predecesor.setDerecho(actual); // Enlace temporal para volver a 'actual'.
+                actual = actual.getIzquierdo();
+            } else {
+                predecesor.setDerecho(null); // Subárbol izquierdo terminado: se deshace el enlace.
+                visitador.visitar(actual);
+                actual = actual.getDerecho();
+            }
+        }
+        visitador.relanzarSiFallo();
+    }
+
+    /**
+     * Visita los nodos en pre-orden (raíz, izquierdo, derecho).
+     * <p><b>Complejidad: O(n)</b> en tiempo y <b>O(1)</b> en memoria adicional.</p>
+     *
+     * @param raiz   La raíz del árbol (puede ser {@code null}).
+     * @param accion La acción a ejecutar para cada nodo.
+     * @see #inorden(NodoArbol, Consumer)
+     */
+    public static void preorden(NodoArbol raiz, Consumer<NodoArbol> accion) {
+        Visitador visitador = new Visitador(accion);
+        NodoArbol actual = raiz;
+        while (actual != null) {
+            if (actual.getIzquierdo() == null) {
+                visitador.visitar(actual);
+                actual = actual.getDerecho();
+                continue;
+            }
+            NodoArbol predecesor = predecesorEnlazable(actual);
+            if (predecesor.getDerecho() == null) {
+                visitador.visitar(actual); // Primera llegada al nodo: se visita antes que sus hijos.
+                predecesor.setDerecho(actual);
+                actual = actual.getIzquierdo();
+            } else {
+                predecesor.setDerecho(null);
+                actual = actual.getDerecho();
+            }
+        }
+        visitador.relanzarSiFallo();
+    }
+
+    /**
+     * Visita los nodos en post-orden (izquierdo, derecho, raíz).
+     * <p><b>Complejidad: O(n)</b> en tiempo y <b>O(h)</b> en memoria (pila explícita).</p>
+     *
+     * @param raiz   La raíz del árbol (puede ser {@code null}).
+     * @param accion La acción a ejecutar para cada nodo.
+     */
+    public static void postorden(NodoArbol raiz, Consumer<NodoArbol> accion) {
+        Deque<NodoArbol> pila = new ArrayDeque<>();
+        NodoArbol actual = raiz;
+        NodoArbol ultimoVisitado = null;
+        while (actual != null || !pila.isEmpty()) {
+            if (actual != null) {
+                pila.push(actual);
+                actual = actual.getIzquierdo();
+                continue;
+            }
+            NodoArbol tope = pila.peek();
+            if (tope.getDerecho() != null && tope.getDerecho() != ultimoVisitado) {
+                actual = tope.getDerecho(); // Falta recorrer el subárbol derecho.
+            } else {
+                accion.accept(tope);
+                ultimoVisitado = pila.pop();
+            }
+        }
+    }
+
+    /**
+     * Devuelve el predecesor in-orden de un nodo con hijo izquierdo: el nodo más a la
+     * derecha de ese subárbol, o el que ya apunta de vuelta a {@code nodo}.
+     */
+    private static NodoArbol predecesorEnlazable(NodoArbol nodo) {
+        NodoArbol predecesor = nodo.getIzquierdo();
+        while (predecesor.getDerecho() != null && predecesor.getDerecho() != nodo) {
+            predecesor = predecesor.getDerecho();
+        }
+        return predecesor;
+    }
+
+    /**
+     * Invoca la acción del recorrido y retiene lo primero que lance, sea excepción o error,
+     * para que el recorrido de Morris pueda terminar de restaurar el árbol antes de propagarlo.
+     */
+    private static final class Visitador {
+        private final Consumer<NodoArbol> accion;
+        private Throwable fallo;
+
+        private Visitador(Consumer<NodoArbol> accion) {
+            this.accion = accion;
+        }
+
+        private void visitar(NodoArbol nodo) {
+            if (fallo != null) {
+                return;
+            }
+            try {
+                accion.accept(nodo);
+            } catch (Throwable t) {
+                fallo = t;
+            }
+        }
+
+        private void relanzarSiFallo() {
+            if (fallo instanceof RuntimeException) {
+                throw (RuntimeException) fallo;
+            }
+            if (fallo instanceof Error) {
+                throw (Error) fallo;
+            }
+            if (fallo != null) {
+                // Solo posible si la acción lanzó una excepción comprobada de forma encubierta.
+                throw new IllegalStateException("La acción del recorrido lanzó una excepción comprobada.", fallo);
+            }
+        }
+    }
+}
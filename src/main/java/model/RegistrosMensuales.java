@@ -0,0 +1,86 @@
+package model;
+
+/**
+ * Define el contrato de un almacén de <b>registros mensuales</b>: pares (venta, objetivo)
+ * que comparten posición.
+ * <p>
+ * Las operaciones estructurales (insertar o eliminar un mes) actúan sobre el registro
+ * completo, de modo que las ventas y los objetivos no pueden quedar desalineados por un
+ * fallo parcial. Para las operaciones que solo afectan a una de las series (leer,
+ * actualizar, invertir, buscar), cada columna se expone como un {@link RepositorioVentas}.
+ * </p>
+ *
+ * @see repository.RegistrosIndependientes
+ * @see repository.RegistrosColumnares
+ */
+public interface RegistrosMensuales {
+
+    /**
+     * Devuelve la vista de la columna de ventas.
+     * @return Un {@link RepositorioVentas} respaldado por este almacén.
+     */
+    RepositorioVentas ventas();
+
+    /**
+     * Devuelve la vista de la columna de objetivos.
+     * @return Un {@link RepositorioVentas} respaldado por este almacén.
+     */
+    RepositorioVentas objetivos();
+
+    /**
+     * Inserta un registro al inicio.
+     * @param venta    El valor de la venta.
+     * @param objetivo El valor del objetivo.
+     * @return {@code true} si el registro se insertó.
+     */
+    boolean agregarAlInicio(double venta, double objetivo);
+
+    /**
+     * Inserta un registro al final.
+     * @param venta    El valor de la venta.
+     * @param objetivo El valor del objetivo.
+     * @return {@code true} si el registro se insertó.
+     */
+    boolean agregarAlFinal(double venta, double objetivo);
+
+    /**
+     * Inserta un registro inmediatamente después de la posición indicada.
+     * @param indice   El índice (base 0) del registro existente.
+     * @param venta    El valor de la venta.
+     * @param objetivo El valor del objetivo.
+     * @return {@code true} si el índice era válido y el registro se insertó.
+     */
+    boolean insertarDespuesDe(int indice, double venta, double objetivo);
+
+    /**
+     * Elimina el registro de la posición indicada.
+     * @param indice El índice (base 0) del registro.
+     * @return {@code true} si el índice era válido y el registro se eliminó.
+     */
+    boolean eliminar(int indice);
+
+    /**
+     * Elimina el primer registro.
+     * @return {@code true} si había al menos un registro.
+     */
+    boolean eliminarAlInicio();
+
+    /**
+     * Elimina el último registro.
+     * @return {@code true} si había al menos un registro.
+     */
+    boolean eliminarAlFinal();
+
+    /**
+     * Elimina en bloque los registros de las posiciones indicadas.
+     * @param indices Los índices (base 0), en orden estrictamente ascendente.
+     * @return El número de registros eliminados.
+     * @see RepositorioVentas#eliminarIndices(int[])
+     */
+    int eliminarIndices(int[] indices);
+
+    /**
+     * @return El número de registros (meses) almacenados.
+     */
+    int tamano();
+}
@@ -1,6 +1,11 @@
 package model;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Define el contrato para una estructura de datos que almacena una colección de valores numéricos.
@@ -66,6 +71,29 @@ public interface RepositorioVentas {
      */
     boolean eliminarAlFinal();
 
+    /**
+     * Elimina en bloque los elementos situados en las posiciones indicadas.
+     * <p>
+     * Equivale a eliminar cada índice por separado, pero las implementaciones lo resuelven
+     * con una única pasada de compactación, de modo que el costo total es O(n) en lugar
+     * de O(k·n). Los índices se refieren a las posiciones <b>antes</b> de eliminar.
+     * </p>
+     * <p>
+     * La implementación por defecto elimina uno a uno, del mayor al menor índice.
+     * </p>
+     *
+     * @param indices Los índices (base 0) a eliminar, en orden estrictamente ascendente.
+     * @return El número de elementos eliminados.
+     * @throws IllegalArgumentException si los índices no son ascendentes o están fuera de rango.
+     */
+    default int eliminarIndices(int[] indices) {
+        validarIndicesAEliminar(indices, tamano());
+        for (int k = indices.length - 1; k >= 0; k--) {
+            eliminar(indices[k]);
+        }
+        return indices.length;
+    }
+
     /**
      * Obtiene el valor almacenado en un índice específico.
      *
@@ -77,11 +105,80 @@ public interface RepositorioVentas {
 
     /**
      * Devuelve una vista de todos los elementos contenidos en el repositorio.
+     * <p>
+     * Cada llamada crea una lista nueva y convierte cada valor a {@code Double}. Para
+     * recorridos frecuentes (ej. refrescos de la UI) se recomiendan las alternativas
+     * primitivas {@link #recorrer(DoubleConsumer)}, {@link #aArray(double[])},
+     * {@link #flujo()} o {@link #cursor()}.
+     * </p>
      *
      * @return Una {@link List} de tipo {@code Double} con todos los valores.
      */
     List<Double> obtenerTodos();
 
+    /**
+     * Aplica una acción a cada valor del repositorio, en orden, sin "boxing".
+     * <p>
+     * La implementación por defecto usa {@link #cursor()}; las implementaciones la
+     * sobrescriben con un recorrido directo sobre su estructura interna.
+     * </p>
+     *
+     * @param accion La acción a ejecutar para cada valor.
+     */
+    default void recorrer(DoubleConsumer accion) {
+        CursorVentas c = cursor();
+        while (c.hasNext()) {
+            accion.accept(c.nextDouble());
+        }
+    }
+
+    /**
+     * Copia todos los valores, en orden, a un array primitivo.
+     * <p>
+     * Si {@code destino} tiene capacidad suficiente, se reutiliza y solo se escriben sus
+     * primeras {@link #tamano()} posiciones; en caso contrario se reserva un array nuevo
+     * del tamaño exacto. Esto permite a quien llama reutilizar el mismo buffer entre
+     * llamadas sucesivas sin generar basura.
+     * </p>
+     *
+     * @param destino El array donde copiar los valores, o {@code null} para reservar uno nuevo.
+     * @return El array que contiene los valores (puede ser {@code destino}).
+     */
+    default double[] aArray(double[] destino) {
+        int n = tamano();
+        double[] resultado = (destino != null && destino.length >= n) ? destino : new double[n];
+        CursorVentas c = cursor();
+        for (int i = 0; i < n; i++) {
+            resultado[i] = c.nextDouble();
+        }
+        return resultado;
+    }
+
+    /**
+     * Devuelve un {@link DoubleStream} secuencial y perezoso sobre los valores del repositorio.
+     * El repositorio no debe modificarse mientras se consume el flujo.
+     *
+     * @return Un flujo primitivo con los valores en orden.
+     */
+    default DoubleStream flujo() {
+        return StreamSupport.doubleStream(
+                Spliterators.spliterator(cursor(), tamano(), Spliterator.ORDERED | Spliterator.SIZED),
+                false);
+    }
+
+    /**
+     * Crea un cursor primitivo y reutilizable situado en el primer elemento.
+     * <p>
+     * La implementación por defecto avanza con {@link #obtener(int)}, adecuada para
+     * estructuras con acceso por índice en O(1); las estructuras enlazadas la sobrescriben.
+     * </p>
+     *
+     * @return Un nuevo {@link CursorVentas}.
+     */
+    default CursorVentas cursor() {
+        return new CursorPorIndice(this);
+    }
+
     /**
      * Devuelve el número total de elementos actualmente almacenados.
      *
@@ -105,7 +202,28 @@ public interface RepositorioVentas {
      * no son eficientes o aplicables a todas las estructuras de datos.
      * </p>
      * @return {@code true} si la implementación soporta dichas operaciones (ej. es una lista),
-     * {@code false} en caso contrario (ej. es un array).
+     * {@code false} en caso contrario (ej. es un buffer con hueco).
      */
     boolean soportaOperacionesAvanzadas();
+
+    /**
+     * Comprueba que un conjunto de índices sea válido para {@link #eliminarIndices(int[])}.
+     * Las implementaciones lo invocan antes de modificar la estructura, de modo que una
+     * entrada inválida no deja el repositorio a medio compactar.
+     *
+     * @param indices Los índices a validar.
+     * @param tamano  El tamaño actual del repositorio.
+     * @throws IllegalArgumentException si los índices no son estrictamente ascendentes o
+     * alguno está fuera del rango {@code [0, tamano)}.
+     */
+    static void validarIndicesAEliminar(int[] indices, int tamano) {
+        int anterior = -1;
+        for (int indice : indices) {
+            if (indice <= anterior || indice >= tamano) {
+                throw new IllegalArgumentException("Los índices a eliminar deben ser ascendentes y estar en el rango [0, "
+                        + tamano + "): " + indice);
+            }
+            anterior = indice;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Encapsula los resultados de una búsqueda detallada en un árbol de búsqueda.
+ * Funciona como un DTO para devolver múltiples datos sobre el nodo encontrado.
+ *
+ * @see ArbolBusqueda#buscarConDetalles(double)
+ */
+public class ResultadoBusqueda {
+    public final NodoArbol nodoEncontrado;
+    public final NodoArbol nodoPadre;
+    public final int nivel; // Nivel del nodo (la raíz es nivel 0).
+    public final String posicion; // "Raíz", "Hijo Izquierdo" o "Hijo Derecho".
+
+    public ResultadoBusqueda(NodoArbol nodoEncontrado, NodoArbol nodoPadre, int nivel, String posicion) {
+        this.nodoEncontrado = nodoEncontrado;
+        this.nodoPadre = nodoPadre;
+        this.nivel = nivel;
+        this.posicion = posicion;
+    }
+}
@@ -18,10 +18,17 @@ public enum TipoRepositorio {
      */
     ARRAY("Array"),
 
+    /**
+     * Representa una implementación basada en un array primitivo que crece
+     * automáticamente al llenarse. Mantiene el acceso aleatorio O(1) y ofrece
+     * inserciones al final en O(1) amortizado, sin límite de capacidad.
+     */
+    ARRAY_DINAMICO("Array Dinámico"),
+
     /**
      * Representa una implementación basada en una lista simplemente enlazada.
-     * Eficiente para inserciones y eliminaciones al inicio (O(1)), pero
-     * ineficiente para acceso aleatorio y operaciones al final (O(n)).
+     * Eficiente para inserciones en ambos extremos y eliminaciones al inicio (O(1)),
+     * pero ineficiente para acceso aleatorio y para eliminar al final (O(n)).
      */
     SIMPLE("Lista Simple"),
 
@@ -30,7 +37,51 @@ public enum TipoRepositorio {
      * Eficiente para operaciones en ambos extremos (inicio y final) (O(1)),
      * pero ineficiente para acceso aleatorio (O(n)).
      */
-    DOBLE("Lista Doble");
+    DOBLE("Lista Doble"),
+
+    /**
+     * Representa una implementación basada en un buffer circular sobre un array
+     * primitivo. Eficiente en ambos extremos (O(1)) y en acceso aleatorio (O(1)),
+     * con inversión lógica en O(1).
+     */
+    CIRCULAR("Buffer Circular"),
+
+    /**
+     * Representa una implementación basada en un buffer con hueco (gap buffer).
+     * Las inserciones y eliminaciones consecutivas cerca de la última posición
+     * editada cuestan O(1) amortizado, y el acceso aleatorio es O(1).
+     */
+    HUECO("Buffer con Hueco"),
+
+    /**
+     * Representa una implementación basada en una lista doblemente enlazada
+     * desenrollada, cuyos nodos almacenan bloques de valores en arrays primitivos.
+     * Reduce el consumo de memoria por elemento y acelera los recorridos, con
+     * acceso por índice en O(n/B).
+     */
+    DESENROLLADA("Lista Desenrollada"),
+
+    /**
+     * Representa una implementación basada en un treap implícito (árbol balanceado
+     * indexado por posición). Acceso, inserción y eliminación por índice en
+     * O(log n) esperado, e inversión en O(1).
+     */
+    TREAP("Treap Implícito"),
+
+    /**
+     * Representa un almacén columnar de registros mensuales: ventas y objetivos en
+     * dos arrays primitivos alineados. Acceso por índice O(1) y cada inserción o
+     * eliminación de un mes desplaza ambas columnas a la vez, sin riesgo de desalineación.
+     */
+    COLUMNAR("Registros Columnares"),
+
+    /**
+     * Representa una serie temporal indexada por periodo y almacenada en bloques de
+     * arrays primitivos con agregados precalculados por bloque. Acceso por índice O(1),
+     * inserción al final O(1) amortizado y consultas de suma, promedio, mínimo y máximo
+     * por rango en O(B + log n), con un árbol de segmentos sobre los bloques completos.
+     */
+    SERIE_TEMPORAL("Serie Temporal");
 
     /**
      * El nombre legible del tipo de repositorio, para ser mostrado en la UI.
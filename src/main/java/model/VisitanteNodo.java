@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Acción que recibe el contenido de un nodo de árbol durante un recorrido: su valor y
+ * su frecuencia, como tipos primitivos y sin formatear.
+ * <p>
+ * Permite consumir los recorridos de {@link ArbolBusqueda} sin crear objetos ni cadenas
+ * por nodo; el formato para mostrar los datos queda a cargo de quien los presenta.
+ * </p>
+ */
+@FunctionalInterface
+public interface VisitanteNodo {
+
+    /**
+     * Procesa un nodo del recorrido.
+     *
+     * @param valor      El valor almacenado en el nodo.
+     * @param frecuencia Las veces que se insertó ese valor (al menos 1).
+     */
+    void visitar(double valor, int frecuencia);
+}
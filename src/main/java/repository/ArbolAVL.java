@@ -0,0 +1,213 @@
+package repository;
+
+import model.ArbolBusqueda;
+import model.NodoArbol;
+
+/**
+ * Implementación de un <b>árbol AVL</b>: un árbol binario de búsqueda autobalanceado.
+ * <p>
+ * Tras cada inserción o eliminación se recalculan las alturas del camino recorrido y se
+ * aplican rotaciones para que, en todo nodo, las alturas de sus dos subárboles difieran
+ * como máximo en uno. Así la altura nunca supera ~1.44·log2(n) y la búsqueda, la
+ * inserción y la eliminación cuestan <b>O(log n)</b> en el peor caso, incluso si los
+ * valores llegan ordenados (el caso típico de una serie de ventas). Por el mismo motivo
+ * la recursión de inserción y eliminación es poco profunda.
+ * </p>
+ * <p>
+ * Como {@link ArbolBinarioBusqueda}, los duplicados incrementan la frecuencia del nodo
+ * existente. Al eliminar un nodo con dos hijos, su sucesor in-orden se desengancha y ocupa
+ * su lugar: no se crean nodos nuevos y el sucesor conserva su frecuencia.
+ * </p>
+ * <p>
+ * Junto con la altura, cada nodo del camino recalcula su peso, de modo que las consultas
+ * de orden de {@link ArbolBusqueda} (como {@link #percentil(double)}) cuestan O(log n).
+ * </p>
+ */
+public class ArbolAVL implements ArbolBusqueda {
+
+    private NodoArbol raiz;
+
+    public ArbolAVL() {
+        this.raiz = null;
+    }
+
+    /**
+     * Construye el árbol sobre una raíz ya balanceada, con alturas y pesos calculados.
+     */
+    ArbolAVL(NodoArbol raiz) {
+        this.raiz = raiz;
+    }
+
+    //region API Pública
+    @Override
+    public NodoArbol obtenerRaiz() {
+        return this.raiz;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b></p>
+     */
+    @Override
+    public void insertar(double valor) {
+        if (Double.isNaN(valor)) {
+            throw new IllegalArgumentException("El árbol no admite valores NaN."); // No tendría posición en el orden.
+        }
+        raiz = insertarRecursivo(raiz, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> - Una búsqueda para confirmar que el valor existe y un
+     * descenso para eliminarlo y rebalancear.</p>
+     */
+    @Override
+    public boolean eliminar(double valor) {
+        if (buscarConDetalles(valor) == null) {
+            return false;
+        }
+        raiz = eliminarRecursivo(raiz, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>El árbol resultante queda perfectamente balanceado, aunque los valores lleguen ordenados.</p>
+     */
+    @Override
+    public void cargar(double[] valores, int cantidad) {
+        raiz = ConstruccionArbol.construirBalanceado(valores, cantidad);
+    }
+    //endregion
+
+    //region Implementaciones Recursivas
+    private NodoArbol insertarRecursivo(NodoArbol nodo, double valor) {
+        if (nodo == null) {
+            return new NodoArbol(valor);
+        }
+
+        if (valor < nodo.getValor()) {
+            nodo.setIzquierdo(insertarRecursivo(nodo.getIzquierdo(), valor));
+        } else if (valor > nodo.getValor()) {
+            nodo.setDerecho(insertarRecursivo(nodo.getDerecho(), valor));
+        } else {
+            // El valor ya existe: la forma del árbol no cambia (los ancestros actualizan su peso).
+            nodo.incrementarFrecuencia();
+            return nodo;
+        }
+        return balancear(nodo);
+    }
+
+    /**
+     * Elimina el nodo con el valor indicado, que debe existir en el subárbol.
+     */
+    private NodoArbol eliminarRecursivo(NodoArbol nodo, double valor) {
+        if (valor < nodo.getValor()) {
+            nodo.setIzquierdo(eliminarRecursivo(nodo.getIzquierdo(), valor));
+            return balancear(nodo);
+        }
+        if (valor > nodo.getValor()) {
+            nodo.setDerecho(eliminarRecursivo(nodo.getDerecho(), valor));
+            return balancear(nodo);
+        }
+
+        // Nodo encontrado. Con uno o ningún hijo, el hijo (o null) ocupa su lugar.
+        if (nodo.getIzquierdo() == null) {
+            return nodo.getDerecho();
+        }
+        if (nodo.getDerecho() == null) {
+            return nodo.getIzquierdo();
+        }
+        // Con dos hijos, el sucesor in-orden se desengancha y hereda ambos subárboles.
+        NodoArbol sucesor = minimo(nodo.getDerecho());
+        sucesor.setDerecho(quitarMinimo(nodo.getDerecho()));
+        sucesor.setIzquierdo(nodo.getIzquierdo());
+        return balancear(sucesor);
+    }
+
+    /**
+     * Desengancha el nodo mínimo de un subárbol (su hijo derecho ocupa su lugar) y
+     * rebalancea el camino.
+     * @return La nueva raíz del subárbol.
+     */
+    private NodoArbol quitarMinimo(NodoArbol nodo) {
+        if (nodo.getIzquierdo() == null) {
+            return nodo.getDerecho();
+        }
+        nodo.setIzquierdo(quitarMinimo(nodo.getIzquierdo()));
+        return balancear(nodo);
+    }
+    //endregion
+
+    //region Balanceo
+    /**
+     * Actualiza la altura y el peso de un nodo cuyos hijos ya están balanceados y, si su factor de
+     * balance sale de [-1, 1], aplica la rotación simple o doble que corresponda.
+     * @return La nueva raíz del subárbol.
+     */
+    private NodoArbol balancear(NodoArbol nodo) {
+        actualizarMetricas(nodo);
+        int balance = factorBalance(nodo);
+        if (balance > 1) {
+            if (factorBalance(nodo.getIzquierdo()) < 0) {
+                nodo.setIzquierdo(rotarIzquierda(nodo.getIzquierdo())); // Caso izquierda-derecha.
+            }
+            return rotarDerecha(nodo);
+        }
+        if (balance < -1) {
+            if (factorBalance(nodo.getDerecho()) > 0) {
+                nodo.setDerecho(rotarDerecha(nodo.getDerecho())); // Caso derecha-izquierda.
+            }
+            return rotarIzquierda(nodo);
+        }
+        return nodo;
+    }
+
+    private NodoArbol rotarDerecha(NodoArbol nodo) {
+        NodoArbol nuevaRaiz = nodo.getIzquierdo();
+        nodo.setIzquierdo(nuevaRaiz.getDerecho());
+        nuevaRaiz.setDerecho(nodo);
+        actualizarMetricas(nodo);
+        actualizarMetricas(nuevaRaiz);
+        return nuevaRaiz;
+    }
+
+    private NodoArbol rotarIzquierda(NodoArbol nodo) {
+        NodoArbol nuevaRaiz = nodo.getDerecho();
+        nodo.setDerecho(nuevaRaiz.getIzquierdo());
+        nuevaRaiz.setIzquierdo(nodo);
+        actualizarMetricas(nodo);
+        actualizarMetricas(nuevaRaiz);
+        return nuevaRaiz;
+    }
+    //endregion
+
+    //region Métodos de Ayuda
+    private static int altura(NodoArbol nodo) {
+        return nodo == null ? 0 : nodo.getAltura();
+    }
+
+    private static int factorBalance(NodoArbol nodo) {
+        return altura(nodo.getIzquierdo()) - altura(nodo.getDerecho());
+    }
+
+    private static int peso(NodoArbol nodo) {
+        return nodo == null ? 0 : nodo.getPeso();
+    }
+
+    /**
+     * Recalcula la altura y el peso de un nodo a partir de los de sus hijos.
+     */
+    private static void actualizarMetricas(NodoArbol nodo) {
+        nodo.setAltura(1 + Math.max(altura(nodo.getIzquierdo()), altura(nodo.getDerecho())));
+        nodo.setPeso(nodo.getFrecuencia() + peso(nodo.getIzquierdo()) + peso(nodo.getDerecho()));
+    }
+
+    private static NodoArbol minimo(NodoArbol nodo) {
+        while (nodo.getIzquierdo() != null) {
+            nodo = nodo.getIzquierdo();
+        }
+        return nodo;
+    }
+    //endregion
+}
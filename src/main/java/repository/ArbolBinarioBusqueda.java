@@ -1,10 +1,8 @@
 package repository;
 
+import model.ArbolBusqueda;
 import model.NodoArbol;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Implementación de un Árbol Binario de Búsqueda (ABB).
  * <p>
@@ -13,214 +11,150 @@ import java.util.List;
  * de O(log n)). Esta implementación maneja valores duplicados incrementando un
  * contador de frecuencia en el nodo existente, en lugar de insertar nodos repetidos.
  * </p>
+ * <p>
+ * El árbol no se balancea: si los valores llegan ordenados, degenera en una lista y las
+ * operaciones pasan a costar O(n). Para datos en serie conviene {@link ArbolAVL}.
+ * Aun así, la inserción y la eliminación son <b>iterativas</b>: un árbol degenerado de
+ * cientos de miles de nodos es lento, pero no agota la pila de la JVM.
+ * </p>
+ * <p>
+ * Las operaciones no usan más estado que la raíz y el resultado de cada una se devuelve
+ * directamente, sin campos auxiliares: instancias distintas pueden usarse desde hilos
+ * distintos sin interferir (una misma instancia sigue requiriendo acceso exclusivo).
+ * </p>
  */
-public class ArbolBinarioBusqueda {
+public class ArbolBinarioBusqueda implements ArbolBusqueda {
 
     private NodoArbol raiz;
-    private boolean eliminacionExitosa; // Flag para rastrear el resultado de la eliminación recursiva.
 
     public ArbolBinarioBusqueda() {
         this.raiz = null;
     }
 
-    /**
-     * Clase interna estática que encapsula los resultados de una búsqueda detallada.
-     * Funciona como un DTO para devolver múltiples datos sobre el nodo encontrado.
-     */
-    public static class ResultadoBusqueda {
-        public final NodoArbol nodoEncontrado;
-        public final NodoArbol nodoPadre;
-        public final int nivel; // Nivel del nodo (la raíz es nivel 0).
-        public final String posicion; // "Raíz", "Hijo Izquierdo" o "Hijo Derecho".
-
-        public ResultadoBusqueda(NodoArbol nodoEncontrado, NodoArbol nodoPadre, int nivel, String posicion) {
-            this.nodoEncontrado = nodoEncontrado;
-            this.nodoPadre = nodoPadre;
-            this.nivel = nivel;
-            this.posicion = posicion;
-        }
-    }
-
     //region API Pública
+    @Override
     public NodoArbol obtenerRaiz() {
         return this.raiz;
     }
 
-    public boolean estaVacio() {
-        return raiz == null;
-    }
-
     /**
-     * Punto de entrada público para insertar un nuevo valor en el árbol.
+     * Inserta un nuevo valor en el árbol descendiendo desde la raíz sin recursión y
+     * actualizando el peso de cada nodo del camino.
+     * <p><b>Complejidad: O(h)</b> en tiempo y O(1) en memoria adicional.</p>
      * @param valor El valor a insertar.
+     * @throws IllegalArgumentException si el valor es {@code NaN}.
      */
+    @Override
     public void insertar(double valor) {
-        raiz = insertarRecursivo(raiz, valor);
-    }
-
-    /**
-     * Realiza un recorrido In-Orden del árbol (Izquierdo, Raíz, Derecho),
-     * lo que resulta en una lista ordenada de los valores.
-     * @return Una lista de strings representando los nodos en orden ascendente.
-     */
-    public List<String> recorridoInorden() {
-        List<String> resultado = new ArrayList<>();
-        inordenRecursivo(raiz, resultado);
-        return resultado;
-    }
-
-    /**
-     * Realiza un recorrido Pre-Orden del árbol (Raíz, Izquierdo, Derecho).
-     * @return Una lista de strings representando los nodos en pre-orden.
-     */
-    public List<String> recorridoPreorden() {
-        List<String> resultado = new ArrayList<>();
-        preordenRecursivo(raiz, resultado);
-        return resultado;
-    }
-
-    /**
-     * Realiza un recorrido Post-Orden del árbol (Izquierdo, Derecho, Raíz).
-     * @return Una lista de strings representando los nodos en post-orden.
-     */
-    public List<String> recorridoPostorden() {
-        List<String> resultado = new ArrayList<>();
-        postordenRecursivo(raiz, resultado);
-        return resultado;
-    }
-
-    /**
-     * Busca un nodo en el árbol y devuelve un objeto con detalles sobre su posición y contexto.
-     * @param valor El valor a buscar.
-     * @return Un objeto {@link ResultadoBusqueda} si se encuentra, o {@code null} si no.
-     */
-    public ResultadoBusqueda buscarConDetalles(double valor) {
+        if (Double.isNaN(valor)) {
+            throw new IllegalArgumentException("El árbol no admite valores NaN."); // No tendría posición en el orden.
+        }
+        if (raiz == null) {
+            raiz = new NodoArbol(valor);
+            return;
+        }
         NodoArbol actual = raiz;
-        NodoArbol padre = null;
-        int nivel = 0;
-
-        while (actual != null) {
+        while (true) {
             if (valor == actual.getValor()) {
-                String posicion = (padre == null) ? "Raíz del árbol"
-                        : (padre.getIzquierdo() == actual ? "Hijo Izquierdo" : "Hijo Derecho");
-                return new ResultadoBusqueda(actual, padre, nivel, posicion);
+                // El valor ya existe, se incrementa la frecuencia en lugar de insertar un duplicado.
+                actual.incrementarFrecuencia();
+                return;
             }
-
-            padre = actual;
+            actual.setPeso(actual.getPeso() + 1); // El nuevo valor queda en este subárbol.
             if (valor < actual.getValor()) {
+                if (actual.getIzquierdo() == null) {
+                    actual.setIzquierdo(new NodoArbol(valor));
+                    return;
+                }
                 actual = actual.getIzquierdo();
             } else {
+                if (actual.getDerecho() == null) {
+                    actual.setDerecho(new NodoArbol(valor));
+                    return;
+                }
                 actual = actual.getDerecho();
             }
-            nivel++;
         }
-        return null; // El valor no se encontró.
     }
 
     /**
-     * Punto de entrada público para eliminar un valor del árbol.
+     * Elimina un valor del árbol, con todas sus apariciones, sin recursión.
+     * <p><b>Complejidad: O(h)</b> en tiempo y O(1) en memoria adicional.</p>
+     * <p>
+     * Si el nodo tiene dos hijos, su sucesor in-orden se desengancha y se coloca en su
+     * lugar en el mismo descenso, conservando el nodo (y su frecuencia) en vez de copiar
+     * su valor en uno nuevo. Para quitar una sola aparición, ver
+     * {@link #eliminarUnaAparicion(double)}.
+     * </p>
      * @param valor El valor a eliminar.
      * @return {@code true} si el valor fue encontrado y eliminado, {@code false} en caso contrario.
      */
+    @Override
     public boolean eliminar(double valor) {
-        eliminacionExitosa = false; // Resetea el flag antes de la operación.
-        raiz = eliminarRecursivo(raiz, valor);
-        return eliminacionExitosa;
-    }
-    //endregion
-
-    //region Implementaciones Recursivas
-    private NodoArbol insertarRecursivo(NodoArbol nodo, double valor) {
+        // Busca el nodo a eliminar junto con su padre.
+        NodoArbol padre = null;
+        NodoArbol nodo = raiz;
+        while (nodo != null && valor != nodo.getValor()) {
+            padre = nodo;
+            nodo = (valor < nodo.getValor()) ? nodo.getIzquierdo() : nodo.getDerecho();
+        }
         if (nodo == null) {
-            return new NodoArbol(valor);
+            return false; // El valor no está en el árbol.
         }
 
-        if (valor < nodo.getValor()) {
-            nodo.setIzquierdo(insertarRecursivo(nodo.getIzquierdo(), valor));
-        } else if (valor > nodo.getValor()) {
-            nodo.setDerecho(insertarRecursivo(nodo.getDerecho(), valor));
-        } else {
-            // El valor ya existe, se incrementa la frecuencia en lugar de insertar un duplicado.
-            nodo.incrementarFrecuencia();
+        // Los ancestros pierden todas las apariciones del valor.
+        for (NodoArbol ancestro = raiz; ancestro != nodo; ) {
+            ancestro.setPeso(ancestro.getPeso() - nodo.getFrecuencia());
+            ancestro = (valor < ancestro.getValor()) ? ancestro.getIzquierdo() : ancestro.getDerecho();
         }
-        return nodo;
-    }
 
-    private NodoArbol eliminarRecursivo(NodoArbol nodo, double valor) {
-        if (nodo == null) {
-            return null; // El valor no está en el árbol.
-        }
-
-        // Busca el nodo a eliminar.
-        if (valor < nodo.getValor()) {
-            nodo.setIzquierdo(eliminarRecursivo(nodo.getIzquierdo(), valor));
-        } else if (valor > nodo.getValor()) {
-            nodo.setDerecho(eliminarRecursivo(nodo.getDerecho(), valor));
+        NodoArbol reemplazo;
+        if (nodo.getIzquierdo() == null) {
+            // Caso 1 y 2: hoja o solo hijo derecho.
+            reemplazo = nodo.getDerecho();
+        } else if (nodo.getDerecho() == null) {
+            // Caso 2: solo hijo izquierdo.
+            reemplazo = nodo.getIzquierdo();
         } else {
-            // Nodo encontrado.
-            eliminacionExitosa = true;
-
-            // Caso 1: El nodo es una hoja (sin hijos).
-            if (nodo.getIzquierdo() == null && nodo.getDerecho() == null) {
-                return null;
+            // Caso 3: dos hijos. El sucesor in-orden (el menor del subárbol derecho) ocupa su lugar.
+            NodoArbol padreSucesor = nodo;
+            NodoArbol sucesor = nodo.getDerecho();
+            while (sucesor.getIzquierdo() != null) {
+                padreSucesor = sucesor;
+                sucesor = sucesor.getIzquierdo();
             }
-            // Caso 2: El nodo tiene un solo hijo.
-            if (nodo.getDerecho() == null) {
-                return nodo.getIzquierdo();
+            // El camino hasta el sucesor deja de contenerlo.
+            for (NodoArbol paso = nodo.getDerecho(); paso != sucesor; paso = paso.getIzquierdo()) {
+                paso.setPeso(paso.getPeso() - sucesor.getFrecuencia());
             }
-            if (nodo.getIzquierdo() == null) {
-                return nodo.getDerecho();
+            sucesor.setPeso(nodo.getPeso() - nodo.getFrecuencia());
+            if (padreSucesor != nodo) {
+                padreSucesor.setIzquierdo(sucesor.getDerecho());
+                sucesor.setDerecho(nodo.getDerecho());
             }
-            // Caso 3: El nodo tiene dos hijos.
-            // Se busca el sucesor in-orden (el menor valor en el subárbol derecho).
-            NodoArbol sucesor = encontrarSucesor(nodo.getDerecho());
-            // Se crea un nuevo nodo con el valor del sucesor para reemplazar el nodo actual.
-            NodoArbol nuevoNodo = new NodoArbol(sucesor.getValor());
-            nuevoNodo.setIzquierdo(nodo.getIzquierdo());
-            // Se elimina el sucesor de su posición original en el subárbol derecho.
-            nuevoNodo.setDerecho(eliminarRecursivo(nodo.getDerecho(), sucesor.getValor()));
-            return nuevoNodo;
+            sucesor.setIzquierdo(nodo.getIzquierdo());
+            reemplazo = sucesor;
         }
-        return nodo;
-    }
-
-    private void inordenRecursivo(NodoArbol nodo, List<String> resultado) {
-        if (nodo != null) {
-            inordenRecursivo(nodo.getIzquierdo(), resultado);
-            resultado.add(nodo.getValor() + " (frec: " + nodo.getFrecuencia() + ")");
-            inordenRecursivo(nodo.getDerecho(), resultado);
-        }
-    }
 
-    private void preordenRecursivo(NodoArbol nodo, List<String> resultado) {
-        if (nodo != null) {
-            resultado.add(nodo.getValor() + " (frec: " + nodo.getFrecuencia() + ")");
-            preordenRecursivo(nodo.getIzquierdo(), resultado);
-            preordenRecursivo(nodo.getDerecho(), resultado);
-        }
-    }
-
-    private void postordenRecursivo(NodoArbol nodo, List<String> resultado) {
-        if (nodo != null) {
-            postordenRecursivo(nodo.getIzquierdo(), resultado);
-            postordenRecursivo(nodo.getDerecho(), resultado);
-            resultado.add(nodo.getValor() + " (frec: " + nodo.getFrecuencia() + ")");
+        if (padre == null) {
+            raiz = reemplazo;
+        } else if (padre.getIzquierdo() == nodo) {
+            padre.setIzquierdo(reemplazo);
+        } else {
+            padre.setDerecho(reemplazo);
         }
+        nodo.setIzquierdo(null);
+        nodo.setDerecho(null);
+        return true;
     }
-    //endregion
 
-    //region Métodos de Ayuda
     /**
-     * Encuentra el sucesor in-orden de un nodo (el nodo con el menor valor
-     * en un subárbol), que siempre se encuentra en el extremo izquierdo del subárbol.
-     * @param nodo Raíz del subárbol derecho donde buscar.
-     * @return El nodo sucesor.
+     * {@inheritDoc}
+     * <p>El árbol resultante queda perfectamente balanceado, aunque los valores lleguen ordenados.</p>
      */
-    private NodoArbol encontrarSucesor(NodoArbol nodo) {
-        while (nodo.getIzquierdo() != null) {
-            nodo = nodo.getIzquierdo();
-        }
-        return nodo;
+    @Override
+    public void cargar(double[] valores, int cantidad) {
+        raiz = ConstruccionArbol.construirBalanceado(valores, cantidad);
     }
     //endregion
 }
@@ -0,0 +1,281 @@
+package repository;
+
+import model.ArbolBusqueda;
+import model.VisitanteNodo;
+
+import java.util.Arrays;
+
+/**
+ * Instantánea inmutable de un árbol de búsqueda, pensada para el análisis de solo lectura
+ * una vez generado el árbol.
+ * <p>
+ * Guarda los valores distintos y sus frecuencias en dos arrays primitivos paralelos con la
+ * <b>disposición de Eytzinger</b>: el árbol completo se almacena por niveles (en anchura),
+ * con la raíz en la posición 1 y los hijos de {@code k} en {@code 2k} y {@code 2k + 1}. Una
+ * búsqueda recorre el array de forma contigua en lugar de saltar entre objetos
+ * {@link model.NodoArbol} dispersos por la memoria, y los primeros niveles, los más
+ * visitados, comparten líneas de caché.
+ * </p>
+ * <p>
+ * El descenso no bifurca según el dato: cada paso calcula el hijo como
+ * {@code 2k + (valor < x ? 1 : 0)} y la posición buscada se recupera al final con
+ * aritmética de bits. Todas las consultas cuestan <b>O(log n)</b>.
+ * </p>
+ * <p>
+ * Se obtiene con {@link #desde(ArbolBusqueda)} y se convierte de nuevo en un árbol
+ * modificable con {@link #aArbolAVL()}. Los cambios posteriores en el árbol de origen no
+ * se reflejan en la instantánea.
+ * </p>
+ */
+public final class ArbolCongelado {
+
+    /**
+     * Valores distintos en disposición de Eytzinger; la posición 0 no se usa.
+     */
+    private final double[] valores;
+    private final int[] frecuencias;
+    private final int distintos;
+    private final int cantidadTotal;
+
+    private ArbolCongelado(double[] valores, int[] frecuencias, int distintos, int cantidadTotal) {
+        this.valores = valores;
+        this.frecuencias = frecuencias;
+        this.distintos = distintos;
+        this.cantidadTotal = cantidadTotal;
+    }
+
+    //region Conversión
+    /**
+     * Crea la instantánea de un árbol con un recorrido in-orden.
+     * <p><b>Complejidad: O(n)</b></p>
+     *
+     * @param arbol El árbol de origen (no se modifica).
+     * @return La instantánea.
+     */
+    public static ArbolCongelado desde(ArbolBusqueda arbol) {
+        Acumulador ordenados = new Acumulador();
+        arbol.visitarInorden(ordenados);
+
+        int n = ordenados.cantidad;
+        double[] valores = new double[n + 1];
+        int[] frecuencias = new int[n + 1];
+        // Una pasada in-orden por las posiciones implícitas coloca los valores ordenados.
+        int siguiente = 0;
+        for (int k = primeraInorden(n); k != 0; k = sucesorInorden(k, n)) {
+            valores[k] = ordenados.valores[siguiente];
+            frecuencias[k] = ordenados.frecuencias[siguiente];
+            siguiente++;
+        }
+        return new ArbolCongelado(valores, frecuencias, n, ordenados.total);
+    }
+
+    /**
+     * Reconstruye un árbol AVL modificable, perfectamente balanceado, con el contenido
+     * de la instantánea.
+     * <p><b>Complejidad: O(n)</b></p>
+     *
+     * @return Un árbol nuevo e independiente de la instantánea.
+     */
+    public ArbolAVL aArbolAVL() {
+        double[] ordenados = new double[distintos];
+        int[] frecuenciasOrdenadas = new int[distintos];
+        int i = 0;
+        for (int k = primeraInorden(distintos); k != 0; k = sucesorInorden(k, distintos)) {
+            ordenados[i] = valores[k];
+            frecuenciasOrdenadas[i] = frecuencias[k];
+            i++;
+        }
+        return new ArbolAVL(ConstruccionArbol.construirDesdeAgrupados(ordenados, frecuenciasOrdenadas, distintos));
+    }
+    //endregion
+
+    //region Consultas
+    /**
+     * @return La cantidad de valores distintos.
+     */
+    public int cantidadDistintos() {
+        return distintos;
+    }
+
+    /**
+     * @return La cantidad total de valores, contando frecuencias.
+     */
+    public int cantidadTotal() {
+        return cantidadTotal;
+    }
+
+    /**
+     * Devuelve cuántas veces aparece un valor.
+     * <p><b>Complejidad: O(log n)</b></p>
+     *
+     * @param valor El valor a buscar.
+     * @return Su frecuencia, o 0 si no está.
+     */
+    public int frecuencia(double valor) {
+        int k = posicionTecho(valor);
+        return (k != 0 && valores[k] == valor) ? frecuencias[k] : 0;
+    }
+
+    /**
+     * @param valor El valor a buscar.
+     * @return {@code true} si el valor está en la instantánea.
+     */
+    public boolean contiene(double valor) {
+        return frecuencia(valor) > 0;
+    }
+
+    /**
+     * Devuelve el menor valor mayor o igual que el indicado.
+     * <p><b>Complejidad: O(log n)</b></p>
+     *
+     * @param valor El valor de referencia.
+     * @return El valor encontrado, o {@code NaN} si todos son menores.
+     */
+    public double techo(double valor) {
+        int k = posicionTecho(valor);
+        return k == 0 ? Double.NaN : valores[k];
+    }
+
+    /**
+     * Devuelve el mayor valor menor o igual que el indicado.
+     * <p><b>Complejidad: O(log n)</b></p>
+     *
+     * @param valor El valor de referencia.
+     * @return El valor encontrado, o {@code NaN} si todos son mayores.
+     */
+    public double piso(double valor) {
+        int k = posicionTecho(valor);
+        if (k != 0 && valores[k] == valor) {
+            return valor;
+        }
+        // El piso es el predecesor in-orden del techo (o el máximo, si no hay techo).
+        int p = (k == 0) ? ultimaInorden(distintos) : predecesorInorden(k, distintos);
+        return p == 0 ? Double.NaN : valores[p];
+    }
+
+    /**
+     * Entrega cada valor con su frecuencia en orden ascendente.
+     * <p><b>Complejidad: O(n)</b> en tiempo y O(1) en memoria adicional.</p>
+     *
+     * @param visitante El visitante que recibe cada valor.
+     */
+    public void visitarInorden(VisitanteNodo visitante) {
+        for (int k = primeraInorden(distintos); k != 0; k = sucesorInorden(k, distintos)) {
+            visitante.visitar(valores[k], frecuencias[k]);
+        }
+    }
+
+    /**
+     * Entrega en orden ascendente cada valor del intervalo {@code [desde, hasta]} con su
+     * frecuencia. Localiza el techo de {@code desde} y avanza por sucesores in-orden.
+     * <p><b>Complejidad: O(log n + k)</b>, siendo k la cantidad de valores del intervalo.</p>
+     *
+     * @param desde     Límite inferior (inclusivo).
+     * @param hasta     Límite superior (inclusivo).
+     * @param visitante El visitante que recibe cada valor.
+     */
+    public void visitarRango(double desde, double hasta, VisitanteNodo visitante) {
+        for (int k = posicionTecho(desde); k != 0 && valores[k] <= hasta; k = sucesorInorden(k, distintos)) {
+            visitante.visitar(valores[k], frecuencias[k]);
+        }
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Posición del menor valor mayor o igual que {@code x}, o 0 si no existe.
+     * <p>
+     * Desciende hasta salir del árbol acumulando en {@code k} las decisiones como bits
+     * (1 = derecha). La última vez que se fue a la izquierda fue en el techo; se recupera
+     * quitando los 1 finales y un bit más.
+     * </p>
+     */
+    private int posicionTecho(double x) {
+        if (x != x) {
+            return 0; // NaN no se compara con nada.
+        }
+        int k = 1;
+        while (k <= distintos) {
+            k = 2 * k + (valores[k] < x ? 1 : 0);
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Posición in-orden inicial (el mínimo): el extremo izquierdo del árbol implícito.
+     */
+    private static int primeraInorden(int n) {
+        if (n == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k <= n) {
+            k = 2 * k;
+        }
+        return k;
+    }
+
+    private static int ultimaInorden(int n) {
+        if (n == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k + 1 <= n) {
+            k = 2 * k + 1;
+        }
+        return k;
+    }
+
+    /**
+     * Sucesor in-orden en el árbol implícito de {@code n} posiciones, o 0 si {@code k} es el último.
+     */
+    private static int sucesorInorden(int k, int n) {
+        if (2 * k + 1 <= n) {
+            k = 2 * k + 1; // El mínimo del subárbol derecho.
+            while (2 * k <= n) {
+                k = 2 * k;
+            }
+            return k;
+        }
+        // Sube mientras venga de un hijo derecho, y una vez más.
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Predecesor in-orden en el árbol implícito de {@code n} posiciones, o 0 si {@code k} es el primero.
+     */
+    private static int predecesorInorden(int k, int n) {
+        if (2 * k <= n) {
+            k = 2 * k; // El máximo del subárbol izquierdo.
+            while (2 * k + 1 <= n) {
+                k = 2 * k + 1;
+            }
+            return k;
+        }
+        // Sube mientras venga de un hijo izquierdo, y una vez más.
+        return k >>> (Integer.numberOfTrailingZeros(k) + 1);
+    }
+
+    /**
+     * Recoge un recorrido in-orden en arrays primitivos que crecen al doble.
+     */
+    private static final class Acumulador implements VisitanteNodo {
+        private double[] valores = new double[16];
+        private int[] frecuencias = new int[16];
+        private int cantidad;
+        private int total;
+
+        @Override
+        public void visitar(double valor, int frecuencia) {
+            if (cantidad == valores.length) {
+                valores = Arrays.copyOf(valores, cantidad * 2);
+                frecuencias = Arrays.copyOf(frecuencias, cantidad * 2);
+            }
+            valores[cantidad] = valor;
+            frecuencias[cantidad] = frecuencia;
+            cantidad++;
+            total += frecuencia;
+        }
+    }
+    //endregion
+}
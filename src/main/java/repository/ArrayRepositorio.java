@@ -1,31 +1,58 @@
 package repository;
 
+import model.OperacionesAvanzadasLista;
+import model.PoliticaCrecimiento;
 import model.RepositorioVentas;
+import util.BuscadorListaUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
 
 /**
- * Implementa la interfaz {@link RepositorioVentas} utilizando un <b>array de tamaño fijo</b>
- * como estructura de datos subyacente.
+ * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
+ * utilizando un <b>array primitivo</b> ({@code double[]}) como estructura de datos subyacente.
  * <p>
  * Esta implementación es eficiente para el acceso a datos por índice (O(1)), pero
  * es ineficiente para operaciones de inserción o eliminación al principio o en medio
  * de la colección, ya que requieren el desplazamiento de elementos (O(n)).
  * </p>
+ * <p>
+ * Por defecto el array es de <b>tamaño fijo</b>. Si se construye con una
+ * {@link PoliticaCrecimiento} distinta de {@code NINGUNA}, el array se redimensiona
+ * automáticamente al llenarse, ofreciendo inserciones al final en O(1) amortizado
+ * sin perder el almacenamiento primitivo (no hay "boxing" de los valores).
+ * </p>
  */
-public class ArrayRepositorio implements RepositorioVentas {
+public class ArrayRepositorio implements RepositorioVentas, OperacionesAvanzadasLista {
+
+    /**
+     * Tamaño de bloque por defecto para la política {@link PoliticaCrecimiento#BLOQUE_FIJO}.
+     */
+    public static final int TAMANO_BLOQUE_POR_DEFECTO = 64;
 
     /**
      * El array interno que almacena los valores de tipo double.
      */
-    private final double[] datos;
+    private double[] datos;
 
     /**
      * El número de elementos actualmente almacenados en el array.
      */
     private int count;
 
+    /**
+     * La estrategia usada para redimensionar {@code datos} cuando se llena.
+     */
+    private final PoliticaCrecimiento politica;
+
+    /**
+     * El incremento de capacidad usado por la política {@link PoliticaCrecimiento#BLOQUE_FIJO}.
+     */
+    private final int tamanoBloque;
+
     /**
      * Construye un nuevo repositorio basado en un array con una capacidad máxima definida.
      *
@@ -33,27 +60,58 @@ public class ArrayRepositorio implements RepositorioVentas {
      * @throws IllegalArgumentException si la capacidad es menor o igual a cero.
      */
     public ArrayRepositorio(int capacidad) {
-        if (capacidad <= 0) {
+        this(capacidad, PoliticaCrecimiento.NINGUNA);
+    }
+
+    /**
+     * Construye un nuevo repositorio cuyo array crece según la política indicada.
+     *
+     * @param capacidadInicial El tamaño inicial del array.
+     * @param politica         La estrategia de crecimiento al llenarse el array.
+     * @throws IllegalArgumentException si la capacidad es menor o igual a cero o la política es nula.
+     */
+    public ArrayRepositorio(int capacidadInicial, PoliticaCrecimiento politica) {
+        this(capacidadInicial, politica, TAMANO_BLOQUE_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un nuevo repositorio cuyo array crece según la política indicada,
+     * especificando el incremento para la política {@link PoliticaCrecimiento#BLOQUE_FIJO}.
+     *
+     * @param capacidadInicial El tamaño inicial del array.
+     * @param politica         La estrategia de crecimiento al llenarse el array.
+     * @param tamanoBloque     El número de posiciones que se añaden en cada crecimiento por bloques.
+     * @throws IllegalArgumentException si la capacidad o el tamaño de bloque no son positivos, o la política es nula.
+     */
+    public ArrayRepositorio(int capacidadInicial, PoliticaCrecimiento politica, int tamanoBloque) {
+        if (capacidadInicial <= 0) {
             throw new IllegalArgumentException("La capacidad debe ser un número positivo.");
         }
-        this.datos = new double[capacidad];
+        if (politica == null) {
+            throw new IllegalArgumentException("La política de crecimiento no puede ser nula.");
+        }
+        if (tamanoBloque <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser un número positivo.");
+        }
+        this.datos = new double[capacidadInicial];
         this.count = 0;
+        this.politica = politica;
+        this.tamanoBloque = tamanoBloque;
     }
 
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - Requiere desplazar todos los elementos existentes
-     * una posición a la derecha para hacer espacio al nuevo elemento.</p>
+     * una posición a la derecha para hacer espacio al nuevo elemento. El desplazamiento
+     * se realiza con una única copia en bloque ({@link System#arraycopy}).</p>
      */
     @Override
     public boolean agregarAlInicio(double valor) {
-        if (count >= datos.length) {
+        if (!hayEspacioPara(1)) {
             return false; // Capacidad máxima alcanzada.
         }
         // Desplaza todos los elementos a la derecha.
-        for (int i = count; i > 0; i--) {
-            datos[i] = datos[i - 1];
-        }
+        System.arraycopy(datos, 0, datos, 1, count);
         datos[0] = valor;
         count++;
         return true;
@@ -61,11 +119,12 @@ public class ArrayRepositorio implements RepositorioVentas {
 
     /**
      * {@inheritDoc}
-     * <p><b>Complejidad: O(1)</b> - La inserción al final es directa y muy eficiente.</p>
+     * <p><b>Complejidad: O(1)</b> - La inserción al final es directa y muy eficiente
+     * (O(1) amortizado si el array debe crecer).</p>
      */
     @Override
     public boolean agregarAlFinal(double valor) {
-        if (count >= datos.length) {
+        if (!hayEspacioPara(1)) {
             return false; // Capacidad máxima alcanzada.
         }
         datos[count++] = valor;
@@ -75,18 +134,16 @@ public class ArrayRepositorio implements RepositorioVentas {
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - En el peor de los casos, requiere desplazar
-     * casi todos los elementos a la derecha.</p>
+     * casi todos los elementos a la derecha, con una única copia en bloque.</p>
      */
     @Override
     public boolean insertarDespuesDe(int indice, double valor) {
-        if (count >= datos.length || indice < 0 || indice >= count) {
-            return false; // Capacidad máxima o índice inválido.
+        if (indice < 0 || indice >= count || !hayEspacioPara(1)) {
+            return false; // Índice inválido o capacidad máxima.
         }
 
-        // Desplaza los elementos a la derecha desde el final hasta el punto de inserción.
-        for (int i = count; i > indice + 1; i--) {
-            datos[i] = datos[i - 1];
-        }
+        // Desplaza los elementos a la derecha desde el punto de inserción hasta el final.
+        System.arraycopy(datos, indice + 1, datos, indice + 2, count - indice - 1);
 
         datos[indice + 1] = valor;
         count++;
@@ -109,7 +166,7 @@ public class ArrayRepositorio implements RepositorioVentas {
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - Requiere desplazar los elementos a la
-     * izquierda para llenar el espacio del elemento eliminado.</p>
+     * izquierda para llenar el espacio del elemento eliminado, con una única copia en bloque.</p>
      */
     @Override
     public boolean eliminar(int indice) {
@@ -117,14 +174,57 @@ public class ArrayRepositorio implements RepositorioVentas {
             return false;
         }
         // Desplaza los elementos a la izquierda para llenar el vacío.
-        for (int i = indice; i < count - 1; i++) {
-            datos[i] = datos[i + 1];
-        }
+        System.arraycopy(datos, indice + 1, datos, indice, count - indice - 1);
         count--;
         datos[count] = 0.0; // Opcional: limpiar el último elemento para evitar datos fantasma.
         return true;
     }
 
+    /**
+     * Inserta todos los valores de un array a partir de una posición, de modo que
+     * {@code valores[0]} quede en {@code indice}.
+     * <p><b>Complejidad: O(n + k)</b> - Los elementos posteriores se desplazan una sola
+     * vez, {@code k} posiciones, en lugar de realizar {@code k} desplazamientos de una
+     * posición cada uno.</p>
+     *
+     * @param indice  La posición (base 0) donde se insertará el primer valor; puede ser
+     *                igual a {@link #tamano()} para añadir al final.
+     * @param valores Los valores a insertar, en orden.
+     * @return {@code true} si la inserción fue exitosa, {@code false} si el índice es
+     * inválido o no hay capacidad suficiente para todos los valores.
+     */
+    public boolean insertarRango(int indice, double[] valores) {
+        if (valores == null || indice < 0 || indice > count || !hayEspacioPara(valores.length)) {
+            return false;
+        }
+        int k = valores.length;
+        System.arraycopy(datos, indice, datos, indice + k, count - indice);
+        System.arraycopy(valores, 0, datos, indice, k);
+        count += k;
+        return true;
+    }
+
+    /**
+     * Elimina todos los elementos del rango {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(n)</b> - Los elementos posteriores al rango se desplazan
+     * una sola vez hacia la izquierda, sin importar cuántos se eliminen.</p>
+     *
+     * @param desde El índice (base 0, inclusivo) del primer elemento a eliminar.
+     * @param hasta El índice (exclusivo) posterior al último elemento a eliminar.
+     * @return {@code true} si el rango es válido y no vacío, {@code false} en caso contrario.
+     */
+    public boolean eliminarRango(int desde, int hasta) {
+        if (desde < 0 || hasta > count || desde >= hasta) {
+            return false;
+        }
+        System.arraycopy(datos, hasta, datos, desde, count - hasta);
+        int nuevoCount = count - (hasta - desde);
+        // Limpia las posiciones liberadas para evitar datos fantasma.
+        Arrays.fill(datos, nuevoCount, count, 0.0);
+        count = nuevoCount;
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - Hereda la complejidad del método `eliminar(0)`.</p>
@@ -151,6 +251,31 @@ public class ArrayRepositorio implements RepositorioVentas {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Compactación en una sola pasada: cada elemento conservado se copia
+     * como máximo una vez hacia su posición final.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        if (indices.length == 0) {
+            return 0;
+        }
+        int escritura = indices[0];
+        int k = 0;
+        for (int lectura = indices[0]; lectura < count; lectura++) {
+            if (k < indices.length && indices[k] == lectura) {
+                k++; // Elemento eliminado: no se copia.
+            } else {
+                datos[escritura++] = datos[lectura];
+            }
+        }
+        Arrays.fill(datos, escritura, count, 0.0); // Opcional: limpiar para evitar datos fantasma.
+        count = escritura;
+        return indices.length;
+    }
+
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(1)</b> - El acceso por índice es directo.</p>
@@ -176,6 +301,38 @@ public class ArrayRepositorio implements RepositorioVentas {
         return lista;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorrido secuencial del array interno.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (int i = 0; i < count; i++) {
+            accion.accept(datos[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Una única copia en bloque ({@link System#arraycopy}).</p>
+     */
+    @Override
+    public double[] aArray(double[] destino) {
+        double[] resultado = (destino != null && destino.length >= count) ? destino : new double[count];
+        System.arraycopy(datos, 0, resultado, 0, count);
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> para crear el flujo - Se apoya directamente en el array
+     * interno, sin copias intermedias.</p>
+     */
+    @Override
+    public DoubleStream flujo() {
+        return Arrays.stream(datos, 0, count);
+    }
+
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(1)</b></p>
@@ -200,13 +357,130 @@ public class ArrayRepositorio implements RepositorioVentas {
         return -1; // Valor no encontrado.
     }
 
+    //region Gestión de Capacidad
+    /**
+     * Devuelve la longitud actual del array interno.
+     * @return El número de elementos que caben sin redimensionar.
+     */
+    public int capacidad() {
+        return datos.length;
+    }
+
+    /**
+     * Devuelve la política de crecimiento con la que fue construido el repositorio.
+     * @return La {@link PoliticaCrecimiento} activa.
+     */
+    public PoliticaCrecimiento getPolitica() {
+        return politica;
+    }
+
+    /**
+     * Garantiza que el array pueda alojar al menos {@code capacidadMinima} elementos
+     * sin redimensionarse de nuevo. Es útil para reservar espacio antes de una carga
+     * masiva de datos de tamaño conocido. Funciona incluso con la política
+     * {@link PoliticaCrecimiento#NINGUNA}, ya que es una ampliación explícita.
+     * <p><b>Complejidad: O(n)</b> si hay que copiar el array, O(1) en caso contrario.</p>
+     *
+     * @param capacidadMinima El número mínimo de posiciones deseadas.
+     */
+    public void asegurarCapacidad(int capacidadMinima) {
+        if (capacidadMinima > datos.length) {
+            redimensionar(capacidadMinima);
+        }
+    }
+
+    /**
+     * Reduce la longitud del array interno al número de elementos almacenados,
+     * liberando la memoria sobrante (equivalente a {@code trimToSize}).
+     * <p><b>Complejidad: O(n)</b> - Copia los elementos a un array más pequeño.</p>
+     */
+    public void ajustarATamano() {
+        if (count < datos.length) {
+            // Se conserva al menos una posición para respetar la invariante del constructor.
+            redimensionar(Math.max(count, 1));
+        }
+    }
+    //endregion
+
     /**
      * {@inheritDoc}
-     * @return Siempre {@code false}, ya que un array de tamaño fijo no soporta
-     * eficientemente operaciones como la inversión "in-place".
+     * @return Siempre {@code true}: el array se invierte "in-place" intercambiando
+     * extremos y el resto de operaciones avanzadas se resuelven con recorridos lineales.
      */
     @Override
     public boolean soportaOperacionesAvanzadas() {
-        return false;
+        return true;
+    }
+
+    //region Implementación de OperacionesAvanzadasLista
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Intercambia los extremos avanzando hacia el centro.</p>
+     */
+    @Override
+    public void invertir() {
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            double temp = datos[i];
+            datos[i] = datos[j];
+            datos[j] = temp;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Realiza una búsqueda lineal.</p>
+     */
+    @Override
+    public int buscarPrimeroMayor(double umbral) {
+        for (int i = 0; i < count; i++) {
+            if (datos[i] >= umbral) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n) esperado</b> - Delega en la detección basada en hash de
+     * {@link BuscadorListaUtil} directamente sobre el array interno, sin copias.</p>
+     */
+    @Override
+    public List<Integer> encontrarIndicesDeDuplicados() {
+        return BuscadorListaUtil.encontrarIndicesDeDuplicados(datos, count);
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Verifica que quepan {@code adicionales} elementos más, haciendo crecer el
+     * array según la política activa si es necesario.
+     * @param adicionales El número de elementos que se desea insertar.
+     * @return {@code true} si hay espacio (o se pudo crear), {@code false} si el array es de tamaño fijo y está lleno.
+     * @throws IllegalStateException si el array debe crecer más allá del tamaño máximo de un array.
+     */
+    private boolean hayEspacioPara(int adicionales) {
+        // Restar en lugar de sumar: count + adicionales puede desbordar un int.
+        if (adicionales <= datos.length - count) {
+            return true;
+        }
+        if (politica == PoliticaCrecimiento.NINGUNA) {
+            return false; // Capacidad máxima alcanzada.
+        }
+        // Un mínimo por encima de Integer.MAX_VALUE se satura para que la política lo rechace.
+        int requerida = (int) Math.min((long) count + adicionales, Integer.MAX_VALUE);
+        redimensionar(politica.calcularNuevaCapacidad(datos.length, requerida, tamanoBloque));
+        return true;
+    }
+
+    /**
+     * Copia los elementos actuales a un nuevo array primitivo de la longitud indicada.
+     * @param nuevaCapacidad La longitud del nuevo array (mayor o igual a {@code count}).
+     */
+    private void redimensionar(int nuevaCapacidad) {
+        double[] nuevo = new double[nuevaCapacidad];
+        System.arraycopy(datos, 0, nuevo, 0, count);
+        datos = nuevo;
     }
+    //endregion
 }
@@ -0,0 +1,399 @@
+package repository;
+
+import model.OperacionesAvanzadasLista;
+import model.RepositorioVentas;
+import util.BuscadorListaUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
+ * utilizando un <b>buffer circular</b> (ring buffer) sobre un array primitivo.
+ * <p>
+ * Los elementos ocupan un tramo contiguo del array que puede "dar la vuelta" al final,
+ * delimitado por el índice {@code cabeza} y el contador {@code count}. Esto permite
+ * insertar y eliminar en ambos extremos en <b>O(1)</b> sin desplazar elementos, como una
+ * lista doble, pero sin reservar un nodo por cada valor y conservando el acceso por
+ * índice en O(1), como un array.
+ * </p>
+ * <p>
+ * La capacidad es siempre una potencia de 2, de modo que el cálculo de la posición
+ * física se reduce a una máscara de bits. El array se duplica al llenarse.
+ * </p>
+ */
+public class BufferCircularRepositorio implements RepositorioVentas, OperacionesAvanzadasLista {
+
+    /**
+     * El array interno que almacena los valores. Su longitud es una potencia de 2.
+     */
+    private double[] datos;
+
+    /**
+     * Posición física del primer elemento en sentido "hacia adelante".
+     */
+    private int cabeza;
+
+    /**
+     * Número de elementos actualmente almacenados.
+     */
+    private int count;
+
+    /**
+     * Indica si el orden lógico está invertido respecto al orden físico.
+     * Invertir la lista solo cambia esta bandera, por lo que cuesta O(1).
+     */
+    private boolean invertido;
+
+    /**
+     * Construye un nuevo buffer circular con una capacidad inicial.
+     *
+     * @param capacidadInicial El número de elementos que caben antes del primer crecimiento.
+     * Se redondea a la siguiente potencia de 2.
+     * @throws IllegalArgumentException si la capacidad es menor o igual a cero.
+     */
+    public BufferCircularRepositorio(int capacidadInicial) {
+        if (capacidadInicial <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser un número positivo.");
+        }
+        this.datos = new double[siguientePotenciaDeDos(capacidadInicial)];
+        this.cabeza = 0;
+        this.count = 0;
+        this.invertido = false;
+    }
+
+    //region Implementación de RepositorioVentas (CRUD)
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1) amortizado</b> - Solo retrocede el índice {@code cabeza}.</p>
+     */
+    @Override
+    public boolean agregarAlInicio(double valor) {
+        asegurarEspacio();
+        if (invertido) {
+            empujarAtras(valor);
+        } else {
+            empujarAdelante(valor);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1) amortizado</b> - Escribe en la posición siguiente al último elemento.</p>
+     */
+    @Override
+    public boolean agregarAlFinal(double valor) {
+        asegurarEspacio();
+        if (invertido) {
+            empujarAdelante(valor);
+        } else {
+            empujarAtras(valor);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(min(k, n-k))</b> - Se desplaza únicamente el lado más corto
+     * del buffer respecto al punto de inserción.</p>
+     */
+    @Override
+    public boolean insertarDespuesDe(int indice, double valor) {
+        if (indice < 0 || indice >= count) {
+            return false; // Índice inválido.
+        }
+        asegurarEspacio();
+        // Posición "hacia adelante" que ocupará el nuevo elemento.
+        int posicion = invertido ? count - indice - 1 : indice + 1;
+
+        if (posicion < count / 2) {
+            // Se desplaza la parte inicial una posición hacia la izquierda.
+            cabeza = (cabeza - 1) & mascara();
+            for (int j = 0; j < posicion; j++) {
+                datos[fisico(j)] = datos[fisico(j + 1)];
+            }
+        } else {
+            // Se desplaza la parte final una posición hacia la derecha.
+            for (int j = count; j > posicion; j--) {
+                datos[fisico(j)] = datos[fisico(j - 1)];
+            }
+        }
+        datos[fisico(posicion)] = valor;
+        count++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - El acceso por índice es directo.</p>
+     */
+    @Override
+    public boolean actualizar(int indice, double nuevoValor) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        datos[fisico(adelante(indice))] = nuevoValor;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(min(k, n-k))</b> - Se cierra el hueco desplazando el lado
+     * más corto del buffer; eliminar en los extremos es O(1).</p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        int posicion = adelante(indice);
+
+        if (posicion < count / 2) {
+            // Se desplaza la parte inicial una posición hacia la derecha.
+            for (int j = posicion; j > 0; j--) {
+                datos[fisico(j)] = datos[fisico(j - 1)];
+            }
+            cabeza = (cabeza + 1) & mascara();
+        } else {
+            // Se desplaza la parte final una posición hacia la izquierda.
+            for (int j = posicion; j < count - 1; j++) {
+                datos[fisico(j)] = datos[fisico(j + 1)];
+            }
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public boolean eliminarAlInicio() {
+        if (count == 0) {
+            return false;
+        }
+        return eliminar(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public boolean eliminarAlFinal() {
+        if (count == 0) {
+            return false;
+        }
+        return eliminar(count - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Compactación en una sola pasada en orden "hacia adelante". Si la
+     * lista está invertida, los índices lógicos se recorren de atrás hacia adelante.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        int k = indices.length;
+        if (k == 0) {
+            return 0;
+        }
+        // Posiciones "hacia adelante" a eliminar, en orden ascendente.
+        int siguiente = 0;
+        int escritura = 0;
+        for (int lectura = 0; lectura < count; lectura++) {
+            int eliminar = (siguiente < k)
+                    ? (invertido ? count - 1 - indices[k - 1 - siguiente] : indices[siguiente])
+                    : -1;
+            if (lectura == eliminar) {
+                siguiente++;
+            } else {
+                if (escritura != lectura) {
+                    datos[fisico(escritura)] = datos[fisico(lectura)];
+                }
+                escritura++;
+            }
+        }
+        count = escritura;
+        return k;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - El acceso por índice es directo.</p>
+     */
+    @Override
+    public double obtener(int indice) {
+        if (indice < 0 || indice >= count) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice + ", tamaño actual: " + count);
+        }
+        return datos[fisico(adelante(indice))];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Debe recorrer todos los elementos para crear la lista.</p>
+     */
+    @Override
+    public List<Double> obtenerTodos() {
+        List<Double> lista = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lista.add(datos[fisico(adelante(i))]);
+        }
+        return lista;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorrido en orden lógico, respetando la inversión.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (int i = 0; i < count; i++) {
+            accion.accept(datos[fisico(adelante(i))]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public int tamano() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Realiza una búsqueda lineal en orden lógico.</p>
+     */
+    @Override
+    public int buscarIndiceDe(double valor) {
+        for (int i = 0; i < count; i++) {
+            if (datos[fisico(adelante(i))] == valor) {
+                return i;
+            }
+        }
+        return -1; // Valor no encontrado.
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Siempre {@code true}, ya que esta implementación soporta todas las operaciones avanzadas.
+     */
+    @Override
+    public boolean soportaOperacionesAvanzadas() {
+        return true;
+    }
+    //endregion
+
+    //region Implementación de OperacionesAvanzadasLista
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - No se mueve ningún elemento: solo se alterna la
+     * bandera que indica en qué sentido se lee el buffer.</p>
+     */
+    @Override
+    public void invertir() {
+        invertido = !invertido;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Realiza una búsqueda lineal en orden lógico.</p>
+     */
+    @Override
+    public int buscarPrimeroMayor(double umbral) {
+        for (int i = 0; i < count; i++) {
+            if (datos[fisico(adelante(i))] >= umbral) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n) esperado</b> - Copia los valores en orden lógico a un array contiguo y delega en la detección
+     * basada en hash de {@link BuscadorListaUtil}.</p>
+     */
+    @Override
+    public List<Integer> encontrarIndicesDeDuplicados() {
+        return BuscadorListaUtil.encontrarIndicesDeDuplicados(aArray(null), count);
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Inserta un valor antes del primer elemento en sentido "hacia adelante".
+     */
+    private void empujarAdelante(double valor) {
+        cabeza = (cabeza - 1) & mascara();
+        datos[cabeza] = valor;
+        count++;
+    }
+
+    /**
+     * Inserta un valor después del último elemento en sentido "hacia adelante".
+     */
+    private void empujarAtras(double valor) {
+        datos[fisico(count)] = valor;
+        count++;
+    }
+
+    /**
+     * Convierte un índice lógico (el que ve el cliente) en su posición "hacia adelante",
+     * teniendo en cuenta si la lista está invertida.
+     */
+    private int adelante(int indice) {
+        return invertido ? count - 1 - indice : indice;
+    }
+
+    /**
+     * Convierte una posición "hacia adelante" en la posición física del array.
+     */
+    private int fisico(int posicion) {
+        return (cabeza + posicion) & mascara();
+    }
+
+    /**
+     * Máscara de bits para el módulo con la capacidad actual (potencia de 2).
+     */
+    private int mascara() {
+        return datos.length - 1;
+    }
+
+    /**
+     * Duplica la capacidad del buffer si está lleno, copiando los elementos en orden
+     * "hacia adelante" a partir de la posición 0 del nuevo array.
+     * <p><b>Complejidad: O(n)</b> al crecer, O(1) amortizado por inserción.</p>
+     */
+    private void asegurarEspacio() {
+        if (count < datos.length) {
+            return;
+        }
+        if (datos.length > (Integer.MAX_VALUE >> 1)) {
+            throw new IllegalStateException("Se excedió la capacidad máxima del buffer circular.");
+        }
+        double[] nuevo = new double[datos.length << 1];
+        // El tramo ocupado puede estar partido en dos: [cabeza, fin) y [0, resto).
+        int primerTramo = Math.min(count, datos.length - cabeza);
+        System.arraycopy(datos, cabeza, nuevo, 0, primerTramo);
+        System.arraycopy(datos, 0, nuevo, primerTramo, count - primerTramo);
+        datos = nuevo;
+        cabeza = 0;
+    }
+
+    /**
+     * Calcula la menor potencia de 2 mayor o igual a {@code n}.
+     */
+    private static int siguientePotenciaDeDos(int n) {
+        int potencia = Integer.highestOneBit(n);
+        return potencia == n ? n : potencia << 1;
+    }
+    //endregion
+}
@@ -0,0 +1,321 @@
+package repository;
+
+import model.RepositorioVentas;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Implementa la interfaz {@link RepositorioVentas} utilizando un <b>buffer con hueco</b>
+ * (gap buffer) sobre un array primitivo.
+ * <p>
+ * El array se divide en tres tramos: los elementos anteriores al cursor, un hueco de
+ * posiciones libres y los elementos posteriores al cursor. Insertar o eliminar junto al
+ * hueco no desplaza ningún elemento, por lo que las ediciones consecutivas alrededor de
+ * una misma posición (como las que realiza el usuario sobre la fila seleccionada del
+ * Dashboard) cuestan <b>O(1) amortizado</b>. Mover el hueco a otra posición cuesta
+ * O(d), donde d es la distancia recorrida.
+ * </p>
+ */
+public class BufferHuecoRepositorio implements RepositorioVentas {
+
+    /**
+     * El array interno que almacena los valores y el hueco.
+     */
+    private double[] datos;
+
+    /**
+     * Posición física del primer elemento del hueco (coincide con el índice lógico del cursor).
+     */
+    private int inicioHueco;
+
+    /**
+     * Posición física posterior al último elemento del hueco (exclusiva).
+     */
+    private int finHueco;
+
+    /**
+     * Construye un nuevo buffer con hueco con una capacidad inicial.
+     *
+     * @param capacidadInicial El número de elementos que caben antes del primer crecimiento.
+     * @throws IllegalArgumentException si la capacidad es menor o igual a cero.
+     */
+    public BufferHuecoRepositorio(int capacidadInicial) {
+        if (capacidadInicial <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser un número positivo.");
+        }
+        this.datos = new double[capacidadInicial];
+        this.inicioHueco = 0;
+        this.finHueco = capacidadInicial;
+    }
+
+    //region Implementación de RepositorioVentas (CRUD)
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(d)</b> - Donde d es la distancia del hueco al inicio;
+     * las inserciones consecutivas al inicio son O(1).</p>
+     */
+    @Override
+    public boolean agregarAlInicio(double valor) {
+        insertarEn(0, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(d)</b> - Donde d es la distancia del hueco al final;
+     * las inserciones consecutivas al final son O(1) amortizado.</p>
+     */
+    @Override
+    public boolean agregarAlFinal(double valor) {
+        insertarEn(tamano(), valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(d)</b> - Donde d es la distancia entre el hueco y el punto
+     * de inserción. Tras insertar, el hueco queda justo después del nuevo elemento, por
+     * lo que una secuencia de inserciones en la misma zona es O(1) cada una.</p>
+     */
+    @Override
+    public boolean insertarDespuesDe(int indice, double valor) {
+        if (indice < 0 || indice >= tamano()) {
+            return false; // Índice inválido.
+        }
+        insertarEn(indice + 1, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - El acceso por índice es directo y no mueve el hueco.</p>
+     */
+    @Override
+    public boolean actualizar(int indice, double nuevoValor) {
+        if (indice < 0 || indice >= tamano()) {
+            return false;
+        }
+        datos[fisico(indice)] = nuevoValor;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(d)</b> - Se mueve el hueco hasta el elemento y este pasa a
+     * formar parte del hueco, sin desplazar el resto de elementos.</p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= tamano()) {
+            return false;
+        }
+        moverHueco(indice);
+        datos[finHueco] = 0.0; // Opcional: limpiar para evitar datos fantasma.
+        finHueco++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(d)</b> - Ver {@link #eliminar(int)}.</p>
+     */
+    @Override
+    public boolean eliminarAlInicio() {
+        if (tamano() == 0) {
+            return false;
+        }
+        return eliminar(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(d)</b> - Ver {@link #eliminar(int)}.</p>
+     */
+    @Override
+    public boolean eliminarAlFinal() {
+        if (tamano() == 0) {
+            return false;
+        }
+        return eliminar(tamano() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Se lleva el hueco al final y se compactan los elementos en una
+     * sola pasada; las posiciones liberadas pasan a formar parte del hueco.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, tamano());
+        if (indices.length == 0) {
+            return 0;
+        }
+        int n = tamano();
+        moverHueco(n); // Todos los elementos quedan contiguos en [0, n).
+        int escritura = indices[0];
+        int k = 0;
+        for (int lectura = indices[0]; lectura < n; lectura++) {
+            if (k < indices.length && indices[k] == lectura) {
+                k++;
+            } else {
+                datos[escritura++] = datos[lectura];
+            }
+        }
+        inicioHueco = escritura;
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - El acceso por índice es directo.</p>
+     */
+    @Override
+    public double obtener(int indice) {
+        if (indice < 0 || indice >= tamano()) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice + ", tamaño actual: " + tamano());
+        }
+        return datos[fisico(indice)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre los tramos anterior y posterior al hueco.</p>
+     */
+    @Override
+    public List<Double> obtenerTodos() {
+        List<Double> lista = new ArrayList<>(tamano());
+        for (int i = 0; i < inicioHueco; i++) {
+            lista.add(datos[i]);
+        }
+        for (int i = finHueco; i < datos.length; i++) {
+            lista.add(datos[i]);
+        }
+        return lista;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre los tramos anterior y posterior al hueco.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (int i = 0; i < inicioHueco; i++) {
+            accion.accept(datos[i]);
+        }
+        for (int i = finHueco; i < datos.length; i++) {
+            accion.accept(datos[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Dos copias en bloque, una por cada tramo.</p>
+     */
+    @Override
+    public double[] aArray(double[] destino) {
+        int n = tamano();
+        double[] resultado = (destino != null && destino.length >= n) ? destino : new double[n];
+        System.arraycopy(datos, 0, resultado, 0, inicioHueco);
+        System.arraycopy(datos, finHueco, resultado, inicioHueco, datos.length - finHueco);
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - Es la capacidad menos el tamaño del hueco.</p>
+     */
+    @Override
+    public int tamano() {
+        return datos.length - (finHueco - inicioHueco);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Realiza una búsqueda lineal saltando el hueco.</p>
+     */
+    @Override
+    public int buscarIndiceDe(double valor) {
+        for (int i = 0; i < inicioHueco; i++) {
+            if (datos[i] == valor) {
+                return i;
+            }
+        }
+        for (int i = finHueco; i < datos.length; i++) {
+            if (datos[i] == valor) {
+                return i - (finHueco - inicioHueco);
+            }
+        }
+        return -1; // Valor no encontrado.
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Siempre {@code false}, ya que esta estructura está optimizada para la
+     * edición localizada y no implementa las operaciones avanzadas de lista.
+     */
+    @Override
+    public boolean soportaOperacionesAvanzadas() {
+        return false;
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Inserta un valor en la posición lógica indicada, dejando el hueco justo después.
+     * @param posicion El índice (base 0) que ocupará el nuevo valor.
+     */
+    private void insertarEn(int posicion, double valor) {
+        if (inicioHueco == finHueco) {
+            crecer();
+        }
+        moverHueco(posicion);
+        datos[inicioHueco++] = valor;
+    }
+
+    /**
+     * Desplaza el hueco para que comience en la posición lógica indicada.
+     * Solo se copian los elementos situados entre la posición actual y la nueva.
+     * <p><b>Complejidad: O(d)</b>, donde d es la distancia recorrida.</p>
+     */
+    private void moverHueco(int posicion) {
+        if (posicion < inicioHueco) {
+            // El hueco se mueve a la izquierda: los elementos [posicion, inicioHueco) pasan al final del hueco.
+            int desplazados = inicioHueco - posicion;
+            System.arraycopy(datos, posicion, datos, finHueco - desplazados, desplazados);
+            inicioHueco -= desplazados;
+            finHueco -= desplazados;
+        } else if (posicion > inicioHueco) {
+            // El hueco se mueve a la derecha: los elementos tras el hueco pasan a su inicio.
+            int desplazados = posicion - inicioHueco;
+            System.arraycopy(datos, finHueco, datos, inicioHueco, desplazados);
+            inicioHueco += desplazados;
+            finHueco += desplazados;
+        }
+    }
+
+    /**
+     * Duplica la capacidad del array, conservando la posición lógica del hueco.
+     * <p><b>Complejidad: O(n)</b> al crecer, O(1) amortizado por inserción.</p>
+     */
+    private void crecer() {
+        if (datos.length > (Integer.MAX_VALUE >> 1)) {
+            throw new IllegalStateException("Se excedió la capacidad máxima del buffer con hueco.");
+        }
+        double[] nuevo = new double[datos.length << 1];
+        int posteriores = datos.length - finHueco;
+        System.arraycopy(datos, 0, nuevo, 0, inicioHueco);
+        System.arraycopy(datos, finHueco, nuevo, nuevo.length - posteriores, posteriores);
+        finHueco = nuevo.length - posteriores;
+        datos = nuevo;
+    }
+
+    /**
+     * Convierte un índice lógico en la posición física del array, saltando el hueco.
+     */
+    private int fisico(int indice) {
+        return indice < inicioHueco ? indice : indice + (finHueco - inicioHueco);
+    }
+    //endregion
+}
@@ -0,0 +1,88 @@
+package repository;
+
+import model.NodoArbol;
+
+import java.util.Arrays;
+
+/**
+ * Construcción en bloque de árboles binarios de búsqueda a partir de un array de valores,
+ * compartida por {@link ArbolBinarioBusqueda} y {@link ArbolAVL}.
+ * <p>
+ * Ordena una copia de los valores, agrupa los duplicados en frecuencias y enlaza los nodos
+ * tomando como raíz de cada tramo su elemento central. El árbol resultante es perfectamente
+ * balanceado (sus alturas ya cumplen la condición AVL y quedan calculadas, igual que los pesos), con un solo
+ * nodo por valor distinto.
+ * </p>
+ */
+final class ConstruccionArbol {
+
+    private ConstruccionArbol() {
+        // Clase de utilidad: no se instancia.
+    }
+
+    /**
+     * Construye un árbol balanceado con los primeros {@code cantidad} valores del array.
+     * <p><b>Complejidad: O(n log n)</b> por la ordenación; el agrupado y el enlace son <b>O(n)</b>.</p>
+     *
+     * @return La raíz del árbol, o {@code null} si {@code cantidad} es 0.
+     * @see model.ArbolBusqueda#cargar(double[], int)
+     */
+    static NodoArbol construirBalanceado(double[] valores, int cantidad) {
+        if (cantidad < 0 || cantidad > valores.length) {
+            throw new IndexOutOfBoundsException("Cantidad inválida: " + cantidad + " (longitud: " + valores.length + ")");
+        }
+        double[] ordenados = Arrays.copyOf(valores, cantidad);
+        Arrays.sort(ordenados);
+        if (cantidad > 0 && Double.isNaN(ordenados[cantidad - 1])) {
+            throw new IllegalArgumentException("El árbol no admite valores NaN."); // Arrays.sort los deja al final.
+        }
+
+        // Agrupa los duplicados sobre el mismo array: 'distintos' valores y sus frecuencias.
+        int[] frecuencias = new int[cantidad];
+        int distintos = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (distintos > 0 && ordenados[i] == ordenados[distintos - 1]) {
+                frecuencias[distintos - 1]++;
+            } else {
+                ordenados[distintos] = ordenados[i];
+                frecuencias[distintos] = 1;
+                distintos++;
+            }
+        }
+        return enlazar(ordenados, frecuencias, 0, distintos);
+    }
+
+    /**
+     * Construye un árbol balanceado a partir de valores ya ordenados y agrupados.
+     * <p><b>Complejidad: O(n)</b></p>
+     *
+     * @param valores     Valores distintos en orden estrictamente ascendente.
+     * @param frecuencias Frecuencia de cada valor (al menos 1).
+     * @param distintos   Cuántas posiciones de ambos arrays usar.
+     * @return La raíz del árbol, o {@code null} si {@code distintos} es 0.
+     */
+    static NodoArbol construirDesdeAgrupados(double[] valores, int[] frecuencias, int distintos) {
+        return enlazar(valores, frecuencias, 0, distintos);
+    }
+
+    /**
+     * Enlaza el tramo [desde, hasta) con su elemento central como raíz. La profundidad de
+     * la recursión es O(log n).
+     */
+    private static NodoArbol enlazar(double[] valores, int[] frecuencias, int desde, int hasta) {
+        if (desde >= hasta) {
+            return null;
+        }
+        int medio = (desde + hasta) >>> 1;
+        NodoArbol nodo = new NodoArbol(valores[medio], frecuencias[medio]);
+        NodoArbol izquierdo = enlazar(valores, frecuencias, desde, medio);
+        NodoArbol derecho = enlazar(valores, frecuencias, medio + 1, hasta);
+        nodo.setIzquierdo(izquierdo);
+        nodo.setDerecho(derecho);
+        nodo.setAltura(1 + Math.max(izquierdo == null ? 0 : izquierdo.getAltura(),
+                derecho == null ? 0 : derecho.getAltura()));
+        nodo.setPeso(frecuencias[medio] + (izquierdo == null ? 0 : izquierdo.getPeso())
+                + (derecho == null ? 0 : derecho.getPeso()));
+        return nodo;
+    }
+}
@@ -0,0 +1,585 @@
+package repository;
+
+import model.CursorVentas;
+import model.NodoBloque;
+import model.OperacionesAvanzadasLista;
+import model.RepositorioVentas;
+import util.BuscadorListaUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
+ * utilizando una <b>lista doblemente enlazada desenrollada</b> (unrolled linked list).
+ * <p>
+ * Cada nodo ({@link NodoBloque}) guarda hasta {@code B} valores en un array primitivo.
+ * Frente a {@link ListaDobleRepositorio}, que reserva un objeto por valor, esto reduce
+ * varias veces el consumo de memoria y el número de saltos de puntero: localizar un
+ * índice recorre O(n/B) bloques y los recorridos completos leen memoria contigua.
+ * </p>
+ * <p>
+ * Para mantener los bloques razonablemente llenos, un bloque lleno se divide en dos al
+ * insertar, y un bloque que queda por debajo de la mitad se fusiona con su vecino al
+ * eliminar si ambos caben en un único bloque.
+ * </p>
+ */
+public class ListaDesenrolladaRepositorio implements RepositorioVentas, OperacionesAvanzadasLista {
+
+    /**
+     * Capacidad por defecto de cada bloque.
+     */
+    public static final int CAPACIDAD_BLOQUE_POR_DEFECTO = 64;
+
+    private NodoBloque cabeza;
+    private NodoBloque cola;
+    private int count;
+    private final int capacidadBloque;
+
+    public ListaDesenrolladaRepositorio() {
+        this(CAPACIDAD_BLOQUE_POR_DEFECTO);
+    }
+
+    /**
+     * Construye una lista desenrollada vacía con un tamaño de bloque específico.
+     *
+     * @param capacidadBloque El número máximo de valores por bloque.
+     * @throws IllegalArgumentException si la capacidad del bloque es menor que 2.
+     */
+    public ListaDesenrolladaRepositorio(int capacidadBloque) {
+        if (capacidadBloque < 2) {
+            throw new IllegalArgumentException("La capacidad del bloque debe ser al menos 2.");
+        }
+        this.capacidadBloque = capacidadBloque;
+        this.cabeza = null;
+        this.cola = null;
+        this.count = 0;
+    }
+
+    /**
+     * Ubicación de un índice lógico dentro de la lista: el bloque que lo contiene y
+     * el desplazamiento dentro de dicho bloque.
+     */
+    private static final class Posicion {
+        private final NodoBloque bloque;
+        private final int desplazamiento;
+
+        private Posicion(NodoBloque bloque, int desplazamiento) {
+            this.bloque = bloque;
+            this.desplazamiento = desplazamiento;
+        }
+    }
+
+    /**
+     * Cursor que recorre los bloques en orden, leyendo cada array de forma secuencial.
+     */
+    private final class CursorBloques implements CursorVentas {
+        private NodoBloque bloque;
+        private int desplazamiento;
+
+        private CursorBloques() {
+            reiniciar();
+        }
+
+        @Override
+        public boolean hasNext() {
+            // Los bloques vacíos se eliminan, así que basta con comprobar el bloque actual.
+            return bloque != null && desplazamiento < bloque.getCantidad();
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No hay más elementos en la lista.");
+            }
+            double valor = bloque.getValores()[desplazamiento++];
+            if (desplazamiento == bloque.getCantidad()) {
+                bloque = bloque.getSiguiente();
+                desplazamiento = 0;
+            }
+            return valor;
+        }
+
+        @Override
+        public void reiniciar() {
+            bloque = cabeza;
+            desplazamiento = 0;
+        }
+    }
+
+    //region Implementación de RepositorioVentas (CRUD)
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1) amortizado</b> - Se escribe en el último bloque, creando
+     * uno nuevo cuando está lleno.</p>
+     */
+    @Override
+    public boolean agregarAlFinal(double valor) {
+        if (cola == null || cola.estaLleno()) {
+            enlazarDespuesDe(cola, new NodoBloque(capacidadBloque));
+        }
+        cola.getValores()[cola.getCantidad()] = valor;
+        cola.setCantidad(cola.getCantidad() + 1);
+        count++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(B)</b> - Se desplazan los valores del primer bloque,
+     * creando uno nuevo cuando está lleno.</p>
+     */
+    @Override
+    public boolean agregarAlInicio(double valor) {
+        if (cabeza == null || cabeza.estaLleno()) {
+            enlazarAntesDe(cabeza, new NodoBloque(capacidadBloque));
+        }
+        insertarEnBloque(cabeza, 0, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n/B + B)</b> - Se localiza el bloque y se desplazan
+     * únicamente los valores de ese bloque.</p>
+     */
+    @Override
+    public boolean insertarDespuesDe(int indice, double valor) {
+        if (indice < 0 || indice >= count) {
+            return false; // Índice inválido.
+        }
+        if (indice == count - 1) {
+            return agregarAlFinal(valor); // Optimización para el último elemento.
+        }
+        Posicion p = localizar(indice);
+        NodoBloque bloque = p.bloque;
+        int destino = p.desplazamiento + 1;
+
+        if (bloque.estaLleno()) {
+            // Se divide el bloque por la mitad y se inserta en la mitad correspondiente.
+            NodoBloque nuevo = dividir(bloque);
+            if (destino > bloque.getCantidad()) {
+                destino -= bloque.getCantidad();
+                bloque = nuevo;
+            }
+        }
+        insertarEnBloque(bloque, destino, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n/B)</b> - Solo se debe localizar el bloque.</p>
+     */
+    @Override
+    public boolean actualizar(int indice, double nuevoValor) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        Posicion p = localizar(indice);
+        p.bloque.getValores()[p.desplazamiento] = nuevoValor;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n/B + B)</b> - Se localiza el bloque, se cierra el hueco
+     * dentro de él y, si queda poco ocupado, se fusiona con un vecino.</p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        Posicion p = localizar(indice);
+        NodoBloque bloque = p.bloque;
+        double[] valores = bloque.getValores();
+        int cantidad = bloque.getCantidad();
+
+        System.arraycopy(valores, p.desplazamiento + 1, valores, p.desplazamiento, cantidad - p.desplazamiento - 1);
+        bloque.setCantidad(cantidad - 1);
+        count--;
+
+        if (bloque.getCantidad() == 0) {
+            desenlazar(bloque);
+        } else if (bloque.getCantidad() < capacidadBloque / 2) {
+            fusionarConVecino(bloque);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(B)</b></p>
+     */
+    @Override
+    public boolean eliminarAlInicio() {
+        if (count == 0) return false;
+        return eliminar(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - Gracias al puntero {@code cola}.</p>
+     */
+    @Override
+    public boolean eliminarAlFinal() {
+        if (count == 0) return false;
+        cola.setCantidad(cola.getCantidad() - 1);
+        count--;
+        if (cola.getCantidad() == 0) {
+            desenlazar(cola);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Los valores conservados se reescriben en una sola pasada,
+     * empaquetándolos desde el primer bloque; los bloques sobrantes se desenlazan.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        if (indices.length == 0) {
+            return 0;
+        }
+        NodoBloque bloqueEscritura = cabeza;
+        int posEscritura = 0;
+        int k = 0;
+        int i = 0;
+        for (NodoBloque b = cabeza; b != null; b = b.getSiguiente()) {
+            double[] valores = b.getValores();
+            int cantidad = b.getCantidad();
+            for (int j = 0; j < cantidad; j++, i++) {
+                if (k < indices.length && indices[k] == i) {
+                    k++;
+                    continue;
+                }
+                if (posEscritura == capacidadBloque) {
+                    bloqueEscritura.setCantidad(posEscritura);
+                    bloqueEscritura = bloqueEscritura.getSiguiente();
+                    posEscritura = 0;
+                }
+                // La escritura nunca adelanta a la lectura, así que no se pisan valores pendientes.
+                bloqueEscritura.getValores()[posEscritura++] = valores[j];
+            }
+        }
+        count -= indices.length;
+        if (count == 0) {
+            cabeza = cola = null;
+            return indices.length;
+        }
+        bloqueEscritura.setCantidad(posEscritura);
+        if (posEscritura == 0) {
+            bloqueEscritura = bloqueEscritura.getAnterior();
+        }
+        bloqueEscritura.setSiguiente(null);
+        cola = bloqueEscritura;
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n/B)</b> - Solo se debe localizar el bloque.</p>
+     */
+    @Override
+    public double obtener(int indice) {
+        if (indice < 0 || indice >= count) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice + ", tamaño actual: " + count);
+        }
+        Posicion p = localizar(indice);
+        return p.bloque.getValores()[p.desplazamiento];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre los bloques leyendo memoria contigua.</p>
+     */
+    @Override
+    public List<Double> obtenerTodos() {
+        List<Double> lista = new ArrayList<>(count);
+        for (NodoBloque b = cabeza; b != null; b = b.getSiguiente()) {
+            double[] valores = b.getValores();
+            for (int i = 0; i < b.getCantidad(); i++) {
+                lista.add(valores[i]);
+            }
+        }
+        return lista;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre los bloques leyendo memoria contigua.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (NodoBloque b = cabeza; b != null; b = b.getSiguiente()) {
+            double[] valores = b.getValores();
+            for (int i = 0; i < b.getCantidad(); i++) {
+                accion.accept(valores[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Una copia en bloque por cada bloque de la lista.</p>
+     */
+    @Override
+    public double[] aArray(double[] destino) {
+        double[] resultado = (destino != null && destino.length >= count) ? destino : new double[count];
+        int k = 0;
+        for (NodoBloque b = cabeza; b != null; b = b.getSiguiente()) {
+            System.arraycopy(b.getValores(), 0, resultado, k, b.getCantidad());
+            k += b.getCantidad();
+        }
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> por paso - El cursor avanza dentro del bloque actual y
+     * salta al siguiente al agotarlo.</p>
+     */
+    @Override
+    public CursorVentas cursor() {
+        return new CursorBloques();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public int tamano() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Búsqueda lineal sobre los arrays de cada bloque.</p>
+     */
+    @Override
+    public int buscarIndiceDe(double valor) {
+        int base = 0;
+        for (NodoBloque b = cabeza; b != null; b = b.getSiguiente()) {
+            double[] valores = b.getValores();
+            for (int i = 0; i < b.getCantidad(); i++) {
+                if (valores[i] == valor) {
+                    return base + i;
+                }
+            }
+            base += b.getCantidad();
+        }
+        return -1; // Valor no encontrado.
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Siempre {@code true}, ya que esta implementación soporta todas las operaciones avanzadas.
+     */
+    @Override
+    public boolean soportaOperacionesAvanzadas() {
+        return true;
+    }
+    //endregion
+
+    //region Implementación de OperacionesAvanzadasLista
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Intercambia los punteros de cada bloque (como la
+     * lista doble) e invierte los valores dentro de cada bloque.</p>
+     */
+    @Override
+    public void invertir() {
+        NodoBloque actual = cabeza;
+        while (actual != null) {
+            // Invierte el contenido del bloque.
+            double[] valores = actual.getValores();
+            for (int i = 0, j = actual.getCantidad() - 1; i < j; i++, j--) {
+                double temp = valores[i];
+                valores[i] = valores[j];
+                valores[j] = temp;
+            }
+            // Intercambia los punteros y avanza al siguiente bloque original.
+            NodoBloque siguiente = actual.getSiguiente();
+            actual.setSiguiente(actual.getAnterior());
+            actual.setAnterior(siguiente);
+            actual = siguiente;
+        }
+        NodoBloque antiguaCabeza = cabeza;
+        cabeza = cola;
+        cola = antiguaCabeza;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Búsqueda lineal sobre los arrays de cada bloque.</p>
+     */
+    @Override
+    public int buscarPrimeroMayor(double umbral) {
+        int base = 0;
+        for (NodoBloque b = cabeza; b != null; b = b.getSiguiente()) {
+            double[] valores = b.getValores();
+            for (int i = 0; i < b.getCantidad(); i++) {
+                if (valores[i] >= umbral) {
+                    return base + i;
+                }
+            }
+            base += b.getCantidad();
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n) esperado</b> - Copia los bloques a un array contiguo y delega en la detección
+     * basada en hash de {@link BuscadorListaUtil}.</p>
+     */
+    @Override
+    public List<Integer> encontrarIndicesDeDuplicados() {
+        return BuscadorListaUtil.encontrarIndicesDeDuplicados(aArray(null), count);
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Localiza el bloque que contiene un índice, recorriendo desde la cabeza o desde
+     * la cola según cuál esté más cerca.
+     * @param indice Un índice válido (base 0).
+     * @return La {@link Posicion} del índice.
+     */
+    private Posicion localizar(int indice) {
+        if (indice < count / 2) {
+            NodoBloque b = cabeza;
+            int restante = indice;
+            while (restante >= b.getCantidad()) {
+                restante -= b.getCantidad();
+                b = b.getSiguiente();
+            }
+            return new Posicion(b, restante);
+        } else {
+            NodoBloque b = cola;
+            int inicioBloque = count - b.getCantidad();
+            while (indice < inicioBloque) {
+                b = b.getAnterior();
+                inicioBloque -= b.getCantidad();
+            }
+            return new Posicion(b, indice - inicioBloque);
+        }
+    }
+
+    /**
+     * Inserta un valor en una posición de un bloque que tiene espacio libre,
+     * desplazando a la derecha los valores posteriores del bloque.
+     */
+    private void insertarEnBloque(NodoBloque bloque, int desplazamiento, double valor) {
+        double[] valores = bloque.getValores();
+        int cantidad = bloque.getCantidad();
+        System.arraycopy(valores, desplazamiento, valores, desplazamiento + 1, cantidad - desplazamiento);
+        valores[desplazamiento] = valor;
+        bloque.setCantidad(cantidad + 1);
+        count++;
+    }
+
+    /**
+     * Divide un bloque lleno moviendo su segunda mitad a un nuevo bloque enlazado
+     * justo después de él.
+     * @return El nuevo bloque con la segunda mitad de los valores.
+     */
+    private NodoBloque dividir(NodoBloque bloque) {
+        NodoBloque nuevo = new NodoBloque(capacidadBloque);
+        int mitad = bloque.getCantidad() / 2;
+        int movidos = bloque.getCantidad() - mitad;
+        System.arraycopy(bloque.getValores(), mitad, nuevo.getValores(), 0, movidos);
+        nuevo.setCantidad(movidos);
+        bloque.setCantidad(mitad);
+        enlazarDespuesDe(bloque, nuevo);
+        return nuevo;
+    }
+
+    /**
+     * Fusiona un bloque poco ocupado con su siguiente (o, en su defecto, su anterior)
+     * si la suma de ambos cabe en un único bloque.
+     */
+    private void fusionarConVecino(NodoBloque bloque) {
+        NodoBloque siguiente = bloque.getSiguiente();
+        if (siguiente != null && bloque.getCantidad() + siguiente.getCantidad() <= capacidadBloque) {
+            absorber(bloque, siguiente);
+            return;
+        }
+        NodoBloque anterior = bloque.getAnterior();
+        if (anterior != null && anterior.getCantidad() + bloque.getCantidad() <= capacidadBloque) {
+            absorber(anterior, bloque);
+        }
+    }
+
+    /**
+     * Copia los valores de {@code origen} al final de {@code destino} y desenlaza {@code origen}.
+     */
+    private void absorber(NodoBloque destino, NodoBloque origen) {
+        System.arraycopy(origen.getValores(), 0, destino.getValores(), destino.getCantidad(), origen.getCantidad());
+        destino.setCantidad(destino.getCantidad() + origen.getCantidad());
+        desenlazar(origen);
+    }
+
+    /**
+     * Enlaza un nuevo bloque después de {@code referencia} (o como único bloque si es {@code null}).
+     */
+    private void enlazarDespuesDe(NodoBloque referencia, NodoBloque nuevo) {
+        if (referencia == null) {
+            cabeza = cola = nuevo;
+            return;
+        }
+        NodoBloque siguiente = referencia.getSiguiente();
+        nuevo.setAnterior(referencia);
+        nuevo.setSiguiente(siguiente);
+        referencia.setSiguiente(nuevo);
+        if (siguiente != null) {
+            siguiente.setAnterior(nuevo);
+        } else {
+            cola = nuevo;
+        }
+    }
+
+    /**
+     * Enlaza un nuevo bloque antes de {@code referencia} (o como único bloque si es {@code null}).
+     */
+    private void enlazarAntesDe(NodoBloque referencia, NodoBloque nuevo) {
+        if (referencia == null) {
+            cabeza = cola = nuevo;
+            return;
+        }
+        NodoBloque anterior = referencia.getAnterior();
+        nuevo.setSiguiente(referencia);
+        nuevo.setAnterior(anterior);
+        referencia.setAnterior(nuevo);
+        if (anterior != null) {
+            anterior.setSiguiente(nuevo);
+        } else {
+            cabeza = nuevo;
+        }
+    }
+
+    /**
+     * Elimina un bloque de la cadena, actualizando {@code cabeza} y {@code cola} si corresponde.
+     */
+    private void desenlazar(NodoBloque bloque) {
+        NodoBloque anterior = bloque.getAnterior();
+        NodoBloque siguiente = bloque.getSiguiente();
+        if (anterior != null) {
+            anterior.setSiguiente(siguiente);
+        } else {
+            cabeza = siguiente;
+        }
+        if (siguiente != null) {
+            siguiente.setAnterior(anterior);
+        } else {
+            cola = anterior;
+        }
+    }
+    //endregion
+}
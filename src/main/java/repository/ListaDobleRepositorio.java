@@ -1,5 +1,7 @@
 package repository;
 
+import model.CursorNodos;
+import model.CursorVentas;
 import model.INodo;
 import model.NodoDoble;
 import model.OperacionesAvanzadasLista;
@@ -8,6 +10,7 @@ import util.BuscadorListaUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
 /**
  * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
@@ -158,6 +161,40 @@ public class ListaDobleRepositorio implements RepositorioVentas, OperacionesAvan
         return eliminar(count - 1);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Un único recorrido que desenlaza los nodos indicados.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        if (indices.length == 0) {
+            return 0;
+        }
+        NodoDoble actual = cabeza;
+        int k = 0;
+        for (int i = 0; actual != null && k < indices.length; i++) {
+            NodoDoble siguiente = (NodoDoble) actual.getSiguiente();
+            if (indices[k] == i) {
+                NodoDoble anterior = actual.getAnterior();
+                if (anterior == null) {
+                    cabeza = siguiente;
+                } else {
+                    anterior.setSiguiente(siguiente);
+                }
+                if (siguiente == null) {
+                    cola = anterior;
+                } else {
+                    siguiente.setAnterior(anterior);
+                }
+                k++;
+            }
+            actual = siguiente;
+        }
+        count -= indices.length;
+        return indices.length;
+    }
+
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - Requiere buscar el nodo en el índice.</p>
@@ -185,6 +222,27 @@ public class ListaDobleRepositorio implements RepositorioVentas, OperacionesAvan
         return lista;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre los nodos siguiendo los enlaces.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (INodo p = cabeza; p != null; p = p.getSiguiente()) {
+            accion.accept(p.getValor());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> por paso - El cursor sigue los enlaces en lugar de
+     * buscar cada índice desde la cabeza.</p>
+     */
+    @Override
+    public CursorVentas cursor() {
+        return new CursorNodos(() -> cabeza);
+    }
+
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(1)</b></p>
@@ -254,7 +312,7 @@ public class ListaDobleRepositorio implements RepositorioVentas, OperacionesAvan
 
     /**
      * {@inheritDoc}
-     * <p><b>Complejidad: O(n^2)</b> - Delega a un algoritmo de búsqueda de duplicados anidado.</p>
+     * <p><b>Complejidad: O(n) esperado</b> - Delega a una búsqueda de duplicados basada en hash.</p>
      */
     @Override
     public List<Integer> encontrarIndicesDeDuplicados() {
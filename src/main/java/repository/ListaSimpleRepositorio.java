@@ -1,5 +1,7 @@
 package repository;
 
+import model.CursorNodos;
+import model.CursorVentas;
 import model.INodo;
 import model.NodoSimple;
 import model.OperacionesAvanzadasLista;
@@ -8,15 +10,22 @@ import util.BuscadorListaUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
 /**
  * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
  * utilizando una <b>lista simplemente enlazada</b>.
  * <p>
- * Esta implementación solo mantiene un puntero a la cabeza (primer elemento),
- * lo que hace que las operaciones al inicio de la lista sean muy eficientes (O(1)),
- * pero las operaciones que requieren acceder al final de la lista son ineficientes (O(n))
- * ya que se debe recorrer toda la estructura.
+ * Esta implementación mantiene un puntero a la cabeza (primer elemento) y otro a la
+ * cola (último elemento), lo que hace que las inserciones en ambos extremos sean muy
+ * eficientes (O(1)). Eliminar el último elemento sigue siendo O(n), ya que una lista
+ * simple no puede retroceder desde la cola hasta el penúltimo nodo.
+ * </p>
+ * <p>
+ * Además, recuerda el último nodo accedido por índice (un "cursor"). Los accesos a un
+ * índice igual o posterior al del cursor continúan desde él en lugar de volver a la
+ * cabeza, por lo que los recorridos secuenciales con {@code obtener(i)} cuestan
+ * O(1) amortizado por elemento.
  * </p>
  */
 public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAvanzadasLista {
@@ -26,33 +35,47 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
      */
     private NodoSimple cabeza;
 
+    /**
+     * Puntero al último nodo de la lista.
+     */
+    private NodoSimple cola;
+
     /**
      * Número de elementos actualmente en la lista.
      */
     private int count;
 
+    /**
+     * Último nodo accedido por índice, o {@code null} si el cursor no es válido.
+     */
+    private NodoSimple cursorNodo;
+
+    /**
+     * Índice del nodo apuntado por {@code cursorNodo}.
+     */
+    private int cursorIndice;
+
     public ListaSimpleRepositorio() {
         this.cabeza = null;
+        this.cola = null;
         this.count = 0;
+        invalidarCursor();
     }
 
     //region Implementación de RepositorioVentas (CRUD)
     /**
      * {@inheritDoc}
-     * <p><b>Complejidad: O(n)</b> - Requiere recorrer toda la lista para encontrar
-     * el último nodo antes de poder insertar el nuevo elemento.</p>
+     * <p><b>Complejidad: O(1)</b> - La operación es de tiempo constante gracias
+     * al puntero {@code cola}.</p>
      */
     @Override
     public boolean agregarAlFinal(double valor) {
         NodoSimple nuevoNodo = new NodoSimple(valor);
         if (cabeza == null) {
-            cabeza = nuevoNodo;
+            cabeza = cola = nuevoNodo;
         } else {
-            NodoSimple p = cabeza;
-            while (p.getSiguiente() != null) {
-                p = (NodoSimple) p.getSiguiente();
-            }
-            p.setSiguiente(nuevoNodo);
+            cola.setSiguiente(nuevoNodo);
+            cola = nuevoNodo;
         }
         count++;
         return true;
@@ -68,6 +91,13 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
         NodoSimple nuevoNodo = new NodoSimple(valor);
         nuevoNodo.setSiguiente(cabeza);
         cabeza = nuevoNodo;
+        if (cola == null) {
+            cola = nuevoNodo;
+        }
+        // Todos los índices existentes se desplazan una posición.
+        if (cursorNodo != null) {
+            cursorIndice++;
+        }
         count++;
         return true;
     }
@@ -75,7 +105,8 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - La búsqueda del nodo en el índice especificado
-     * es O(n), aunque la inserción en sí misma es O(1).</p>
+     * es O(n) (O(1) amortizado si se avanza secuencialmente desde el cursor), aunque
+     * la inserción en sí misma es O(1).</p>
      */
     @Override
     public boolean insertarDespuesDe(int indice, double valor) {
@@ -88,7 +119,11 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
 
         nuevoNodo.setSiguiente((NodoSimple) nodoActual.getSiguiente());
         nodoActual.setSiguiente(nuevoNodo);
+        if (nodoActual == cola) {
+            cola = nuevoNodo;
+        }
 
+        // El cursor queda en 'indice', cuyos nodos anteriores no cambian de posición.
         count++;
         return true;
     }
@@ -117,12 +152,15 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
             return false;
         }
         if (indice == 0) { // Caso especial: eliminar la cabeza (O(1)).
-            cabeza = (NodoSimple) cabeza.getSiguiente();
-        } else {
-            // Se busca el nodo *anterior* al que se va a eliminar (O(n)).
-            NodoSimple nodoAnterior = obtenerNodoEn(indice - 1);
-            NodoSimple nodoAEliminar = (NodoSimple) nodoAnterior.getSiguiente();
-            nodoAnterior.setSiguiente((NodoSimple) nodoAEliminar.getSiguiente());
+            return eliminarAlInicio();
+        }
+        // Se busca el nodo *anterior* al que se va a eliminar (O(n)).
+        // El cursor queda en 'indice - 1', que no cambia de posición.
+        NodoSimple nodoAnterior = obtenerNodoEn(indice - 1);
+        NodoSimple nodoAEliminar = (NodoSimple) nodoAnterior.getSiguiente();
+        nodoAnterior.setSiguiente((NodoSimple) nodoAEliminar.getSiguiente());
+        if (nodoAEliminar == cola) {
+            cola = nodoAnterior;
         }
         count--;
         return true;
@@ -138,6 +176,17 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
             return false;
         }
         cabeza = (NodoSimple) cabeza.getSiguiente();
+        if (cabeza == null) {
+            cola = null;
+        }
+        // Todos los índices restantes retroceden una posición.
+        if (cursorNodo != null) {
+            if (cursorIndice == 0) {
+                invalidarCursor();
+            } else {
+                cursorIndice--;
+            }
+        }
         count--;
         return true;
     }
@@ -145,7 +194,7 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(n)</b> - Requiere recorrer la lista hasta el penúltimo
-     * elemento para poder desvincular el último.</p>
+     * elemento para poder desvincular el último (desde el cursor, si está antes).</p>
      */
     @Override
     public boolean eliminarAlFinal() {
@@ -153,11 +202,13 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
             return false;
         }
         if (count == 1) {
-            cabeza = null;
+            cabeza = cola = null;
+            invalidarCursor();
         } else {
-            // Se debe recorrer hasta el penúltimo nodo.
+            // Se debe recorrer hasta el penúltimo nodo, que pasa a ser la cola.
             NodoSimple penultimo = obtenerNodoEn(count - 2);
             penultimo.setSiguiente(null);
+            cola = penultimo;
         }
         count--;
         return true;
@@ -165,7 +216,44 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
 
     /**
      * {@inheritDoc}
-     * <p><b>Complejidad: O(n)</b> - Requiere recorrer la lista para encontrar el nodo.</p>
+     * <p><b>Complejidad: O(n)</b> - Un único recorrido que desenlaza los nodos indicados.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        if (indices.length == 0) {
+            return 0;
+        }
+        NodoSimple anterior = null;
+        NodoSimple actual = cabeza;
+        int k = 0;
+        for (int i = 0; actual != null && k < indices.length; i++) {
+            NodoSimple siguiente = (NodoSimple) actual.getSiguiente();
+            if (indices[k] == i) {
+                if (anterior == null) {
+                    cabeza = siguiente;
+                } else {
+                    anterior.setSiguiente(siguiente);
+                }
+                if (actual == cola) {
+                    cola = anterior;
+                }
+                k++;
+            } else {
+                anterior = actual;
+            }
+            actual = siguiente;
+        }
+        count -= indices.length;
+        invalidarCursor(); // Las posiciones han cambiado.
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Requiere recorrer la lista para encontrar el nodo.
+     * Los accesos con índices crecientes (ej. un bucle {@code for}) son O(1) amortizado
+     * gracias al cursor, y el acceso al último elemento es O(1).</p>
      */
     @Override
     public double obtener(int indice) {
@@ -190,6 +278,27 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
         return lista;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre los nodos siguiendo los enlaces.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (INodo p = cabeza; p != null; p = p.getSiguiente()) {
+            accion.accept(p.getValor());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> por paso - El cursor sigue los enlaces en lugar de
+     * buscar cada índice desde la cabeza.</p>
+     */
+    @Override
+    public CursorVentas cursor() {
+        return new CursorNodos(() -> cabeza);
+    }
+
     /**
      * {@inheritDoc}
      * <p><b>Complejidad: O(1)</b></p>
@@ -234,7 +343,10 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
             prev = curr;
             curr = nextTemp;
         }
+        cola = cabeza;
         cabeza = prev;
+        // Las posiciones de todos los nodos cambian.
+        invalidarCursor();
     }
 
     /**
@@ -248,7 +360,7 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
 
     /**
      * {@inheritDoc}
-     * <p><b>Complejidad: O(n^2)</b> - Delega a un algoritmo de búsqueda de duplicados anidado.</p>
+     * <p><b>Complejidad: O(n) esperado</b> - Delega a una búsqueda de duplicados basada en hash.</p>
      */
     @Override
     public List<Integer> encontrarIndicesDeDuplicados() {
@@ -258,17 +370,42 @@ public class ListaSimpleRepositorio implements RepositorioVentas, OperacionesAva
 
     //region Métodos de Ayuda (Privados)
     /**
-     * Método de ayuda que recorre la lista desde la cabeza hasta encontrar el
-     * nodo en un índice específico.
+     * Método de ayuda que encuentra el nodo en un índice específico.
+     * <p>
+     * El último nodo se obtiene directamente de {@code cola}. Para el resto, el
+     * recorrido parte del cursor si este se encuentra en el índice buscado o antes,
+     * y desde la cabeza en caso contrario. Al terminar, el cursor apunta al nodo hallado.
+     * </p>
      * @param indice El índice del nodo a obtener.
      * @return El {@code NodoSimple} en la posición dada.
      */
     private NodoSimple obtenerNodoEn(int indice) {
-        NodoSimple p = cabeza;
-        for (int k = 0; k < indice; k++) {
+        if (indice == count - 1) {
+            return cola;
+        }
+        NodoSimple p;
+        int k;
+        if (cursorNodo != null && cursorIndice <= indice) {
+            p = cursorNodo;
+            k = cursorIndice;
+        } else {
+            p = cabeza;
+            k = 0;
+        }
+        for (; k < indice; k++) {
             p = (NodoSimple) p.getSiguiente();
         }
+        cursorNodo = p;
+        cursorIndice = indice;
         return p;
     }
+
+    /**
+     * Descarta el cursor, obligando al siguiente acceso por índice a partir de la cabeza.
+     */
+    private void invalidarCursor() {
+        cursorNodo = null;
+        cursorIndice = -1;
+    }
     //endregion
 }
@@ -0,0 +1,376 @@
+package repository;
+
+import model.OperacionesAvanzadasLista;
+import model.PoliticaCrecimiento;
+import model.RegistrosMensuales;
+import model.RepositorioVentas;
+import util.BuscadorListaUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * Implementa {@link RegistrosMensuales} con un <b>almacenamiento columnar</b>: las ventas
+ * y los objetivos se guardan en dos arrays primitivos alineados que comparten un único
+ * contador de registros.
+ * <p>
+ * Una misma posición lógica identifica ambos valores, así que cada operación estructural
+ * se valida una sola vez y desplaza las dos columnas juntas; ventas y objetivos no pueden
+ * desincronizarse. Los arrays crecen al llenarse duplicando su capacidad.
+ * </p>
+ * <p>
+ * Las vistas {@link #ventas()} y {@link #objetivos()} cumplen {@link RepositorioVentas} y
+ * {@link OperacionesAvanzadasLista} sobre su columna. Leer, actualizar, buscar o invertir
+ * a través de una vista solo afecta a esa columna; en cambio, insertar o eliminar a
+ * través de una vista inserta o elimina el <b>registro completo</b> (la otra columna
+ * recibe {@code 0.0} al insertar), preservando la alineación.
+ * </p>
+ */
+public class RegistrosColumnares implements RegistrosMensuales {
+
+    private static final int COLUMNA_VENTAS = 0;
+    private static final int COLUMNA_OBJETIVOS = 1;
+
+    /**
+     * Las columnas de datos, indexadas por {@code COLUMNA_VENTAS} y {@code COLUMNA_OBJETIVOS}.
+     * Ambas tienen siempre la misma longitud.
+     */
+    private final double[][] columnas;
+
+    /**
+     * Número de registros almacenados (común a ambas columnas).
+     */
+    private int count;
+
+    private final Columna vistaVentas;
+    private final Columna vistaObjetivos;
+
+    /**
+     * Construye un almacén columnar vacío.
+     *
+     * @param capacidadInicial El número de registros que caben antes del primer crecimiento.
+     * @throws IllegalArgumentException si la capacidad es menor o igual a cero.
+     */
+    public RegistrosColumnares(int capacidadInicial) {
+        if (capacidadInicial <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser un número positivo.");
+        }
+        this.columnas = new double[2][capacidadInicial];
+        this.count = 0;
+        this.vistaVentas = new Columna(COLUMNA_VENTAS);
+        this.vistaObjetivos = new Columna(COLUMNA_OBJETIVOS);
+    }
+
+    //region Implementación de RegistrosMensuales
+    @Override
+    public RepositorioVentas ventas() {
+        return vistaVentas;
+    }
+
+    @Override
+    public RepositorioVentas objetivos() {
+        return vistaObjetivos;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Se desplazan ambas columnas con {@link System#arraycopy}.</p>
+     */
+    @Override
+    public boolean agregarAlInicio(double venta, double objetivo) {
+        insertarFila(0, venta, objetivo);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1) amortizado</b></p>
+     */
+    @Override
+    public boolean agregarAlFinal(double venta, double objetivo) {
+        insertarFila(count, venta, objetivo);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Una sola validación y un desplazamiento por columna.</p>
+     */
+    @Override
+    public boolean insertarDespuesDe(int indice, double venta, double objetivo) {
+        if (indice < 0 || indice >= count) {
+            return false; // Índice inválido.
+        }
+        insertarFila(indice + 1, venta, objetivo);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        int aMover = count - indice - 1;
+        for (double[] columna : columnas) {
+            System.arraycopy(columna, indice + 1, columna, indice, aMover);
+            columna[count - 1] = 0.0; // Opcional: limpiar para evitar datos fantasma.
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    @Override
+    public boolean eliminarAlInicio() {
+        return eliminar(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public boolean eliminarAlFinal() {
+        return eliminar(count - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Compactación de ambas columnas en una sola pasada.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        if (indices.length == 0) {
+            return 0;
+        }
+        double[] ventas = columnas[COLUMNA_VENTAS];
+        double[] objetivos = columnas[COLUMNA_OBJETIVOS];
+        int escritura = indices[0];
+        int k = 0;
+        for (int lectura = indices[0]; lectura < count; lectura++) {
+            if (k < indices.length && indices[k] == lectura) {
+                k++; // Registro eliminado: no se copia.
+            } else {
+                ventas[escritura] = ventas[lectura];
+                objetivos[escritura] = objetivos[lectura];
+                escritura++;
+            }
+        }
+        for (double[] columna : columnas) {
+            Arrays.fill(columna, escritura, count, 0.0);
+        }
+        count = escritura;
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public int tamano() {
+        return count;
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Inserta un registro en la posición indicada, creciendo las columnas si es necesario.
+     */
+    private void insertarFila(int posicion, double venta, double objetivo) {
+        if (count == columnas[0].length) {
+            int nuevaCapacidad = PoliticaCrecimiento.DUPLICAR.calcularNuevaCapacidad(columnas[0].length, count + 1, 0);
+            for (int c = 0; c < columnas.length; c++) {
+                columnas[c] = Arrays.copyOf(columnas[c], nuevaCapacidad);
+            }
+        }
+        int aMover = count - posicion;
+        for (double[] columna : columnas) {
+            System.arraycopy(columna, posicion, columna, posicion + 1, aMover);
+        }
+        columnas[COLUMNA_VENTAS][posicion] = venta;
+        columnas[COLUMNA_OBJETIVOS][posicion] = objetivo;
+        count++;
+    }
+
+    /**
+     * Inserta un registro desde una vista de columna: la otra columna recibe {@code 0.0}.
+     */
+    private void insertarFilaDesde(int columna, int posicion, double valor) {
+        if (columna == COLUMNA_VENTAS) {
+            insertarFila(posicion, valor, 0.0);
+        } else {
+            insertarFila(posicion, 0.0, valor);
+        }
+    }
+    //endregion
+
+    //region Vista de Columna
+    /**
+     * Vista {@link RepositorioVentas} de una de las columnas. No guarda datos propios:
+     * lee el array actual de la columna en cada operación, ya que este se reemplaza al crecer.
+     */
+    private final class Columna implements RepositorioVentas, OperacionesAvanzadasLista {
+
+        private final int columna;
+
+        private Columna(int columna) {
+            this.columna = columna;
+        }
+
+        private double[] datos() {
+            return columnas[columna];
+        }
+
+        @Override
+        public boolean agregarAlInicio(double valor) {
+            insertarFilaDesde(columna, 0, valor);
+            return true;
+        }
+
+        @Override
+        public boolean agregarAlFinal(double valor) {
+            insertarFilaDesde(columna, count, valor);
+            return true;
+        }
+
+        @Override
+        public boolean insertarDespuesDe(int indice, double valor) {
+            if (indice < 0 || indice >= count) {
+                return false;
+            }
+            insertarFilaDesde(columna, indice + 1, valor);
+            return true;
+        }
+
+        @Override
+        public boolean actualizar(int indice, double nuevoValor) {
+            if (indice < 0 || indice >= count) {
+                return false;
+            }
+            datos()[indice] = nuevoValor;
+            return true;
+        }
+
+        @Override
+        public boolean eliminar(int indice) {
+            return RegistrosColumnares.this.eliminar(indice);
+        }
+
+        @Override
+        public boolean eliminarAlInicio() {
+            return RegistrosColumnares.this.eliminarAlInicio();
+        }
+
+        @Override
+        public boolean eliminarAlFinal() {
+            return RegistrosColumnares.this.eliminarAlFinal();
+        }
+
+        @Override
+        public int eliminarIndices(int[] indices) {
+            return RegistrosColumnares.this.eliminarIndices(indices);
+        }
+
+        @Override
+        public double obtener(int indice) {
+            if (indice < 0 || indice >= count) {
+                throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice + ", tamaño actual: " + count);
+            }
+            return datos()[indice];
+        }
+
+        @Override
+        public List<Double> obtenerTodos() {
+            double[] datos = datos();
+            List<Double> lista = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                lista.add(datos[i]);
+            }
+            return lista;
+        }
+
+        @Override
+        public void recorrer(DoubleConsumer accion) {
+            double[] datos = datos();
+            for (int i = 0; i < count; i++) {
+                accion.accept(datos[i]);
+            }
+        }
+
+        @Override
+        public double[] aArray(double[] destino) {
+            double[] resultado = (destino != null && destino.length >= count) ? destino : new double[count];
+            System.arraycopy(datos(), 0, resultado, 0, count);
+            return resultado;
+        }
+
+        @Override
+        public DoubleStream flujo() {
+            return Arrays.stream(datos(), 0, count);
+        }
+
+        @Override
+        public int tamano() {
+            return count;
+        }
+
+        @Override
+        public int buscarIndiceDe(double valor) {
+            double[] datos = datos();
+            for (int i = 0; i < count; i++) {
+                if (datos[i] == valor) {
+                    return i;
+                }
+            }
+            return -1; // Valor no encontrado.
+        }
+
+        @Override
+        public boolean soportaOperacionesAvanzadas() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>Solo se invierte esta columna; la otra conserva su orden.</p>
+         */
+        @Override
+        public void invertir() {
+            double[] datos = datos();
+            for (int i = 0, j = count - 1; i < j; i++, j--) {
+                double temp = datos[i];
+                datos[i] = datos[j];
+                datos[j] = temp;
+            }
+        }
+
+        @Override
+        public int buscarPrimeroMayor(double umbral) {
+            double[] datos = datos();
+            for (int i = 0; i < count; i++) {
+                if (datos[i] >= umbral) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public List<Integer> encontrarIndicesDeDuplicados() {
+            return BuscadorListaUtil.encontrarIndicesDeDuplicados(datos(), count);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,265 @@
+package repository;
+
+import model.CursorVentas;
+import model.RegistrosMensuales;
+import model.RepositorioVentas;
+
+/**
+ * Decorador de {@link RegistrosMensuales} que mantiene en caché los indicadores del
+ * almacén: los agregados de cada columna ({@link RepositorioConAgregados}) y el número de
+ * meses con objetivo y de meses <b>cumplidos</b> (venta mayor o igual a un objetivo
+ * positivo, el mismo criterio que muestra el Dashboard).
+ * <p>
+ * Las operaciones de registro completo se delegan en el almacén decorado (conservando su
+ * atomicidad y su costo) y después se informan a ambas columnas. El recuento de meses
+ * cumplidos se ajusta en O(1) al insertar, eliminar o actualizar un registro; las
+ * operaciones que rompen la alineación de las filas (insertar o eliminar en una sola
+ * columna, invertir una columna, eliminar en bloque) lo invalidan y se recalcula con una
+ * pasada O(n) en la siguiente consulta.
+ * </p>
+ */
+public class RegistrosConAgregados implements RegistrosMensuales {
+
+    private final RegistrosMensuales delegado;
+    private final Columna ventas;
+    private final Columna objetivos;
+
+    /**
+     * Indica si {@link #cumplidos} y {@link #conObjetivo} están al día.
+     */
+    private boolean indicadoresValidos;
+    private int cumplidos;
+    private int conObjetivo;
+
+    /**
+     * Construye el decorador. Los indicadores se calculan en la primera consulta.
+     *
+     * @param delegado El almacén de registros a decorar.
+     */
+    public RegistrosConAgregados(RegistrosMensuales delegado) {
+        this.delegado = delegado;
+        this.ventas = new Columna(delegado.ventas());
+        this.objetivos = new Columna(delegado.objetivos());
+        this.indicadoresValidos = false;
+    }
+
+    //region Consultas de Indicadores
+    /**
+     * Devuelve el número de meses cuya venta alcanza un objetivo positivo.
+     * <p><b>Complejidad: O(1)</b> (O(n) solo tras una invalidación).</p>
+     *
+     * @return La cantidad de meses cumplidos.
+     */
+    public int mesesCumplidos() {
+        asegurarIndicadores();
+        return cumplidos;
+    }
+
+    /**
+     * Devuelve el número de meses con un objetivo positivo, es decir, los que cuentan
+     * para el porcentaje de cumplimiento.
+     * <p><b>Complejidad: O(1)</b> (O(n) solo tras una invalidación).</p>
+     *
+     * @return La cantidad de meses con objetivo.
+     */
+    public int mesesConObjetivo() {
+        asegurarIndicadores();
+        return conObjetivo;
+    }
+    //endregion
+
+    //region Implementación de RegistrosMensuales
+    @Override
+    public RepositorioConAgregados ventas() {
+        return ventas;
+    }
+
+    @Override
+    public RepositorioConAgregados objetivos() {
+        return objetivos;
+    }
+
+    @Override
+    public boolean agregarAlInicio(double venta, double objetivo) {
+        int tamanoVentas = ventas.tamano();
+        int tamanoObjetivos = objetivos.tamano();
+        boolean exito = delegado.agregarAlInicio(venta, objetivo);
+        despuesDeCambiarFila(tamanoVentas, tamanoObjetivos, 0, 0, venta, objetivo, 1);
+        return exito;
+    }
+
+    @Override
+    public boolean agregarAlFinal(double venta, double objetivo) {
+        int tamanoVentas = ventas.tamano();
+        int tamanoObjetivos = objetivos.tamano();
+        boolean exito = delegado.agregarAlFinal(venta, objetivo);
+        despuesDeCambiarFila(tamanoVentas, tamanoObjetivos, tamanoVentas, tamanoObjetivos, venta, objetivo, 1);
+        return exito;
+    }
+
+    @Override
+    public boolean insertarDespuesDe(int indice, double venta, double objetivo) {
+        int tamanoVentas = ventas.tamano();
+        int tamanoObjetivos = objetivos.tamano();
+        boolean exito = delegado.insertarDespuesDe(indice, venta, objetivo);
+        despuesDeCambiarFila(tamanoVentas, tamanoObjetivos, indice + 1, indice + 1, venta, objetivo, 1);
+        return exito;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Lee antes el registro a eliminar para poder descontarlo de los agregados.</p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        int tamanoVentas = ventas.tamano();
+        int tamanoObjetivos = objetivos.tamano();
+        double venta = (indice >= 0 && indice < tamanoVentas) ? ventas.obtener(indice) : Double.NaN;
+        double objetivo = (indice >= 0 && indice < tamanoObjetivos) ? objetivos.obtener(indice) : Double.NaN;
+        boolean exito = delegado.eliminar(indice);
+        despuesDeCambiarFila(tamanoVentas, tamanoObjetivos, indice, indice, venta, objetivo, -1);
+        return exito;
+    }
+
+    @Override
+    public boolean eliminarAlInicio() {
+        return eliminar(0);
+    }
+
+    @Override
+    public boolean eliminarAlFinal() {
+        return eliminar(tamano() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Invalida todos los agregados, que se recalculan en la siguiente consulta.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        int eliminados = delegado.eliminarIndices(indices);
+        if (eliminados > 0) {
+            ventas.invalidar();
+            objetivos.invalidar();
+            indicadoresValidos = false;
+        }
+        return eliminados;
+    }
+
+    @Override
+    public int tamano() {
+        return delegado.tamano();
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Informa a ambas columnas de un registro insertado ({@code signo} 1) o eliminado
+     * ({@code signo} -1) en la posición indicada de cada una y ajusta los indicadores. El ajuste incremental solo es válido si
+     * las dos columnas tenían y conservan la misma longitud y ambas cambiaron en un
+     * elemento; cualquier otro resultado (por ejemplo, un fallo parcial) los invalida.
+     */
+    private void despuesDeCambiarFila(int tamanoVentas, int tamanoObjetivos, int posicionVenta, int posicionObjetivo,
+                                      double venta, double objetivo, int signo) {
+        if (signo > 0) {
+            ventas.registrarInsercion(posicionVenta, venta);
+            objetivos.registrarInsercion(posicionObjetivo, objetivo);
+        } else {
+            ventas.registrarEliminacion(posicionVenta, venta);
+            objetivos.registrarEliminacion(posicionObjetivo, objetivo);
+        }
+        int nuevasVentas = ventas.tamano();
+        int nuevosObjetivos = objetivos.tamano();
+        if (!indicadoresValidos || (nuevasVentas == tamanoVentas && nuevosObjetivos == tamanoObjetivos)) {
+            return; // Nada que ajustar.
+        }
+        if (tamanoVentas == tamanoObjetivos && nuevasVentas == tamanoVentas + signo && nuevosObjetivos == nuevasVentas) {
+            sumarFila(venta, objetivo, signo);
+        } else {
+            indicadoresValidos = false;
+        }
+    }
+
+    /**
+     * Suma (o resta, con {@code signo} negativo) la contribución de un registro a los indicadores.
+     */
+    private void sumarFila(double venta, double objetivo, int signo) {
+        if (objetivo > 0) {
+            conObjetivo += signo;
+            if (venta >= objetivo) {
+                cumplidos += signo;
+            }
+        }
+    }
+
+    private void asegurarIndicadores() {
+        if (!indicadoresValidos) {
+            recalcularIndicadores();
+        }
+    }
+
+    /**
+     * Recorre ambas columnas en paralelo con sus cursores. Las filas sin venta se tratan
+     * como venta {@code 0.0}, igual que en la tabla del Dashboard.
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    private void recalcularIndicadores() {
+        cumplidos = 0;
+        conObjetivo = 0;
+        CursorVentas cursorVentas = ventas.delegado().cursor();
+        CursorVentas cursorObjetivos = objetivos.delegado().cursor();
+        while (cursorObjetivos.hasNext()) {
+            double objetivo = cursorObjetivos.nextDouble();
+            double venta = cursorVentas.hasNext() ? cursorVentas.nextDouble() : 0.0;
+            sumarFila(venta, objetivo, 1);
+        }
+        indicadoresValidos = true;
+    }
+    //endregion
+
+    //region Vista de Columna
+    /**
+     * Columna con agregados que, además, informa al almacén de los cambios hechos a
+     * través de ella para mantener los indicadores de cumplimiento.
+     */
+    private final class Columna extends RepositorioConAgregados {
+
+        private Columna(RepositorioVentas delegado) {
+            super(delegado);
+        }
+
+        private Columna otra() {
+            return this == ventas ? objetivos : ventas;
+        }
+
+        /**
+         * Un cambio estructural en una sola columna desalinea las filas. En algunos almacenes
+         * (como el columnar) además inserta o elimina en la otra columna, que se resincroniza.
+         */
+        @Override
+        protected void despuesDeCambioEstructural() {
+            otra().sincronizar();
+            indicadoresValidos = false;
+        }
+
+        @Override
+        protected void despuesDeActualizar(int indice, double anterior, double nuevo) {
+            if (!indicadoresValidos) {
+                return;
+            }
+            if (ventas.tamano() != objetivos.tamano()) {
+                indicadoresValidos = false;
+                return;
+            }
+            double valorOtra = otra().obtener(indice);
+            if (this == ventas) {
+                sumarFila(anterior, valorOtra, -1);
+                sumarFila(nuevo, valorOtra, 1);
+            } else {
+                sumarFila(valorOtra, anterior, -1);
+                sumarFila(valorOtra, nuevo, 1);
+            }
+        }
+    }
+    //endregion
+}
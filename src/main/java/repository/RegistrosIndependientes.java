@@ -0,0 +1,113 @@
+package repository;
+
+import model.RegistrosMensuales;
+import model.RepositorioVentas;
+
+import java.util.Arrays;
+
+/**
+ * Implementa {@link RegistrosMensuales} sobre dos {@link RepositorioVentas} independientes,
+ * uno para las ventas y otro para los objetivos.
+ * <p>
+ * Permite usar cualquier estructura de datos del proyecto como columna; a cambio, cada
+ * operación estructural se aplica dos veces (una por repositorio), y en las listas
+ * enlazadas eso implica dos recorridos hasta la posición.
+ * </p>
+ */
+public class RegistrosIndependientes implements RegistrosMensuales {
+
+    private final RepositorioVentas ventas;
+    private final RepositorioVentas objetivos;
+
+    /**
+     * Construye el almacén a partir de los dos repositorios de columna.
+     *
+     * @param ventas    El repositorio de ventas.
+     * @param objetivos El repositorio de objetivos.
+     */
+    public RegistrosIndependientes(RepositorioVentas ventas, RepositorioVentas objetivos) {
+        this.ventas = ventas;
+        this.objetivos = objetivos;
+    }
+
+    @Override
+    public RepositorioVentas ventas() {
+        return ventas;
+    }
+
+    @Override
+    public RepositorioVentas objetivos() {
+        return objetivos;
+    }
+
+    @Override
+    public boolean agregarAlInicio(double venta, double objetivo) {
+        return ventas.agregarAlInicio(venta) && objetivos.agregarAlInicio(objetivo);
+    }
+
+    @Override
+    public boolean agregarAlFinal(double venta, double objetivo) {
+        return ventas.agregarAlFinal(venta) && objetivos.agregarAlFinal(objetivo);
+    }
+
+    @Override
+    public boolean insertarDespuesDe(int indice, double venta, double objetivo) {
+        boolean exitoVenta = ventas.insertarDespuesDe(indice, venta);
+        boolean exitoObjetivo = objetivos.insertarDespuesDe(indice, objetivo);
+        return exitoVenta && exitoObjetivo;
+    }
+
+    @Override
+    public boolean eliminar(int indice) {
+        boolean exitoVenta = ventas.eliminar(indice);
+        boolean exitoObjetivo = objetivos.eliminar(indice);
+        return exitoVenta && exitoObjetivo;
+    }
+
+    @Override
+    public boolean eliminarAlInicio() {
+        // Operación atómica: ambas eliminaciones deben tener éxito.
+        return ventas.eliminarAlInicio() && objetivos.eliminarAlInicio();
+    }
+
+    @Override
+    public boolean eliminarAlFinal() {
+        // Operación atómica: ambas eliminaciones deben tener éxito.
+        return ventas.eliminarAlFinal() && objetivos.eliminarAlFinal();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si las columnas tienen longitudes distintas, a cada una se le aplican solo los
+     * índices que existen en ella.
+     * </p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        ventas.eliminarIndices(indicesValidos(indices, ventas.tamano()));
+        objetivos.eliminarIndices(indicesValidos(indices, objetivos.tamano()));
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Es la longitud de la columna más larga.</p>
+     */
+    @Override
+    public int tamano() {
+        return Math.max(ventas.tamano(), objetivos.tamano());
+    }
+
+    /**
+     * Devuelve el prefijo de índices (ascendentes) que existen en un repositorio de
+     * tamaño dado.
+     */
+    private static int[] indicesValidos(int[] indices, int tamano) {
+        int n = indices.length;
+        while (n > 0 && indices[n - 1] >= tamano) {
+            n--;
+        }
+        return n == indices.length ? indices : Arrays.copyOf(indices, n);
+    }
+}
@@ -0,0 +1,548 @@
+package repository;
+
+import model.CursorVentas;
+import model.OperacionesAvanzadasLista;
+import model.RepositorioVentas;
+import util.IndicePosicional;
+
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * Decorador de {@link RepositorioVentas} que mantiene en caché los <b>agregados</b> de la
+ * serie (cantidad, suma, promedio, mínimo y máximo) y los actualiza en cada mutación.
+ * <p>
+ * La suma y la cantidad se actualizan de forma incremental en O(1). El mínimo y el máximo
+ * también se amplían en O(1) al insertar; solo cuando se elimina o sobrescribe el valor
+ * extremo actual se marcan como inválidos y se <b>recalculan de forma perezosa</b> (una
+ * única pasada O(n)) en la siguiente consulta. Las operaciones en bloque
+ * ({@link #eliminarIndices(int[])}) invalidan todos los agregados.
+ * </p>
+ * <p>
+ * Además ofrece consultas por rango de posiciones ({@link #sumaRango(int, int)},
+ * {@link #maximoRango(int, int)}, etc.) en <b>O(log n) esperado</b> mediante un
+ * {@link IndicePosicional} (treap implícito). Cualquier inserción, eliminación o
+ * actualización mantiene el índice en O(log n) esperado, también en medio de la serie;
+ * solo {@link #eliminarIndices(int[])} y {@link #invertir()} obligan a reconstruirlo en
+ * O(n) en la siguiente consulta por rango.
+ * </p>
+ * <p>
+ * Las búsquedas por valor también se responden desde el índice, con los mismos criterios
+ * de mantenimiento: {@link #buscarPrimeroMayor(double)} desciende por los máximos en
+ * O(log n) y {@link #buscarIndiceDe(double)} localiza la primera aparición del valor con
+ * una tabla hash primitiva y sube hasta la raíz para conocer su posición, en O(log n). El
+ * índice solo se construye con la primera consulta que lo necesita.
+ * </p>
+ * <p>
+ * Para eliminar o actualizar, el decorador lee primero el valor afectado con
+ * {@link RepositorioVentas#obtener(int)}; en las listas enlazadas eso supone un segundo
+ * recorrido hasta la posición, sin cambiar la complejidad de la operación.
+ * </p>
+ * <p>
+ * El resto de las operaciones (lectura, recorrido, inversión y duplicados) se delegan sin
+ * cambios en el repositorio decorado.
+ * </p>
+ */
+public class RepositorioConAgregados implements RepositorioVentas, OperacionesAvanzadasLista {
+
+    private final RepositorioVentas delegado;
+
+    /**
+     * Indica si {@link #cantidad} y {@link #suma} reflejan el contenido del delegado.
+     */
+    private boolean valido;
+
+    /**
+     * Indica si {@link #minimo} y {@link #maximo} son exactos. Solo tiene sentido si {@link #valido}.
+     */
+    private boolean extremosValidos;
+
+    private int cantidad;
+    private double suma;
+    private double minimo;
+    private double maximo;
+
+    /**
+     * Índice de consultas por rango y por valor, construido bajo demanda.
+     */
+    private final IndicePosicional indice;
+    private boolean indiceValido;
+
+    /**
+     * Construye el decorador. Los agregados se calculan en la primera consulta.
+     *
+     * @param delegado El repositorio cuyos valores se agregan.
+     */
+    public RepositorioConAgregados(RepositorioVentas delegado) {
+        this.delegado = delegado;
+        this.valido = false;
+        this.extremosValidos = false;
+        this.indice = new IndicePosicional();
+        this.indiceValido = false;
+    }
+
+    //region Consultas de Agregados
+    /**
+     * Devuelve la suma de todos los valores.
+     * <p><b>Complejidad: O(1)</b> (O(n) solo tras una invalidación).</p>
+     *
+     * @return La suma, o {@code 0.0} si no hay valores.
+     */
+    public double suma() {
+        asegurarValido();
+        return suma;
+    }
+
+    /**
+     * Devuelve la media aritmética de los valores.
+     * <p><b>Complejidad: O(1)</b> (O(n) solo tras una invalidación).</p>
+     *
+     * @return El promedio, o {@code NaN} si no hay valores.
+     */
+    public double promedio() {
+        asegurarValido();
+        return cantidad == 0 ? Double.NaN : suma / cantidad;
+    }
+
+    /**
+     * Devuelve el menor valor.
+     * <p><b>Complejidad: O(1)</b> (O(n) si se eliminó el extremo desde la última consulta).</p>
+     *
+     * @return El mínimo, o {@code NaN} si no hay valores.
+     */
+    public double minimo() {
+        asegurarExtremos();
+        return minimo;
+    }
+
+    /**
+     * Devuelve el mayor valor.
+     * <p><b>Complejidad: O(1)</b> (O(n) si se eliminó el extremo desde la última consulta).</p>
+     *
+     * @return El máximo, o {@code NaN} si no hay valores.
+     */
+    public double maximo() {
+        asegurarExtremos();
+        return maximo;
+    }
+    //endregion
+
+    //region Consultas de Rango
+    /**
+     * Suma los valores de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b> (O(n) si el índice debe reconstruirse).</p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return La suma; {@code 0.0} si el rango está vacío.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     */
+    public double sumaRango(int desde, int hasta) {
+        return indiceActualizado().suma(desde, hasta);
+    }
+
+    /**
+     * Devuelve el menor valor de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b> (O(n) si el índice debe reconstruirse).</p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El mínimo del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double minimoRango(int desde, int hasta) {
+        return indiceActualizado().minimo(desde, hasta);
+    }
+
+    /**
+     * Devuelve el mayor valor de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b> (O(n) si el índice debe reconstruirse).</p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El máximo del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double maximoRango(int desde, int hasta) {
+        return indiceActualizado().maximo(desde, hasta);
+    }
+
+    /**
+     * Devuelve la posición del mayor valor de {@code [desde, hasta)} (la primera, si se repite).
+     * <p><b>Complejidad: O(log n) esperado</b> (O(n) si el índice debe reconstruirse).</p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return La posición (base 0) del máximo.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public int posicionDelMaximo(int desde, int hasta) {
+        return indiceActualizado().indiceDelMaximo(desde, hasta);
+    }
+    //endregion
+
+    //region Implementación de RepositorioVentas
+    @Override
+    public boolean agregarAlInicio(double valor) {
+        boolean exito = delegado.agregarAlInicio(valor);
+        if (exito) {
+            registrarInsercion(0, valor);
+            despuesDeCambioEstructural();
+        }
+        return exito;
+    }
+
+    @Override
+    public boolean agregarAlFinal(double valor) {
+        int posicion = delegado.tamano();
+        boolean exito = delegado.agregarAlFinal(valor);
+        if (exito) {
+            registrarInsercion(posicion, valor);
+            despuesDeCambioEstructural();
+        }
+        return exito;
+    }
+
+    @Override
+    public boolean insertarDespuesDe(int indice, double valor) {
+        boolean exito = delegado.insertarDespuesDe(indice, valor);
+        if (exito) {
+            registrarInsercion(indice + 1, valor);
+            despuesDeCambioEstructural();
+        }
+        return exito;
+    }
+
+    @Override
+    public boolean actualizar(int indice, double nuevoValor) {
+        if (indice < 0 || indice >= delegado.tamano()) {
+            return false;
+        }
+        double anterior = delegado.obtener(indice);
+        boolean exito = delegado.actualizar(indice, nuevoValor);
+        if (exito) {
+            acumularEliminacion(anterior, false);
+            acumularInsercion(nuevoValor, false);
+            if (indiceValido) {
+                this.indice.actualizar(indice, nuevoValor);
+            }
+            despuesDeActualizar(indice, anterior, nuevoValor);
+        }
+        return exito;
+    }
+
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= delegado.tamano()) {
+            return false;
+        }
+        double valor = delegado.obtener(indice);
+        boolean exito = delegado.eliminar(indice);
+        if (exito) {
+            registrarEliminacion(indice, valor);
+            despuesDeCambioEstructural();
+        }
+        return exito;
+    }
+
+    @Override
+    public boolean eliminarAlInicio() {
+        return eliminar(0);
+    }
+
+    @Override
+    public boolean eliminarAlFinal() {
+        return eliminar(delegado.tamano() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Invalida los agregados, que se recalculan en la siguiente consulta.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        int eliminados = delegado.eliminarIndices(indices);
+        if (eliminados > 0) {
+            invalidar();
+            despuesDeCambioEstructural();
+        }
+        return eliminados;
+    }
+
+    @Override
+    public double obtener(int indice) {
+        return delegado.obtener(indice);
+    }
+
+    @Override
+    public List<Double> obtenerTodos() {
+        return delegado.obtenerTodos();
+    }
+
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        delegado.recorrer(accion);
+    }
+
+    @Override
+    public double[] aArray(double[] destino) {
+        return delegado.aArray(destino);
+    }
+
+    @Override
+    public DoubleStream flujo() {
+        return delegado.flujo();
+    }
+
+    @Override
+    public CursorVentas cursor() {
+        return delegado.cursor();
+    }
+
+    @Override
+    public int tamano() {
+        return delegado.tamano();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n) esperado</b> (O(n) si el índice debe reconstruirse).</p>
+     */
+    @Override
+    public int buscarIndiceDe(double valor) {
+        return indiceActualizado().primeraPosicion(valor);
+    }
+
+    @Override
+    public boolean soportaOperacionesAvanzadas() {
+        return delegado.soportaOperacionesAvanzadas();
+    }
+    //endregion
+
+    //region Implementación de OperacionesAvanzadasLista
+    /**
+     * {@inheritDoc}
+     * <p>Invertir no cambia la suma ni los extremos, así que los agregados se conservan;
+     * solo el índice debe reconstruirse.</p>
+     *
+     * @throws UnsupportedOperationException si el repositorio decorado no soporta operaciones avanzadas.
+     */
+    @Override
+    public void invertir() {
+        operacionesAvanzadas().invertir();
+        indiceValido = false;
+        despuesDeCambioEstructural();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n) esperado</b> (O(n) si el índice debe reconstruirse). Se
+     * responde desde el índice, así que funciona aunque el repositorio decorado no soporte
+     * operaciones avanzadas.</p>
+     */
+    @Override
+    public int buscarPrimeroMayor(double umbral) {
+        return indiceActualizado().primeraPosicionMayorOIgual(umbral);
+    }
+
+    @Override
+    public List<Integer> encontrarIndicesDeDuplicados() {
+        return operacionesAvanzadas().encontrarIndicesDeDuplicados();
+    }
+    //endregion
+
+    //region Puntos de Extensión
+    /**
+     * Se invoca tras una inserción, eliminación o reordenamiento realizado a través de
+     * este decorador. Por defecto no hace nada.
+     */
+    protected void despuesDeCambioEstructural() {
+    }
+
+    /**
+     * Se invoca tras actualizar con éxito un valor a través de este decorador.
+     * Por defecto no hace nada.
+     *
+     * @param indice   La posición actualizada.
+     * @param anterior El valor previo.
+     * @param nuevo    El nuevo valor.
+     */
+    protected void despuesDeActualizar(int indice, double anterior, double nuevo) {
+    }
+    //endregion
+
+    //region Mantenimiento de Agregados (Paquete)
+    /**
+     * Registra un valor insertado en el delegado en la posición indicada, también cuando
+     * la inserción se hizo por un camino distinto a este decorador (por ejemplo, una
+     * operación de registro completo del almacén). Si el tamaño del delegado no creció
+     * exactamente en uno, los agregados se ajustan o se invalidan según corresponda.
+     */
+    void registrarInsercion(int posicion, double valor) {
+        int tamano = delegado.tamano();
+        if (indiceValido && tamano != indice.tamano()) {
+            if (tamano == indice.tamano() + 1 && posicion >= 0 && posicion < tamano) {
+                indice.insertar(posicion, valor); // El treap absorbe el desplazamiento.
+            } else {
+                indiceValido = false;
+            }
+        }
+        if (!valido || tamano == cantidad) {
+            return; // Sin agregados en caché, o el delegado no cambió.
+        }
+        if (tamano != cantidad + 1) {
+            invalidar();
+            return;
+        }
+        acumularInsercion(valor, true);
+    }
+
+    /**
+     * Registra un valor eliminado del delegado en la posición indicada, también cuando la
+     * eliminación se hizo por un camino distinto a este decorador. Si el tamaño no bajó
+     * exactamente en uno (la eliminación no ocurrió o afectó a más valores), los agregados
+     * se ajustan o se invalidan según corresponda.
+     */
+    void registrarEliminacion(int posicion, double valor) {
+        int tamano = delegado.tamano();
+        if (indiceValido && tamano != indice.tamano()) {
+            if (tamano == indice.tamano() - 1 && posicion >= 0 && posicion <= tamano) {
+                indice.eliminar(posicion);
+            } else {
+                indiceValido = false;
+            }
+        }
+        if (!valido || tamano == cantidad) {
+            return;
+        }
+        if (tamano != cantidad - 1) {
+            invalidar();
+            return;
+        }
+        acumularEliminacion(valor, true);
+    }
+
+    /**
+     * Invalida los agregados si el tamaño del delegado ya no coincide con la cantidad en
+     * caché, lo que ocurre cuando otra vista del mismo almacén insertó o eliminó valores.
+     */
+    void sincronizar() {
+        int tamano = delegado.tamano();
+        if ((valido && tamano != cantidad) || (indiceValido && tamano != indice.tamano())) {
+            invalidar();
+        }
+    }
+
+    /**
+     * Descarta todos los agregados y el índice; se recalcularán en la siguiente consulta.
+     */
+    void invalidar() {
+        valido = false;
+        extremosValidos = false;
+        indiceValido = false;
+    }
+
+    /**
+     * @return El repositorio decorado.
+     */
+    RepositorioVentas delegado() {
+        return delegado;
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    private void acumularInsercion(double valor, boolean cuenta) {
+        if (!valido) {
+            return;
+        }
+        if (cuenta) {
+            cantidad++;
+        }
+        suma += valor;
+        if (extremosValidos) {
+            if (cantidad == 1) {
+                minimo = valor;
+                maximo = valor;
+            } else {
+                minimo = Math.min(minimo, valor);
+                maximo = Math.max(maximo, valor);
+            }
+        }
+    }
+
+    private void acumularEliminacion(double valor, boolean cuenta) {
+        if (!valido) {
+            return;
+        }
+        if (!Double.isFinite(valor)) {
+            invalidar(); // Restar un infinito o NaN no deshace la suma.
+            return;
+        }
+        if (cuenta) {
+            cantidad--;
+        }
+        suma -= valor;
+        // Si se retira un extremo (o hay un NaN en juego), ya no se conoce el siguiente.
+        if (extremosValidos && !(valor > minimo && valor < maximo)) {
+            extremosValidos = false;
+        }
+    }
+
+    private void asegurarValido() {
+        if (!valido) {
+            recalcular();
+        }
+    }
+
+    private void asegurarExtremos() {
+        if (!valido || !extremosValidos) {
+            recalcular();
+        }
+    }
+
+    /**
+     * Recalcula todos los agregados en una sola pasada, sin crear objetos {@code Double}.
+     * Además de restaurar los extremos, elimina el error de redondeo acumulado en la suma.
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    private void recalcular() {
+        double[] acumulados = {0.0, Double.NaN, Double.NaN};
+        int[] contador = {0};
+        delegado.recorrer(valor -> {
+            acumulados[0] += valor;
+            if (contador[0]++ == 0) {
+                acumulados[1] = valor;
+                acumulados[2] = valor;
+            } else {
+                acumulados[1] = Math.min(acumulados[1], valor);
+                acumulados[2] = Math.max(acumulados[2], valor);
+            }
+        });
+        cantidad = contador[0];
+        suma = acumulados[0];
+        minimo = acumulados[1];
+        maximo = acumulados[2];
+        valido = true;
+        extremosValidos = true;
+    }
+
+    private IndicePosicional indiceActualizado() {
+        if (!indiceValido) {
+            indice.reconstruir(delegado);
+            indiceValido = true;
+        }
+        return indice;
+    }
+
+    private OperacionesAvanzadasLista operacionesAvanzadas() {
+        if (!delegado.soportaOperacionesAvanzadas()) {
+            throw new UnsupportedOperationException("La estructura de datos decorada no soporta operaciones avanzadas.");
+        }
+        return (OperacionesAvanzadasLista) delegado;
+    }
+    //endregion
+}
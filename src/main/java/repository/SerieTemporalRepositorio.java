@@ -0,0 +1,764 @@
+package repository;
+
+import model.OperacionesAvanzadasLista;
+import model.Periodicidad;
+import model.RepositorioVentas;
+import util.BuscadorListaUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
+ * como una <b>serie temporal</b> indexada por periodo y almacenada en bloques de arrays
+ * primitivos.
+ * <p>
+ * La posición {@code i} corresponde al periodo {@code periodoInicial + i} según la
+ * {@link Periodicidad} de la serie (meses, semanas o días), por lo que no hay límite en el
+ * número de periodos: la serie puede abarcar varios años de datos diarios.
+ * </p>
+ * <p>
+ * Los valores se reparten en bloques de tamaño fijo {@code B} (potencia de 2). Cada bloque
+ * mantiene precalculados su suma, mínimo y máximo, que forman las hojas de un árbol de
+ * segmentos sobre los bloques. Las consultas de rango ({@link #sumaRango},
+ * {@link #promedioRango}, {@link #minimoRango}, {@link #maximoRango}) se resuelven en
+ * <b>O(B + log(n/B))</b>: solo se recorren los extremos parciales y el árbol combina los
+ * bloques completos intermedios. Añadir al final actualiza los agregados del último bloque
+ * en O(1) amortizado; las modificaciones en otras posiciones recalculan únicamente los
+ * bloques afectados y sus ancestros en el árbol. Un {@code NaN} se propaga a la suma, el
+ * mínimo y el máximo de su bloque.
+ * </p>
+ */
+public class SerieTemporalRepositorio implements RepositorioVentas, OperacionesAvanzadasLista {
+
+    /**
+     * Exponente por defecto del tamaño de bloque (2^10 = 1024 valores por bloque).
+     */
+    public static final int BITS_BLOQUE_POR_DEFECTO = 10;
+
+    private final Periodicidad periodicidad;
+    private final long periodoInicial;
+
+    private final int bitsBloque;
+    private final int tamanoBloque;
+    private final int mascaraBloque;
+
+    /**
+     * Los bloques de datos. Solo existen los necesarios para {@code count} valores.
+     */
+    private double[][] bloques;
+
+    /**
+     * Árboles de segmentos sobre los agregados de los bloques. Para una capacidad de
+     * {@code bloques.length} bloques, la hoja del bloque {@code b} está en
+     * {@code bloques.length + b} y el nodo {@code i} combina a {@code 2i} y {@code 2i + 1}.
+     * <p>
+     * Los ancestros del último bloque solo se actualizan al completarse: mientras está
+     * incompleto, las consultas lo tratan como un extremo parcial y nunca leen esos nodos.
+     * </p>
+     */
+    private double[] arbolSuma;
+    private double[] arbolMinimo;
+    private double[] arbolMaximo;
+
+    private int numBloques;
+    private int count;
+
+    /**
+     * Construye una serie temporal mensual que comienza en el mes actual.
+     */
+    public SerieTemporalRepositorio() {
+        this(Periodicidad.MENSUAL, LocalDate.now());
+    }
+
+    /**
+     * Construye una serie temporal vacía con el tamaño de bloque por defecto.
+     *
+     * @param periodicidad La granularidad de la serie.
+     * @param inicio       Una fecha del primer periodo de la serie.
+     */
+    public SerieTemporalRepositorio(Periodicidad periodicidad, LocalDate inicio) {
+        this(periodicidad, inicio, BITS_BLOQUE_POR_DEFECTO);
+    }
+
+    /**
+     * Construye una serie temporal vacía con un tamaño de bloque específico.
+     *
+     * @param periodicidad La granularidad de la serie.
+     * @param inicio       Una fecha del primer periodo de la serie.
+     * @param bitsBloque   El exponente del tamaño de bloque ({@code B = 2^bitsBloque}).
+     * @throws IllegalArgumentException si {@code bitsBloque} no está entre 1 y 20.
+     */
+    public SerieTemporalRepositorio(Periodicidad periodicidad, LocalDate inicio, int bitsBloque) {
+        if (bitsBloque < 1 || bitsBloque > 20) {
+            throw new IllegalArgumentException("El exponente del tamaño de bloque debe estar entre 1 y 20.");
+        }
+        this.periodicidad = periodicidad;
+        this.periodoInicial = periodicidad.periodoDe(inicio);
+        this.bitsBloque = bitsBloque;
+        this.tamanoBloque = 1 << bitsBloque;
+        this.mascaraBloque = tamanoBloque - 1;
+        this.bloques = new double[4][];
+        crearArboles(4);
+        this.numBloques = 0;
+        this.count = 0;
+    }
+
+    //region Implementación de RepositorioVentas (CRUD)
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Desplaza todos los valores un periodo hacia adelante.</p>
+     */
+    @Override
+    public boolean agregarAlInicio(double valor) {
+        insertarEn(0, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1) amortizado</b> - Los agregados del último bloque se
+     * actualizan de forma incremental y el árbol de segmentos solo se recorre una vez
+     * por cada {@code B} valores, al completarse el bloque.</p>
+     */
+    @Override
+    public boolean agregarAlFinal(double valor) {
+        asegurarBloquePara(count);
+        int b = count >>> bitsBloque;
+        int desplazamiento = count & mascaraBloque;
+        int hoja = bloques.length + b;
+        bloques[b][desplazamiento] = valor;
+        if (desplazamiento == 0) {
+            arbolSuma[hoja] = valor;
+            arbolMinimo[hoja] = valor;
+            arbolMaximo[hoja] = valor;
+        } else {
+            arbolSuma[hoja] += valor;
+            arbolMinimo[hoja] = Math.min(arbolMinimo[hoja], valor);
+            arbolMaximo[hoja] = Math.max(arbolMaximo[hoja], valor);
+        }
+        count++;
+        if (desplazamiento == mascaraBloque) {
+            propagarDesde(b); // El bloque se ha completado.
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Desplaza los valores posteriores y recalcula los
+     * bloques afectados.</p>
+     */
+    @Override
+    public boolean insertarDespuesDe(int indice, double valor) {
+        if (indice < 0 || indice >= count) {
+            return false; // Índice inválido.
+        }
+        insertarEn(indice + 1, valor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(B + log(n/B))</b> - Se recalculan los agregados de un único
+     * bloque y de sus ancestros en el árbol de segmentos.</p>
+     */
+    @Override
+    public boolean actualizar(int indice, double nuevoValor) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        int b = indice >>> bitsBloque;
+        bloques[b][indice & mascaraBloque] = nuevoValor;
+        recalcularBloque(b);
+        propagarDesde(b);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Desplaza los valores posteriores y recalcula los
+     * bloques afectados.</p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= count) {
+            return false;
+        }
+        int ultimo = count - 1;
+        int bInicio = indice >>> bitsBloque;
+        int bFin = ultimo >>> bitsBloque;
+        for (int b = bInicio; b <= bFin; b++) {
+            double[] actual = bloques[b];
+            int inicio = (b == bInicio) ? (indice & mascaraBloque) : 0;
+            int fin = (b == bFin) ? (ultimo & mascaraBloque) : mascaraBloque;
+            System.arraycopy(actual, inicio + 1, actual, inicio, fin - inicio);
+            if (b < bFin) {
+                actual[mascaraBloque] = bloques[b + 1][0]; // El primer valor del bloque siguiente pasa a este.
+            }
+        }
+        bloques[bFin][ultimo & mascaraBloque] = 0.0; // Opcional: limpiar para evitar datos fantasma.
+        count--;
+        recalcularDesde(bInicio);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    @Override
+    public boolean eliminarAlInicio() {
+        return eliminar(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(B + log(n/B))</b> - Solo se recalcula el último bloque y sus
+     * ancestros.</p>
+     */
+    @Override
+    public boolean eliminarAlFinal() {
+        return eliminar(count - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Compactación en una sola pasada y recálculo de los
+     * bloques a partir del primer índice eliminado.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, count);
+        if (indices.length == 0) {
+            return 0;
+        }
+        int escritura = indices[0];
+        int k = 0;
+        for (int lectura = indices[0]; lectura < count; lectura++) {
+            if (k < indices.length && indices[k] == lectura) {
+                k++;
+            } else {
+                bloques[escritura >>> bitsBloque][escritura & mascaraBloque] = bloques[lectura >>> bitsBloque][lectura & mascaraBloque];
+                escritura++;
+            }
+        }
+        for (int i = escritura; i < count; i++) {
+            bloques[i >>> bitsBloque][i & mascaraBloque] = 0.0;
+        }
+        count = escritura;
+        recalcularDesde(indices[0] >>> bitsBloque);
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public double obtener(int indice) {
+        if (indice < 0 || indice >= count) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice + ", tamaño actual: " + count);
+        }
+        return bloques[indice >>> bitsBloque][indice & mascaraBloque];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    @Override
+    public List<Double> obtenerTodos() {
+        List<Double> lista = new ArrayList<>(count);
+        recorrer(lista::add);
+        return lista;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorre cada bloque de forma secuencial.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        for (int b = 0; b < numBloques; b++) {
+            double[] actual = bloques[b];
+            int cantidad = cantidadEnBloque(b);
+            for (int i = 0; i < cantidad; i++) {
+                accion.accept(actual[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Una copia en bloque por cada bloque.</p>
+     */
+    @Override
+    public double[] aArray(double[] destino) {
+        double[] resultado = (destino != null && destino.length >= count) ? destino : new double[count];
+        for (int b = 0; b < numBloques; b++) {
+            System.arraycopy(bloques[b], 0, resultado, b << bitsBloque, cantidadEnBloque(b));
+        }
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b></p>
+     */
+    @Override
+    public int tamano() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Realiza una búsqueda lineal.</p>
+     */
+    @Override
+    public int buscarIndiceDe(double valor) {
+        for (int b = 0; b < numBloques; b++) {
+            double[] actual = bloques[b];
+            int cantidad = cantidadEnBloque(b);
+            for (int i = 0; i < cantidad; i++) {
+                if (actual[i] == valor) {
+                    return (b << bitsBloque) + i;
+                }
+            }
+        }
+        return -1; // Valor no encontrado.
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Siempre {@code true}, ya que esta implementación soporta todas las operaciones avanzadas.
+     */
+    @Override
+    public boolean soportaOperacionesAvanzadas() {
+        return true;
+    }
+    //endregion
+
+    //region Implementación de OperacionesAvanzadasLista
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Intercambia los extremos y recalcula todos los bloques.</p>
+     */
+    @Override
+    public void invertir() {
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            double[] bi = bloques[i >>> bitsBloque];
+            double[] bj = bloques[j >>> bitsBloque];
+            double temp = bi[i & mascaraBloque];
+            bi[i & mascaraBloque] = bj[j & mascaraBloque];
+            bj[j & mascaraBloque] = temp;
+        }
+        recalcularDesde(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n/B + B)</b> - Se descartan los bloques cuyo máximo no alcanza
+     * el umbral y solo se recorre el primer bloque candidato.</p>
+     */
+    @Override
+    public int buscarPrimeroMayor(double umbral) {
+        for (int b = 0; b < numBloques; b++) {
+            if (arbolMaximo[bloques.length + b] < umbral) {
+                continue; // Ningún valor del bloque alcanza el umbral.
+            }
+            double[] actual = bloques[b];
+            int cantidad = cantidadEnBloque(b);
+            for (int i = 0; i < cantidad; i++) {
+                if (actual[i] >= umbral) {
+                    return (b << bitsBloque) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n) esperado</b> - Vuelca los bloques a un array y delega en la
+     * detección basada en hash de {@link BuscadorListaUtil}.</p>
+     */
+    @Override
+    public List<Integer> encontrarIndicesDeDuplicados() {
+        return BuscadorListaUtil.encontrarIndicesDeDuplicados(aArray(null), count);
+    }
+    //endregion
+
+    //region Consultas de Rango
+    /**
+     * Suma los valores de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(B + log(n/B))</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return La suma; {@code 0.0} si el rango está vacío.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     */
+    public double sumaRango(int desde, int hasta) {
+        validarRango(desde, hasta);
+        if (desde == hasta) {
+            return 0.0;
+        }
+        int bDesde = desde >>> bitsBloque;
+        int bHasta = hasta >>> bitsBloque;
+        if (bDesde == bHasta) {
+            return sumar(bloques[bDesde], desde & mascaraBloque, hasta & mascaraBloque);
+        }
+        double suma = sumar(bloques[bDesde], desde & mascaraBloque, tamanoBloque) + sumaBloques(bDesde + 1, bHasta);
+        if ((hasta & mascaraBloque) > 0) {
+            suma += sumar(bloques[bHasta], 0, hasta & mascaraBloque);
+        }
+        return suma;
+    }
+
+    /**
+     * Calcula el promedio de los valores de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(B + log(n/B))</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El promedio del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double promedioRango(int desde, int hasta) {
+        validarRangoNoVacio(desde, hasta);
+        return sumaRango(desde, hasta) / (hasta - desde);
+    }
+
+    /**
+     * Devuelve el menor valor de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(B + log(n/B))</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El mínimo del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double minimoRango(int desde, int hasta) {
+        validarRangoNoVacio(desde, hasta);
+        int bDesde = desde >>> bitsBloque;
+        int bHasta = (hasta - 1) >>> bitsBloque;
+        if (bDesde == bHasta) {
+            return minimo(bloques[bDesde], desde & mascaraBloque, ((hasta - 1) & mascaraBloque) + 1);
+        }
+        double min = Math.min(minimo(bloques[bDesde], desde & mascaraBloque, tamanoBloque), minimoBloques(bDesde + 1, bHasta));
+        return Math.min(min, minimo(bloques[bHasta], 0, ((hasta - 1) & mascaraBloque) + 1));
+    }
+
+    /**
+     * Devuelve el mayor valor de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(B + log(n/B))</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El máximo del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double maximoRango(int desde, int hasta) {
+        validarRangoNoVacio(desde, hasta);
+        int bDesde = desde >>> bitsBloque;
+        int bHasta = (hasta - 1) >>> bitsBloque;
+        if (bDesde == bHasta) {
+            return maximo(bloques[bDesde], desde & mascaraBloque, ((hasta - 1) & mascaraBloque) + 1);
+        }
+        double max = Math.max(maximo(bloques[bDesde], desde & mascaraBloque, tamanoBloque), maximoBloques(bDesde + 1, bHasta));
+        return Math.max(max, maximo(bloques[bHasta], 0, ((hasta - 1) & mascaraBloque) + 1));
+    }
+    //endregion
+
+    //region Acceso por Periodo
+    public Periodicidad getPeriodicidad() {
+        return periodicidad;
+    }
+
+    /**
+     * Devuelve la posición que corresponde al periodo que contiene una fecha.
+     * El resultado puede quedar fuera de {@code [0, tamano())} si el periodo aún no tiene datos.
+     *
+     * @param fecha La fecha a convertir.
+     * @return El índice (base 0) del periodo dentro de la serie.
+     */
+    public long indiceDe(LocalDate fecha) {
+        return periodicidad.periodoDe(fecha) - periodoInicial;
+    }
+
+    /**
+     * Devuelve la fecha de inicio del periodo de una posición.
+     *
+     * @param indice El índice (base 0) dentro de la serie.
+     * @return El primer día del periodo correspondiente.
+     */
+    public LocalDate fechaDe(int indice) {
+        return periodicidad.inicioDe(periodoInicial + indice);
+    }
+
+    /**
+     * Registra el valor del periodo que contiene una fecha. Si el periodo es posterior al
+     * último registrado, los periodos intermedios se rellenan con {@code 0.0}.
+     * <p><b>Complejidad: O(B + log(n/B))</b> al actualizar, O(1) amortizado por periodo añadido.</p>
+     *
+     * @param fecha Una fecha del periodo.
+     * @param valor El valor a registrar.
+     * @throws IllegalArgumentException si la fecha es anterior al inicio de la serie.
+     */
+    public void registrarEn(LocalDate fecha, double valor) {
+        long indice = indiceDe(fecha);
+        if (indice < 0) {
+            throw new IllegalArgumentException("La fecha " + fecha + " es anterior al inicio de la serie (" + fechaDe(0) + ").");
+        }
+        if (indice >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("La fecha " + fecha + " excede el tamaño máximo de la serie.");
+        }
+        if (indice < count) {
+            actualizar((int) indice, valor);
+            return;
+        }
+        while (count < indice) {
+            agregarAlFinal(0.0);
+        }
+        agregarAlFinal(valor);
+    }
+
+    /**
+     * Suma los valores de los periodos comprendidos entre dos fechas: desde el periodo de
+     * {@code desde} (inclusivo) hasta el de {@code hasta} (exclusivo). Los periodos fuera
+     * de la serie se ignoran.
+     * <p><b>Complejidad: O(B + log(n/B))</b></p>
+     *
+     * @param desde Fecha inicial (su periodo se incluye).
+     * @param hasta Fecha final (su periodo se excluye).
+     * @return La suma de los periodos existentes en el intervalo.
+     */
+    public double sumaEntre(LocalDate desde, LocalDate hasta) {
+        int d = (int) Math.max(0, Math.min(count, indiceDe(desde)));
+        int h = (int) Math.max(d, Math.min(count, indiceDe(hasta)));
+        return sumaRango(d, h);
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    /**
+     * Inserta un valor en la posición indicada desplazando los posteriores un lugar,
+     * de atrás hacia adelante, con una copia en bloque por bloque.
+     */
+    private void insertarEn(int posicion, double valor) {
+        asegurarBloquePara(count);
+        int bInicio = posicion >>> bitsBloque;
+        int bFin = count >>> bitsBloque;
+        for (int b = bFin; b >= bInicio; b--) {
+            double[] actual = bloques[b];
+            if (b < bFin) {
+                bloques[b + 1][0] = actual[mascaraBloque]; // El último valor pasa al bloque siguiente.
+            }
+            int inicio = (b == bInicio) ? (posicion & mascaraBloque) : 0;
+            int fin = (b == bFin) ? (count & mascaraBloque) : mascaraBloque;
+            System.arraycopy(actual, inicio, actual, inicio + 1, fin - inicio);
+        }
+        bloques[bInicio][posicion & mascaraBloque] = valor;
+        count++;
+        recalcularDesde(bInicio);
+    }
+
+    /**
+     * Garantiza que exista el bloque que contendrá la posición indicada.
+     */
+    private void asegurarBloquePara(int indice) {
+        int b = indice >>> bitsBloque;
+        if (b < numBloques) {
+            return;
+        }
+        if (b == bloques.length) {
+            int capacidadAnterior = bloques.length;
+            double[] sumas = Arrays.copyOfRange(arbolSuma, capacidadAnterior, 2 * capacidadAnterior);
+            double[] minimos = Arrays.copyOfRange(arbolMinimo, capacidadAnterior, 2 * capacidadAnterior);
+            double[] maximos = Arrays.copyOfRange(arbolMaximo, capacidadAnterior, 2 * capacidadAnterior);
+            bloques = Arrays.copyOf(bloques, capacidadAnterior * 2);
+            crearArboles(bloques.length);
+            System.arraycopy(sumas, 0, arbolSuma, bloques.length, capacidadAnterior);
+            System.arraycopy(minimos, 0, arbolMinimo, bloques.length, capacidadAnterior);
+            System.arraycopy(maximos, 0, arbolMaximo, bloques.length, capacidadAnterior);
+            reconstruirAncestros(0, capacidadAnterior - 1);
+        }
+        if (bloques[b] == null) {
+            bloques[b] = new double[tamanoBloque];
+        }
+        numBloques = b + 1;
+    }
+
+    /**
+     * Recalcula los agregados de todos los bloques desde {@code bInicio}, descarta los
+     * bloques que hayan quedado vacíos y reconstruye sus ancestros en el árbol.
+     */
+    private void recalcularDesde(int bInicio) {
+        int anteriores = numBloques;
+        numBloques = (count + mascaraBloque) >>> bitsBloque;
+        for (int b = bInicio; b < numBloques; b++) {
+            recalcularBloque(b);
+        }
+        for (int b = Math.max(bInicio, numBloques); b < anteriores; b++) {
+            int hoja = bloques.length + b;
+            arbolSuma[hoja] = 0.0;
+            arbolMinimo[hoja] = Double.POSITIVE_INFINITY;
+            arbolMaximo[hoja] = Double.NEGATIVE_INFINITY;
+        }
+        reconstruirAncestros(Math.min(bInicio, numBloques), Math.max(anteriores, numBloques) - 1);
+    }
+
+    /**
+     * Recalcula la suma, el mínimo y el máximo de un bloque, sin tocar sus ancestros.
+     * <p><b>Complejidad: O(B)</b></p>
+     */
+    private void recalcularBloque(int b) {
+        int cantidad = cantidadEnBloque(b);
+        int hoja = bloques.length + b;
+        arbolSuma[hoja] = sumar(bloques[b], 0, cantidad);
+        arbolMinimo[hoja] = minimo(bloques[b], 0, cantidad);
+        arbolMaximo[hoja] = maximo(bloques[b], 0, cantidad);
+    }
+
+    /**
+     * Crea árboles de segmentos vacíos para {@code capacidad} bloques: sumas a cero y
+     * mínimos y máximos en su elemento neutro.
+     */
+    private void crearArboles(int capacidad) {
+        arbolSuma = new double[2 * capacidad];
+        arbolMinimo = new double[2 * capacidad];
+        arbolMaximo = new double[2 * capacidad];
+        Arrays.fill(arbolMinimo, Double.POSITIVE_INFINITY);
+        Arrays.fill(arbolMaximo, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Recalcula los ancestros de la hoja del bloque {@code b} hasta la raíz.
+     * <p><b>Complejidad: O(log(n/B))</b></p>
+     */
+    private void propagarDesde(int b) {
+        for (int i = (bloques.length + b) >>> 1; i >= 1; i >>>= 1) {
+            combinar(i);
+        }
+    }
+
+    /**
+     * Recalcula, nivel a nivel, los nodos internos que cubren algún bloque de
+     * {@code [bInicio, bFin]}.
+     * <p><b>Complejidad: O(bFin - bInicio + log(n/B))</b></p>
+     */
+    private void reconstruirAncestros(int bInicio, int bFin) {
+        for (int i = (bloques.length + bInicio) >>> 1, j = (bloques.length + bFin) >>> 1; i >= 1; i >>>= 1, j >>>= 1) {
+            for (int k = i; k <= j; k++) {
+                combinar(k);
+            }
+        }
+    }
+
+    private void combinar(int i) {
+        arbolSuma[i] = arbolSuma[2 * i] + arbolSuma[2 * i + 1];
+        arbolMinimo[i] = Math.min(arbolMinimo[2 * i], arbolMinimo[2 * i + 1]);
+        arbolMaximo[i] = Math.max(arbolMaximo[2 * i], arbolMaximo[2 * i + 1]);
+    }
+
+    /**
+     * Suma los bloques {@code [bDesde, bHasta)} subiendo por el árbol de segmentos.
+     * Todos deben estar completos.
+     * <p><b>Complejidad: O(log(n/B))</b></p>
+     */
+    private double sumaBloques(int bDesde, int bHasta) {
+        double suma = 0.0;
+        for (int i = bloques.length + bDesde, j = bloques.length + bHasta; i < j; i >>>= 1, j >>>= 1) {
+            if ((i & 1) == 1) {
+                suma += arbolSuma[i++];
+            }
+            if ((j & 1) == 1) {
+                suma += arbolSuma[--j];
+            }
+        }
+        return suma;
+    }
+
+    /**
+     * Devuelve el mínimo de los bloques completos {@code [bDesde, bHasta)}.
+     * <p><b>Complejidad: O(log(n/B))</b></p>
+     */
+    private double minimoBloques(int bDesde, int bHasta) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = bloques.length + bDesde, j = bloques.length + bHasta; i < j; i >>>= 1, j >>>= 1) {
+            if ((i & 1) == 1) {
+                min = Math.min(min, arbolMinimo[i++]);
+            }
+            if ((j & 1) == 1) {
+                min = Math.min(min, arbolMinimo[--j]);
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Devuelve el máximo de los bloques completos {@code [bDesde, bHasta)}.
+     * <p><b>Complejidad: O(log(n/B))</b></p>
+     */
+    private double maximoBloques(int bDesde, int bHasta) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = bloques.length + bDesde, j = bloques.length + bHasta; i < j; i >>>= 1, j >>>= 1) {
+            if ((i & 1) == 1) {
+                max = Math.max(max, arbolMaximo[i++]);
+            }
+            if ((j & 1) == 1) {
+                max = Math.max(max, arbolMaximo[--j]);
+            }
+        }
+        return max;
+    }
+
+    private int cantidadEnBloque(int b) {
+        return Math.min(tamanoBloque, count - (b << bitsBloque));
+    }
+
+    private void validarRango(int desde, int hasta) {
+        if (desde < 0 || hasta > count || desde > hasta) {
+            throw new IndexOutOfBoundsException("Rango inválido [" + desde + ", " + hasta + "), tamaño actual: " + count);
+        }
+    }
+
+    private void validarRangoNoVacio(int desde, int hasta) {
+        validarRango(desde, hasta);
+        if (desde == hasta) {
+            throw new IllegalArgumentException("El rango [" + desde + ", " + hasta + ") está vacío.");
+        }
+    }
+
+    private static double sumar(double[] valores, int desde, int hasta) {
+        double suma = 0.0;
+        for (int i = desde; i < hasta; i++) {
+            suma += valores[i];
+        }
+        return suma;
+    }
+
+    private static double minimo(double[] valores, int desde, int hasta) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = desde; i < hasta; i++) {
+            min = Math.min(min, valores[i]);
+        }
+        return min;
+    }
+
+    private static double maximo(double[] valores, int desde, int hasta) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = desde; i < hasta; i++) {
+            max = Math.max(max, valores[i]);
+        }
+        return max;
+    }
+    //endregion
+}
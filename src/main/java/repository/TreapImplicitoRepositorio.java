@@ -0,0 +1,443 @@
+package repository;
+
+import model.NodoTreap;
+import model.OperacionesAvanzadasLista;
+import model.RepositorioVentas;
+import util.BuscadorListaUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Implementa las interfaces {@link RepositorioVentas} y {@link OperacionesAvanzadasLista}
+ * utilizando un <b>treap implícito</b> (árbol de estadísticos de orden por posición).
+ * <p>
+ * La secuencia se guarda en un árbol binario balanceado aleatoriamente cuyo recorrido
+ * in-orden coincide con el orden de los elementos. Cada nodo conoce el tamaño de su
+ * subárbol, lo que permite traducir un índice en un descenso de altura esperada
+ * O(log n). Así, {@code obtener}, {@code actualizar}, {@code insertarDespuesDe} y
+ * {@code eliminar} cuestan <b>O(log n)</b> esperado, frente al O(n) de las listas enlazadas.
+ * </p>
+ * <p>
+ * Las inserciones y eliminaciones se implementan con las operaciones clásicas
+ * {@code dividir} (split) y {@code unir} (merge). La inversión se resuelve con una marca
+ * perezosa en la raíz (O(1)) que se propaga a medida que se visitan los nodos.
+ * </p>
+ */
+public class TreapImplicitoRepositorio implements RepositorioVentas, OperacionesAvanzadasLista {
+
+    private NodoTreap raiz;
+
+    /**
+     * Generador de prioridades aleatorias para los nuevos nodos.
+     */
+    private final SplittableRandom aleatorio;
+
+    /**
+     * Resultados de la última llamada a {@link #dividir(NodoTreap, int)}. Se usan campos
+     * en lugar de devolver un par para no reservar un objeto en cada nivel de la recursión.
+     */
+    private NodoTreap divisionIzquierda;
+    private NodoTreap divisionDerecha;
+
+    public TreapImplicitoRepositorio() {
+        this.raiz = null;
+        this.aleatorio = new SplittableRandom();
+    }
+
+    //region Implementación de RepositorioVentas (CRUD)
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    @Override
+    public boolean agregarAlInicio(double valor) {
+        raiz = unir(nuevoNodo(valor), raiz);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    @Override
+    public boolean agregarAlFinal(double valor) {
+        raiz = unir(raiz, nuevoNodo(valor));
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado - Se divide el árbol tras el índice y se
+     * vuelven a unir las dos partes con el nuevo nodo en medio.</p>
+     */
+    @Override
+    public boolean insertarDespuesDe(int indice, double valor) {
+        if (indice < 0 || indice >= tamano()) {
+            return false; // Índice inválido.
+        }
+        dividir(raiz, indice + 1);
+        NodoTreap izquierda = divisionIzquierda;
+        NodoTreap derecha = divisionDerecha;
+        raiz = unir(unir(izquierda, nuevoNodo(valor)), derecha);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    @Override
+    public boolean actualizar(int indice, double nuevoValor) {
+        if (indice < 0 || indice >= tamano()) {
+            return false;
+        }
+        actualizarRecursivo(raiz, indice, nuevoValor);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado - Se aísla el nodo con dos divisiones y se
+     * unen las partes restantes.</p>
+     */
+    @Override
+    public boolean eliminar(int indice) {
+        if (indice < 0 || indice >= tamano()) {
+            return false;
+        }
+        dividir(raiz, indice);
+        NodoTreap izquierda = divisionIzquierda;
+        dividir(divisionDerecha, 1);
+        NodoTreap derecha = divisionDerecha;
+        raiz = unir(izquierda, derecha);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    @Override
+    public boolean eliminarAlInicio() {
+        if (raiz == null) return false;
+        return eliminar(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    @Override
+    public boolean eliminarAlFinal() {
+        if (raiz == null) return false;
+        return eliminar(tamano() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Se vuelca el árbol a un array, se compacta y se reconstruye el
+     * treap en tiempo lineal.</p>
+     */
+    @Override
+    public int eliminarIndices(int[] indices) {
+        RepositorioVentas.validarIndicesAEliminar(indices, tamano());
+        if (indices.length == 0) {
+            return 0;
+        }
+        double[] valores = aArray(null);
+        int escritura = indices[0];
+        int k = 0;
+        for (int lectura = indices[0]; lectura < valores.length; lectura++) {
+            if (k < indices.length && indices[k] == lectura) {
+                k++;
+            } else {
+                valores[escritura++] = valores[lectura];
+            }
+        }
+        raiz = construir(valores, escritura);
+        return indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado - Descenso guiado por el tamaño de los subárboles.</p>
+     */
+    @Override
+    public double obtener(int indice) {
+        if (indice < 0 || indice >= tamano()) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice + ", tamaño actual: " + tamano());
+        }
+        NodoTreap nodo = raiz;
+        while (true) {
+            nodo.propagarInversion();
+            int tamIzq = tamano(nodo.getIzquierdo());
+            if (indice < tamIzq) {
+                nodo = nodo.getIzquierdo();
+            } else if (indice == tamIzq) {
+                return nodo.getValor();
+            } else {
+                indice -= tamIzq + 1;
+                nodo = nodo.getDerecho();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorrido in-orden iterativo.</p>
+     */
+    @Override
+    public List<Double> obtenerTodos() {
+        double[] valores = aArray(null);
+        List<Double> lista = new ArrayList<>(valores.length);
+        for (double v : valores) {
+            lista.add(v);
+        }
+        return lista;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Recorrido in-orden iterativo (con pila explícita),
+     * aplicando las inversiones pendientes.</p>
+     */
+    @Override
+    public void recorrer(DoubleConsumer accion) {
+        // La altura esperada de un treap es ~3·log2(n); la pila crece si se supera.
+        NodoTreap[] pila = new NodoTreap[64];
+        int cima = 0;
+        NodoTreap actual = raiz;
+        while (actual != null || cima > 0) {
+            while (actual != null) {
+                actual.propagarInversion();
+                if (cima == pila.length) {
+                    pila = Arrays.copyOf(pila, cima * 2);
+                }
+                pila[cima++] = actual;
+                actual = actual.getIzquierdo();
+            }
+            actual = pila[--cima];
+            accion.accept(actual.getValor());
+            actual = actual.getDerecho();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - Ver {@link #recorrer(DoubleConsumer)}.</p>
+     */
+    @Override
+    public double[] aArray(double[] destino) {
+        int n = tamano();
+        double[] resultado = (destino != null && destino.length >= n) ? destino : new double[n];
+        int[] k = {0};
+        recorrer(v -> resultado[k[0]++] = v);
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - El tamaño se guarda en la raíz.</p>
+     */
+    @Override
+    public int tamano() {
+        return tamano(raiz);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n)</b> - El árbol está ordenado por posición, no por valor,
+     * por lo que se requiere un recorrido lineal.</p>
+     */
+    @Override
+    public int buscarIndiceDe(double valor) {
+        double[] todos = aArray(null);
+        for (int i = 0; i < todos.length; i++) {
+            if (todos[i] == valor) {
+                return i;
+            }
+        }
+        return -1; // Valor no encontrado.
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Siempre {@code true}, ya que esta implementación soporta todas las operaciones avanzadas.
+     */
+    @Override
+    public boolean soportaOperacionesAvanzadas() {
+        return true;
+    }
+    //endregion
+
+    //region Implementación de OperacionesAvanzadasLista
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(1)</b> - Solo se marca la raíz; la inversión se aplica de
+     * forma perezosa al visitar cada nodo.</p>
+     */
+    @Override
+    public void invertir() {
+        if (raiz != null) {
+            raiz.alternarInvertido();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(log n)</b> esperado - Cada nodo conoce el máximo de su
+     * subárbol, por lo que se descartan subárboles enteros sin candidatos.</p>
+     */
+    @Override
+    public int buscarPrimeroMayor(double umbral) {
+        NodoTreap nodo = raiz;
+        int base = 0;
+        while (nodo != null && nodo.getMaximo() >= umbral) {
+            nodo.propagarInversion();
+            NodoTreap izquierdo = nodo.getIzquierdo();
+            if (izquierdo != null && izquierdo.getMaximo() >= umbral) {
+                nodo = izquierdo;
+            } else if (nodo.getValor() >= umbral) {
+                return base + tamano(izquierdo);
+            } else {
+                base += tamano(izquierdo) + 1;
+                nodo = nodo.getDerecho();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><b>Complejidad: O(n) esperado</b> - Vuelca el recorrido in-orden a un array y delega en la detección
+     * basada en hash de {@link BuscadorListaUtil}.</p>
+     */
+    @Override
+    public List<Integer> encontrarIndicesDeDuplicados() {
+        double[] todos = aArray(null);
+        return BuscadorListaUtil.encontrarIndicesDeDuplicados(todos, todos.length);
+    }
+    //endregion
+
+    //region Operaciones del Treap (Privadas)
+    /**
+     * Divide un subárbol en dos: los primeros {@code k} elementos y el resto.
+     * Los resultados se dejan en {@code divisionIzquierda} y {@code divisionDerecha}.
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    private void dividir(NodoTreap nodo, int k) {
+        if (nodo == null) {
+            divisionIzquierda = null;
+            divisionDerecha = null;
+            return;
+        }
+        nodo.propagarInversion();
+        int tamIzq = tamano(nodo.getIzquierdo());
+        if (k <= tamIzq) {
+            // El punto de corte está en el subárbol izquierdo.
+            dividir(nodo.getIzquierdo(), k);
+            nodo.setIzquierdo(divisionDerecha);
+            nodo.recalcular();
+            divisionDerecha = nodo;
+        } else {
+            // El punto de corte está en el subárbol derecho.
+            dividir(nodo.getDerecho(), k - tamIzq - 1);
+            nodo.setDerecho(divisionIzquierda);
+            nodo.recalcular();
+            divisionIzquierda = nodo;
+        }
+    }
+
+    /**
+     * Une dos subárboles, asumiendo que todos los elementos de {@code a} preceden a los de {@code b}.
+     * La raíz del resultado es el nodo de mayor prioridad.
+     * <p><b>Complejidad: O(log n)</b> esperado.</p>
+     */
+    private NodoTreap unir(NodoTreap a, NodoTreap b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.getPrioridad() > b.getPrioridad()) {
+            a.propagarInversion();
+            a.setDerecho(unir(a.getDerecho(), b));
+            a.recalcular();
+            return a;
+        } else {
+            b.propagarInversion();
+            b.setIzquierdo(unir(a, b.getIzquierdo()));
+            b.recalcular();
+            return b;
+        }
+    }
+
+    /**
+     * Construye un treap con los primeros {@code n} valores del array, en orden.
+     * <p>
+     * Se usa el algoritmo del árbol cartesiano con una pila que contiene la espina
+     * derecha: cada nodo nuevo desapila los de menor prioridad y los adopta como
+     * subárbol izquierdo. Un nodo desapilado ya no cambia, así que se recalcula entonces.
+     * </p>
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    private NodoTreap construir(double[] valores, int n) {
+        NodoTreap[] pila = new NodoTreap[64];
+        int cima = 0;
+        for (int i = 0; i < n; i++) {
+            NodoTreap nodo = nuevoNodo(valores[i]);
+            NodoTreap ultimoDesapilado = null;
+            while (cima > 0 && pila[cima - 1].getPrioridad() < nodo.getPrioridad()) {
+                ultimoDesapilado = pila[--cima];
+                ultimoDesapilado.recalcular();
+            }
+            nodo.setIzquierdo(ultimoDesapilado);
+            if (cima > 0) {
+                pila[cima - 1].setDerecho(nodo);
+            }
+            if (cima == pila.length) {
+                pila = Arrays.copyOf(pila, cima * 2);
+            }
+            pila[cima++] = nodo;
+        }
+        // Se cierra la espina derecha de abajo hacia arriba.
+        while (cima > 1) {
+            pila[--cima].recalcular();
+        }
+        if (cima == 0) {
+            return null;
+        }
+        pila[0].recalcular();
+        return pila[0];
+    }
+
+    /**
+     * Desciende hasta el índice indicado, reemplaza su valor y recalcula los máximos
+     * en el camino de regreso.
+     */
+    private void actualizarRecursivo(NodoTreap nodo, int indice, double nuevoValor) {
+        nodo.propagarInversion();
+        int tamIzq = tamano(nodo.getIzquierdo());
+        if (indice < tamIzq) {
+            actualizarRecursivo(nodo.getIzquierdo(), indice, nuevoValor);
+        } else if (indice == tamIzq) {
+            nodo.setValor(nuevoValor);
+        } else {
+            actualizarRecursivo(nodo.getDerecho(), indice - tamIzq - 1, nuevoValor);
+        }
+        nodo.recalcular();
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    private NodoTreap nuevoNodo(double valor) {
+        return new NodoTreap(valor, aleatorio.nextInt());
+    }
+
+    private static int tamano(NodoTreap nodo) {
+        return nodo == null ? 0 : nodo.getTamano();
+    }
+
+    //endregion
+}
@@ -4,6 +4,7 @@ import model.MesAsignacion;
 import model.Pedido;
 import model.TipoEntidad;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
 /**
  * Define el contrato para el servicio de lógica de negocio de la aplicación.
@@ -21,6 +22,22 @@ public interface VentasService {
     boolean registrarVentaAlInicio(double valor);
     boolean registrarObjetivoAlFinal(double valor);
     boolean registrarObjetivoAlInicio(double valor);
+
+    /**
+     * Registra un mes completo (venta y objetivo) al final, como una única operación.
+     * @param valorVenta    El valor de la venta.
+     * @param valorObjetivo El valor del objetivo.
+     * @return {@code true} si el registro se insertó.
+     */
+    boolean registrarAlFinal(double valorVenta, double valorObjetivo);
+
+    /**
+     * Registra un mes completo (venta y objetivo) al inicio, como una única operación.
+     * @param valorVenta    El valor de la venta.
+     * @param valorObjetivo El valor del objetivo.
+     * @return {@code true} si el registro se insertó.
+     */
+    boolean registrarAlInicio(double valorVenta, double valorObjetivo);
     boolean registrarDespuesDe(int indice, double valorVenta, double valorObjetivo);
     boolean eliminarPrimerRegistro();
     boolean eliminarUltimoRegistro();
@@ -34,11 +51,158 @@ public interface VentasService {
     //region Obtención de Datos
     List<Double> getVentas();
     List<Double> getObjetivos();
+
+    /**
+     * Devuelve el número de ventas registradas sin copiar los datos.
+     * @return La cantidad de ventas.
+     */
+    int cantidadVentas();
+
+    /**
+     * Devuelve el número de objetivos registrados sin copiar los datos.
+     * @return La cantidad de objetivos.
+     */
+    int cantidadObjetivos();
+
+    /**
+     * Devuelve la venta de un mes concreto sin copiar el resto de los datos.
+     * @param mes El índice (base 0) del mes.
+     * @return El valor de la venta.
+     * @throws IndexOutOfBoundsException si el mes no existe.
+     */
+    double getVenta(int mes);
+
+    /**
+     * Aplica una acción a cada venta, en orden, sin crear objetos {@code Double}.
+     * @param accion La acción a ejecutar para cada valor.
+     */
+    void recorrerVentas(DoubleConsumer accion);
+
+    /**
+     * Aplica una acción a cada objetivo, en orden, sin crear objetos {@code Double}.
+     * @param accion La acción a ejecutar para cada valor.
+     */
+    void recorrerObjetivos(DoubleConsumer accion);
+
+    /**
+     * Copia las ventas a un array primitivo, reutilizando {@code destino} si tiene capacidad suficiente.
+     * @param destino Buffer reutilizable, o {@code null}.
+     * @return El array con las ventas en sus primeras {@link #cantidadVentas()} posiciones.
+     * @see model.RepositorioVentas#aArray(double[])
+     */
+    double[] copiarVentas(double[] destino);
+
+    /**
+     * Copia los objetivos a un array primitivo, reutilizando {@code destino} si tiene capacidad suficiente.
+     * @param destino Buffer reutilizable, o {@code null}.
+     * @return El array con los objetivos en sus primeras {@link #cantidadObjetivos()} posiciones.
+     * @see model.RepositorioVentas#aArray(double[])
+     */
+    double[] copiarObjetivos(double[] destino);
     double[][] obtenerVentasRegionalMatriz();
     List<MesAsignacion> getMesesDisponiblesParaAsignar();
     List<MesAsignacion> getMesesAsignadosParaLiberar(int region);
     //endregion
 
+    //region Indicadores (KPI)
+    /**
+     * Devuelve la suma de todas las ventas.
+     * <p><b>Complejidad: O(1)</b> - El valor se mantiene en caché en cada modificación.</p>
+     * @return El total de ventas, o {@code 0.0} si no hay ventas.
+     */
+    double getTotalVentas();
+
+    /**
+     * Devuelve la suma de todos los objetivos.
+     * <p><b>Complejidad: O(1)</b></p>
+     * @return El total de objetivos, o {@code 0.0} si no hay objetivos.
+     */
+    double getTotalObjetivos();
+
+    /**
+     * Devuelve la venta media.
+     * <p><b>Complejidad: O(1)</b></p>
+     * @return El promedio de las ventas, o {@code NaN} si no hay ventas.
+     */
+    double getPromedioVentas();
+
+    /**
+     * Devuelve la menor venta registrada.
+     * <p><b>Complejidad: O(1)</b> - Solo se recalcula si se eliminó el mínimo anterior.</p>
+     * @return La venta mínima, o {@code NaN} si no hay ventas.
+     */
+    double getVentaMinima();
+
+    /**
+     * Devuelve la mayor venta registrada.
+     * <p><b>Complejidad: O(1)</b> - Solo se recalcula si se eliminó el máximo anterior.</p>
+     * @return La venta máxima, o {@code NaN} si no hay ventas.
+     */
+    double getVentaMaxima();
+
+    /**
+     * Devuelve el número de meses cuya venta alcanza su objetivo (solo meses con objetivo positivo).
+     * <p><b>Complejidad: O(1)</b></p>
+     * @return La cantidad de meses cumplidos.
+     */
+    int getMesesCumplidos();
+
+    /**
+     * Devuelve el número de meses con un objetivo positivo.
+     * <p><b>Complejidad: O(1)</b></p>
+     * @return La cantidad de meses que cuentan para el cumplimiento.
+     */
+    int getMesesConObjetivo();
+    //endregion
+
+    //region Consultas por Rango (Ventas)
+    /**
+     * Suma las ventas de los meses {@code [desde, hasta)}; por ejemplo, {@code sumaRango(0, mes + 1)}
+     * es la venta acumulada hasta un mes y {@code sumaRango(3, 6)} el total del segundo trimestre.
+     * <p><b>Complejidad: O(log n) esperado</b> - Se responde con un índice posicional (treap
+     * implícito) sincronizado con las ventas, que absorbe las inserciones y eliminaciones de
+     * meses en cualquier posición sin reconstruirse.</p>
+     * @param desde Índice (base 0) del primer mes, inclusivo.
+     * @param hasta Índice (base 0) del último mes, exclusivo.
+     * @return La suma; {@code 0.0} si el rango está vacío.
+     * @throws IndexOutOfBoundsException si el rango excede los meses registrados.
+     */
+    double sumaRango(int desde, int hasta);
+
+    /**
+     * Devuelve la mayor venta de los meses {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b> - Cada nodo del índice guarda el máximo de su subárbol.</p>
+     * @param desde Índice (base 0) del primer mes, inclusivo.
+     * @param hasta Índice (base 0) del último mes, exclusivo.
+     * @return La venta máxima del rango.
+     * @throws IndexOutOfBoundsException si el rango excede los meses registrados.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    double maxRango(int desde, int hasta);
+
+    /**
+     * Devuelve la menor venta de los meses {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     * @param desde Índice (base 0) del primer mes, inclusivo.
+     * @param hasta Índice (base 0) del último mes, exclusivo.
+     * @return La venta mínima del rango.
+     * @throws IndexOutOfBoundsException si el rango excede los meses registrados.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    double minRango(int desde, int hasta);
+
+    /**
+     * Devuelve el mes con la mayor venta dentro de {@code [desde, hasta)} (el primero, en caso de empate).
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     * @param desde Índice (base 0) del primer mes, inclusivo.
+     * @param hasta Índice (base 0) del último mes, exclusivo.
+     * @return El índice (base 0) del mes.
+     * @throws IndexOutOfBoundsException si el rango excede los meses registrados.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    int mesDeMaxRango(int desde, int hasta);
+    //endregion
+
     //region Operaciones Avanzadas (Listas)
     void invertirVentas();
     void invertirObjetivos();
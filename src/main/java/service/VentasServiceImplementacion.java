@@ -2,10 +2,14 @@ package service;
 
 import model.*;
 import repository.ColaManual;
+import repository.RegistrosConAgregados;
+import repository.RepositorioConAgregados;
+import repository.RegistrosIndependientes;
 import repository.VentasRegionalArray;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
 /**
  * Implementación concreta de la interfaz {@link VentasService}.
@@ -18,17 +22,34 @@ import java.util.List;
 public class VentasServiceImplementacion implements VentasService {
 
     //region Atributos y Constructor
-    private final RepositorioVentas repoVentas;
-    private final RepositorioVentas repoObjetivos;
+    private final RegistrosConAgregados registros;
+    private final RepositorioConAgregados repoVentas;
+    private final RepositorioConAgregados repoObjetivos;
     private final VentasRegional repoRegional;
     private final ColaManual<Pedido> colaPedidos;
     private Pedido pedidoEnProceso;
     private final List<Pedido> historialPedidos;
-    private static final int LIMITE_MESES = 12;
 
     public VentasServiceImplementacion(RepositorioVentas ventas, RepositorioVentas objetivos) {
-        this.repoVentas = ventas;
-        this.repoObjetivos = objetivos;
+        this(new RegistrosIndependientes(ventas, objetivos));
+    }
+
+    /**
+     * Construye el servicio sobre un almacén de registros mensuales. Las operaciones que
+     * afectan a un mes completo se delegan en el almacén; las de una sola serie, en sus
+     * vistas de columna.
+     * <p>
+     * El almacén se envuelve en un {@link RegistrosConAgregados}, de modo que los
+     * indicadores (totales, extremos, meses cumplidos) se mantienen en cada modificación
+     * y se consultan en O(1).
+     * </p>
+     *
+     * @param registros El almacén de ventas y objetivos.
+     */
+    public VentasServiceImplementacion(RegistrosMensuales registros) {
+        this.registros = new RegistrosConAgregados(registros);
+        this.repoVentas = this.registros.ventas();
+        this.repoObjetivos = this.registros.objetivos();
         // Se asume una configuración fija para la matriz regional.
         this.repoRegional = new VentasRegionalArray(3, 12);
         this.colaPedidos = new ColaManual<>();
@@ -40,47 +61,47 @@ public class VentasServiceImplementacion implements VentasService {
     //region Operaciones CRUD (Ventas y Objetivos)
     @Override
     public boolean registrarVentaAlFinal(double valor) {
-        verificarLimiteMeses(repoVentas);
         return repoVentas.agregarAlFinal(valor);
     }
 
     @Override
     public boolean registrarVentaAlInicio(double valor) {
-        verificarLimiteMeses(repoVentas);
         return repoVentas.agregarAlInicio(valor);
     }
 
     @Override
     public boolean registrarObjetivoAlFinal(double valor) {
-        verificarLimiteMeses(repoObjetivos);
         return repoObjetivos.agregarAlFinal(valor);
     }
 
     @Override
     public boolean registrarObjetivoAlInicio(double valor) {
-        verificarLimiteMeses(repoObjetivos);
         return repoObjetivos.agregarAlInicio(valor);
     }
 
+    @Override
+    public boolean registrarAlFinal(double valorVenta, double valorObjetivo) {
+        return registros.agregarAlFinal(valorVenta, valorObjetivo);
+    }
+
+    @Override
+    public boolean registrarAlInicio(double valorVenta, double valorObjetivo) {
+        return registros.agregarAlInicio(valorVenta, valorObjetivo);
+    }
+
     @Override
     public boolean registrarDespuesDe(int indice, double valorVenta, double valorObjetivo) {
-        // Se valida sobre un solo repositorio, ya que ambos deben estar sincronizados en tamaño.
-        verificarLimiteMeses(repoVentas);
-        boolean exitoVenta = repoVentas.insertarDespuesDe(indice, valorVenta);
-        boolean exitoObjetivo = repoObjetivos.insertarDespuesDe(indice, valorObjetivo);
-        return exitoVenta && exitoObjetivo;
+        return registros.insertarDespuesDe(indice, valorVenta, valorObjetivo);
     }
 
     @Override
     public boolean eliminarPrimerRegistro() {
-        // Operación atómica: ambas eliminaciones deben tener éxito.
-        return repoVentas.eliminarAlInicio() && repoObjetivos.eliminarAlInicio();
+        return registros.eliminarAlInicio();
     }
 
     @Override
     public boolean eliminarUltimoRegistro() {
-        // Operación atómica: ambas eliminaciones deben tener éxito.
-        return repoVentas.eliminarAlFinal() && repoObjetivos.eliminarAlFinal();
+        return registros.eliminarAlFinal();
     }
 
     @Override
@@ -96,9 +117,7 @@ public class VentasServiceImplementacion implements VentasService {
     @Override
     public boolean eliminarRegistro(int mes) {
         // Asegura que tanto la venta como el objetivo para un mes dado sean eliminados.
-        boolean exitoVenta = this.eliminarVenta(mes);
-        boolean exitoObjetivo = this.eliminarObjetivo(mes);
-        return exitoVenta && exitoObjetivo;
+        return registros.eliminar(mes);
     }
 
     @Override
@@ -134,6 +153,41 @@ public class VentasServiceImplementacion implements VentasService {
         return repoObjetivos.obtenerTodos();
     }
 
+    @Override
+    public int cantidadVentas() {
+        return repoVentas.tamano();
+    }
+
+    @Override
+    public int cantidadObjetivos() {
+        return repoObjetivos.tamano();
+    }
+
+    @Override
+    public double getVenta(int mes) {
+        return repoVentas.obtener(mes);
+    }
+
+    @Override
+    public void recorrerVentas(DoubleConsumer accion) {
+        repoVentas.recorrer(accion);
+    }
+
+    @Override
+    public void recorrerObjetivos(DoubleConsumer accion) {
+        repoObjetivos.recorrer(accion);
+    }
+
+    @Override
+    public double[] copiarVentas(double[] destino) {
+        return repoVentas.aArray(destino);
+    }
+
+    @Override
+    public double[] copiarObjetivos(double[] destino) {
+        return repoObjetivos.aArray(destino);
+    }
+
     @Override
     public double[][] obtenerVentasRegionalMatriz() {
         return repoRegional.matriz();
@@ -197,10 +251,12 @@ public class VentasServiceImplementacion implements VentasService {
     @Override
     public List<MesAsignacion> getMesesDisponiblesParaAsignar() {
         List<MesAsignacion> disponibles = new ArrayList<>();
-        List<Double> ventas = getVentas();
+        double[] ventas = repoVentas.aArray(null);
         double[][] mat = obtenerVentasRegionalMatriz();
+        // La matriz regional solo cubre sus propias columnas de meses.
+        int meses = Math.min(repoVentas.tamano(), mat.length > 0 ? mat[0].length : 0);
 
-        for (int m = 0; m < ventas.size(); m++) {
+        for (int m = 0; m < meses; m++) {
             boolean ocupado = false;
             for (double[] regionData : mat) {
                 if (m < regionData.length && regionData[m] != 0) {
@@ -209,7 +265,7 @@ public class VentasServiceImplementacion implements VentasService {
                 }
             }
             if (!ocupado) {
-                String texto = String.format("Mes %d: %.2f", m + 1, ventas.get(m));
+                String texto = String.format("Mes %d: %.2f", m + 1, ventas[m]);
                 disponibles.add(new MesAsignacion(m, texto));
             }
         }
@@ -233,6 +289,65 @@ public class VentasServiceImplementacion implements VentasService {
     }
     //endregion
 
+    //region Indicadores (KPI)
+    @Override
+    public double getTotalVentas() {
+        return registros.ventas().suma();
+    }
+
+    @Override
+    public double getTotalObjetivos() {
+        return registros.objetivos().suma();
+    }
+
+    @Override
+    public double getPromedioVentas() {
+        return registros.ventas().promedio();
+    }
+
+    @Override
+    public double getVentaMinima() {
+        return registros.ventas().minimo();
+    }
+
+    @Override
+    public double getVentaMaxima() {
+        return registros.ventas().maximo();
+    }
+
+    @Override
+    public int getMesesCumplidos() {
+        return registros.mesesCumplidos();
+    }
+
+    @Override
+    public int getMesesConObjetivo() {
+        return registros.mesesConObjetivo();
+    }
+    //endregion
+
+    //region Consultas por Rango (Ventas)
+    @Override
+    public double sumaRango(int desde, int hasta) {
+        return registros.ventas().sumaRango(desde, hasta);
+    }
+
+    @Override
+    public double maxRango(int desde, int hasta) {
+        return registros.ventas().maximoRango(desde, hasta);
+    }
+
+    @Override
+    public double minRango(int desde, int hasta) {
+        return registros.ventas().minimoRango(desde, hasta);
+    }
+
+    @Override
+    public int mesDeMaxRango(int desde, int hasta) {
+        return registros.ventas().posicionDelMaximo(desde, hasta);
+    }
+    //endregion
+
     //region Operaciones de la Cola de Pedidos
     @Override
     public void encolarPedido(String descripcion) {
@@ -321,61 +436,32 @@ public class VentasServiceImplementacion implements VentasService {
 
     //region Métodos de Ayuda Privados
     /**
-     * Valida que no se exceda el límite de meses permitido en un repositorio.
-     * @param repo El repositorio a verificar.
-     * @throws IllegalStateException si el repositorio ya está lleno.
-     */
-    private void verificarLimiteMeses(RepositorioVentas repo) {
-        if (repo.tamano() >= LIMITE_MESES) {
-            throw new IllegalStateException("No se pueden agregar más de " + LIMITE_MESES + " meses.");
-        }
-    }
-
-    /**
-     * Algoritmo para eliminar duplicados. Encuentra los índices duplicados y los
-     * ordena de mayor a menor. La eliminación se realiza en orden descendente para
-     * evitar que la eliminación de un elemento afecte los índices de los elementos
-     * posteriores que aún no han sido procesados.
+     * Algoritmo para eliminar duplicados. Encuentra los índices duplicados (que el
+     * repositorio devuelve en orden ascendente) y elimina en bloque los registros
+     * completos, manteniendo ventas y objetivos sincronizados.
+     * <p>
+     * El almacén compacta sus datos en una sola pasada
+     * ({@link RegistrosMensuales#eliminarIndices(int[])}), por lo que el costo total
+     * es O(n) en lugar de eliminar registro a registro.
+     * </p>
      *
      * @param repoBase El repositorio (Ventas u Objetivos) que se usará como referencia.
      * @return El número de registros duplicados que fueron eliminados.
      */
     private int eliminarDuplicadosDesdeBase(RepositorioVentas repoBase) {
         OperacionesAvanzadasLista ops = getAdvancedOps(repoBase, "encontrar duplicados");
-        List<Integer> indicesAEliminar = ops.encontrarIndicesDeDuplicados();
+        List<Integer> duplicados = ops.encontrarIndicesDeDuplicados();
 
         // Optimización: Si no hay duplicados, se retorna inmediatamente.
-        if (indicesAEliminar.isEmpty()) {
+        if (duplicados.isEmpty()) {
             return 0;
         }
 
-        // Ordenamiento con Bubble Sort en orden descendente para evitar corrimiento de índices.
-        int n = indicesAEliminar.size();
-        boolean swapped;
-        for (int i = 0; i < n - 1; i++) {
-            swapped = false;
-            for (int j = 0; j < n - i - 1; j++) {
-                // Compara elementos adyacentes
-                if (indicesAEliminar.get(j) < indicesAEliminar.get(j + 1)) {
-                    // Intercambia si no están en orden descendente
-                    Integer temp = indicesAEliminar.get(j);
-                    indicesAEliminar.set(j, indicesAEliminar.get(j + 1));
-                    indicesAEliminar.set(j + 1, temp);
-                    swapped = true;
-                }
-            }
-            // Si no hubo intercambios en una pasada, la lista ya está ordenada.
-            if (!swapped) {
-                break;
-            }
-        }
-
-        // Elimina los registros usando los índices ya ordenados.
-        for (int indice : indicesAEliminar) {
-            eliminarRegistro(indice);
+        int[] indices = new int[duplicados.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = duplicados.get(i);
         }
-
-        return indicesAEliminar.size();
+        return registros.eliminarIndices(indices);
     }
 
     /**
@@ -403,19 +489,11 @@ public class VentasServiceImplementacion implements VentasService {
     }
 
     /**
-     * Realiza una búsqueda lineal si el repositorio no ofrece un método optimizado.
+     * Las columnas del almacén mantienen un índice por valor, así que la búsqueda cuesta
+     * O(log n) aunque la estructura subyacente no ofrezca operaciones avanzadas.
      */
-    private int buscarPrimeroMayorOIgual(RepositorioVentas repo, double umbral) {
-        if (repo.soportaOperacionesAvanzadas()) {
-            return ((OperacionesAvanzadasLista) repo).buscarPrimeroMayor(umbral);
-        }
-        // Fallback a búsqueda lineal para repositorios que no son listas (ej. Array).
-        for (int i = 0; i < repo.tamano(); i++) {
-            if (repo.obtener(i) >= umbral) {
-                return i;
-            }
-        }
-        return -1;
+    private int buscarPrimeroMayorOIgual(RepositorioConAgregados repo, double umbral) {
+        return repo.buscarPrimeroMayor(umbral);
     }
     //endregion
 }
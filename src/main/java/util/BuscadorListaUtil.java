@@ -2,12 +2,16 @@ package util;
 
 import model.INodo;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
 /**
  * Clase de utilidad que provee algoritmos reutilizables para operar sobre listas enlazadas.
  *
+ * <p>Los algoritmos de detección de duplicados también se ofrecen sobre arrays primitivos,
+ * para que los repositorios basados en arrays (o que pueden volcarse a uno) compartan la
+ * misma implementación.</p>
  * <p>Los métodos de esta clase son estáticos y operan sobre la interfaz genérica
  * {@link INodo}. Esto permite que la misma lógica de búsqueda se aplique de forma
  * <b>polimórfica</b> a cualquier tipo de lista (simple, doble, etc.) que cumpla
@@ -44,37 +48,114 @@ public final class BuscadorListaUtil {
     /**
      * Analiza una lista e identifica los índices de todos los elementos duplicados.
      * <p>
-     * <b>Algoritmo:</b> Búsqueda de duplicados por comparación anidada (fuerza bruta).
-     * <b>Complejidad: O(n^2)</b>, donde n es el número de nodos en la lista.
+     * <b>Algoritmo:</b> Un único recorrido que registra los valores vistos en un
+     * {@link ConjuntoDoubles}; un elemento es duplicado si su valor ya estaba en el conjunto.
+     * La igualdad sigue la semántica de {@code ==} ({@code 0.0 == -0.0}, {@code NaN} nunca
+     * se repite).
+     * <b>Complejidad: O(n) esperado</b>, donde n es el número de nodos en la lista.
      * </p>
      *
      * @param cabeza El primer nodo de la lista a analizar.
-     * @return Una {@link List} de enteros con los índices de los elementos duplicados.
-     * La lista estará vacía si no se encuentran duplicados.
+     * @return Una {@link List} de enteros con los índices de los elementos duplicados,
+     * en orden ascendente. La lista estará vacía si no se encuentran duplicados.
      */
     public static List<Integer> encontrarIndicesDeDuplicados(INodo cabeza) {
         List<Integer> indicesDeDuplicados = new ArrayList<>();
-        INodo nodoActual = cabeza;
+        ConjuntoDoubles vistos = new ConjuntoDoubles(0);
         int i = 0;
-
-        while (nodoActual != null) {
-            // Compara el nodo actual con todos los nodos que lo preceden.
-            INodo nodoAnterior = cabeza;
-            int j = 0;
-            while (j < i) {
-                if (nodoAnterior.getValor() == nodoActual.getValor()) {
-                    indicesDeDuplicados.add(i);
-                    break; // Duplicado encontrado, no es necesario seguir comparando para este nodo.
-                }
-                nodoAnterior = nodoAnterior.getSiguiente();
-                j++;
+        for (INodo nodoActual = cabeza; nodoActual != null; nodoActual = nodoActual.getSiguiente()) {
+            if (!vistos.agregar(nodoActual.getValor())) {
+                indicesDeDuplicados.add(i);
             }
-            nodoActual = nodoActual.getSiguiente();
             i++;
         }
         return indicesDeDuplicados;
     }
 
+    /**
+     * Identifica los índices de los elementos duplicados de las primeras {@code cantidad}
+     * posiciones de un array.
+     * <p>
+     * Usa el conjunto hash ({@link #encontrarIndicesDeDuplicadosConHash(double[], int)}),
+     * salvo cuando su tabla no cabría holgadamente en la memoria libre de la JVM; en ese
+     * caso recurre a la variante por ordenamiento
+     * ({@link #encontrarIndicesDeDuplicadosOrdenando(double[], int)}), que necesita
+     * aproximadamente la mitad de memoria adicional.
+     * </p>
+     *
+     * @param valores  El array a analizar (no se modifica).
+     * @param cantidad El número de posiciones válidas del array.
+     * @return Los índices de los elementos duplicados, en orden ascendente.
+     */
+    public static List<Integer> encontrarIndicesDeDuplicados(double[] valores, int cantidad) {
+        // La tabla hash usa hasta 4 longs por elemento (factor de carga 1/2, capacidad potencia de 2).
+        long bytesHash = 32L * cantidad;
+        Runtime rt = Runtime.getRuntime();
+        long memoriaLibre = rt.maxMemory() - (rt.totalMemory() - rt.freeMemory());
+        if (bytesHash > memoriaLibre / 2) {
+            return encontrarIndicesDeDuplicadosOrdenando(valores, cantidad);
+        }
+        return encontrarIndicesDeDuplicadosConHash(valores, cantidad);
+    }
+
+    /**
+     * Identifica los índices duplicados de un array con un {@link ConjuntoDoubles}.
+     * <p><b>Complejidad: O(n) esperado</b> en tiempo, O(n) en memoria adicional.</p>
+     *
+     * @param valores  El array a analizar (no se modifica).
+     * @param cantidad El número de posiciones válidas del array.
+     * @return Los índices de los elementos duplicados, en orden ascendente.
+     */
+    public static List<Integer> encontrarIndicesDeDuplicadosConHash(double[] valores, int cantidad) {
+        List<Integer> indicesDeDuplicados = new ArrayList<>();
+        ConjuntoDoubles vistos = new ConjuntoDoubles(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            if (!vistos.agregar(valores[i])) {
+                indicesDeDuplicados.add(i);
+            }
+        }
+        return indicesDeDuplicados;
+    }
+
+    /**
+     * Identifica los índices duplicados de un array ordenando una copia de los valores.
+     * <p>
+     * <b>Algoritmo:</b> Se ordena una copia normalizada ({@code -0.0} pasa a {@code 0.0}) y
+     * se recorre el array original: para cada valor se localiza por búsqueda binaria el
+     * inicio de su grupo de iguales en la copia, y un bit por grupo indica si ese valor
+     * ya apareció. Solo requiere la copia y un mapa de bits, frente a la tabla hash.
+     * <b>Complejidad: O(n log n)</b> en tiempo, ~8 bytes por elemento en memoria adicional.
+     * </p>
+     *
+     * @param valores  El array a analizar (no se modifica).
+     * @param cantidad El número de posiciones válidas del array.
+     * @return Los índices de los elementos duplicados, en orden ascendente.
+     */
+    public static List<Integer> encontrarIndicesDeDuplicadosOrdenando(double[] valores, int cantidad) {
+        double[] ordenados = new double[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            ordenados[i] = valores[i] + 0.0; // Normaliza -0.0 para que coincida con 0.0.
+        }
+        Arrays.sort(ordenados);
+
+        List<Integer> indicesDeDuplicados = new ArrayList<>();
+        long[] vistos = new long[(cantidad + 63) >>> 6];
+        for (int i = 0; i < cantidad; i++) {
+            double valor = valores[i];
+            if (valor != valor) {
+                continue; // NaN != NaN: nunca es un duplicado.
+            }
+            int grupo = primeraPosicion(ordenados, valor + 0.0);
+            long bit = 1L << grupo;
+            if ((vistos[grupo >>> 6] & bit) != 0) {
+                indicesDeDuplicados.add(i);
+            } else {
+                vistos[grupo >>> 6] |= bit;
+            }
+        }
+        return indicesDeDuplicados;
+    }
+
     /**
      * <b>Algoritmo: Búsqueda Lineal Genérica con Predicado.</b>
      * <p>
@@ -98,4 +179,22 @@ public final class BuscadorListaUtil {
         }
         return -1; // No se encontró ningún nodo que cumpla la condición.
     }
+
+    /**
+     * Búsqueda binaria de la primera posición de un valor (no NaN) en un array ordenado
+     * que lo contiene.
+     */
+    private static int primeraPosicion(double[] ordenados, double valor) {
+        int bajo = 0;
+        int alto = ordenados.length - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (ordenados[medio] < valor) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
 }
@@ -30,8 +30,7 @@ public final class CargarDatos {
         // Itera sobre los arrays de demostración y registra cada par de venta/objetivo
         // en el servicio.
         for (int i = 0; i < ventasDemo.length; i++) {
-            svc.registrarVentaAlFinal(ventasDemo[i]);
-            svc.registrarObjetivoAlFinal(objetivosDemo[i]);
+            svc.registrarAlFinal(ventasDemo[i], objetivosDemo[i]);
         }
     }
 }
@@ -0,0 +1,64 @@
+package util;
+
+/**
+ * Conjunto de valores {@code double} sin convertir los valores a {@code Double}
+ * ("boxing"), respaldado por la tabla hash de direccionamiento abierto de
+ * {@link MapaDoubles}.
+ * <p>
+ * La pertenencia sigue exactamente la semántica del operador {@code ==} de Java,
+ * que es la que usan los repositorios para comparar valores:
+ * </p>
+ * <ul>
+ *     <li>{@code 0.0} y {@code -0.0} se consideran el mismo valor.</li>
+ *     <li>{@code NaN} nunca es igual a nada (ni a sí mismo), por lo que no se almacena
+ *     y {@link #agregar(double)} siempre lo trata como un valor nuevo.</li>
+ * </ul>
+ * <p>
+ * {@link #agregar(double)} y {@link #contiene(double)} cuestan <b>O(1) esperado</b>.
+ * </p>
+ */
+public final class ConjuntoDoubles {
+
+    private final MapaDoubles tabla;
+
+    /**
+     * Construye un conjunto vacío dimensionado para el número de elementos esperado,
+     * de forma que no necesite crecer si no se supera dicha cantidad.
+     *
+     * @param elementosEsperados Número aproximado de valores distintos a insertar.
+     * @throws IllegalArgumentException si {@code elementosEsperados} es negativo.
+     */
+    public ConjuntoDoubles(int elementosEsperados) {
+        this.tabla = new MapaDoubles(elementosEsperados);
+    }
+
+    /**
+     * Agrega un valor al conjunto.
+     * <p><b>Complejidad: O(1) esperado</b>, O(1) amortizado si la tabla debe crecer.</p>
+     *
+     * @param valor El valor a agregar.
+     * @return {@code true} si el valor no estaba en el conjunto (o es {@code NaN});
+     * {@code false} si ya existía un valor igual según {@code ==}.
+     */
+    public boolean agregar(double valor) {
+        return tabla.ponerSiAusente(valor, 0);
+    }
+
+    /**
+     * Indica si el conjunto contiene un valor igual (según {@code ==}) al indicado.
+     * <p><b>Complejidad: O(1) esperado</b></p>
+     *
+     * @param valor El valor a buscar.
+     * @return {@code true} si existe; siempre {@code false} para {@code NaN}.
+     */
+    public boolean contiene(double valor) {
+        return tabla.contiene(valor);
+    }
+
+    /**
+     * @return El número de valores distintos almacenados.
+     */
+    public int tamano() {
+        return tabla.tamano();
+    }
+}
@@ -0,0 +1,671 @@
+package util;
+
+import model.RepositorioVentas;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Índice de consultas por rango sobre una secuencia de valores {@code double} que admite
+ * inserciones y eliminaciones en <b>cualquier posición</b>, no solo al final.
+ * <p>
+ * Es un <b>treap implícito</b> cuyos nodos viven en arrays primitivos paralelos,
+ * identificados por un entero (el 0 es el nodo nulo). Cada nodo guarda, además del valor,
+ * el tamaño, la suma y los nodos del mínimo y del máximo de su subárbol. Como la clave de
+ * un nodo es su posición implícita (el tamaño de lo que tiene a la izquierda), insertar o
+ * eliminar en medio no obliga a renumerar nada: basta con dividir y volver a unir el árbol
+ * en <b>O(log n) esperado</b>, igual que en {@link repository.TreapImplicitoRepositorio}.
+ * </p>
+ * <p>
+ * Las consultas de suma, mínimo y máximo de un rango {@code [desde, hasta)}, la búsqueda
+ * de la primera posición que alcanza un umbral y la actualización de un valor cuestan
+ * también <b>O(log n) esperado</b>. Solo {@link #reconstruir(RepositorioVentas)} es O(n).
+ * </p>
+ * <p>
+ * El índice también responde cuál es la primera posición de un valor
+ * ({@link #primeraPosicion(double)}). Los nodos con el mismo valor forman una lista
+ * doblemente enlazada ordenada por posición, y un {@link MapaDoubles} apunta a su cabeza.
+ * Como insertar o eliminar no cambia el orden relativo de los nodos que ya existen, las
+ * listas siguen ordenadas sin tocarlas, y la posición de la cabeza se obtiene subiendo por
+ * los padres en O(log n) esperado. Quitar una aparición es O(1) esperado. Añadir una
+ * aparición antes de la primera o después de la última cuesta O(log n) esperado. Solo si
+ * cae entre dos apariciones del mismo valor hay que recorrer su lista, O(k log n) para k
+ * apariciones. La igualdad sigue la semántica de {@code ==}: {@code 0.0} y {@code -0.0}
+ * son el mismo valor y {@code NaN} nunca se encuentra.
+ * </p>
+ * <p>
+ * Si el valor extremo aparece varias veces se devuelve la posición más a la izquierda. Un
+ * {@code NaN} no gana ninguna comparación, así que solo es mínimo o máximo de un rango
+ * formado únicamente por {@code NaN}.
+ * </p>
+ */
+public final class IndicePosicional {
+
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    /**
+     * El nodo nulo. Sus agregados son los neutros (tamaño y suma 0) y su valor es
+     * {@code NaN}, de modo que nunca alcanza un umbral.
+     */
+    private static final int NULO = 0;
+
+    private double[] valor;
+    private double[] suma;
+    private int[] tamano;
+    private int[] prioridad;
+    private int[] izquierdo;
+    private int[] derecho;
+    private int[] padre;
+
+    /**
+     * Nodo con el menor (o mayor) valor del subárbol; el de más a la izquierda si se repite.
+     */
+    private int[] nodoMinimo;
+    private int[] nodoMaximo;
+
+    /**
+     * Lista de apariciones de cada valor, en orden de posición. {@code siguienteIgual} es
+     * {@link #NULO} en la última; {@code anteriorIgual} de la cabeza apunta a la última.
+     */
+    private int[] siguienteIgual;
+    private int[] anteriorIgual;
+
+    /**
+     * Cabeza (primera aparición) de la lista de cada valor.
+     */
+    private final MapaDoubles primeraAparicion;
+
+    private int raiz;
+
+    /**
+     * Nodos usados alguna vez (los identificadores van de 1 a {@code usados}) y cabeza de
+     * la lista de nodos liberados, encadenados por {@code derecho}.
+     */
+    private int usados;
+    private int libres;
+
+    private final SplittableRandom aleatorio;
+
+    /**
+     * Resultados de la última llamada a {@link #dividir(int, int)}.
+     */
+    private int divisionIzquierda;
+    private int divisionDerecha;
+
+    /**
+     * Construye un índice vacío.
+     */
+    public IndicePosicional() {
+        this.aleatorio = new SplittableRandom();
+        this.primeraAparicion = new MapaDoubles(0);
+        asignarCapacidad(CAPACIDAD_MINIMA);
+        vaciar();
+    }
+
+    //region Mantenimiento
+    /**
+     * Reemplaza el contenido del índice por los valores actuales de un repositorio.
+     * <p><b>Complejidad: O(n) esperado</b> - Construcción del árbol cartesiano con una pila
+     * y una pasada en orden para formar las listas de apariciones.</p>
+     *
+     * @param origen El repositorio a indexar.
+     */
+    public void reconstruir(RepositorioVentas origen) {
+        int n = origen.tamano();
+        if (n + 1 > valor.length) {
+            int capacidad = valor.length;
+            while (capacidad < n + 1) {
+                capacidad <<= 1;
+            }
+            asignarCapacidad(capacidad);
+        }
+        vaciar();
+        origen.recorrer(v -> valor[++usados] = v);
+        raiz = construir(usados);
+        for (int nodo = 1; nodo <= usados; nodo++) {
+            enlazarAlFinal(nodo); // Los identificadores siguen el orden de las posiciones.
+        }
+    }
+
+    /**
+     * Inserta un valor en una posición; los valores desde esa posición se desplazan uno.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     *
+     * @param posicion La posición (base 0) que ocupará el valor, entre 0 y {@link #tamano()}.
+     * @param v        El valor a insertar.
+     * @throws IndexOutOfBoundsException si la posición no está en {@code [0, tamano()]}.
+     */
+    public void insertar(int posicion, double v) {
+        if (posicion < 0 || posicion > tamano()) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + posicion + ", tamaño actual: " + tamano());
+        }
+        int nuevo = nuevoNodo(v);
+        dividir(raiz, posicion);
+        int derecha = divisionDerecha;
+        raiz = unir(unir(divisionIzquierda, nuevo), derecha);
+        padre[raiz] = NULO;
+        enlazar(nuevo);
+    }
+
+    /**
+     * Quita el valor de una posición; los siguientes retroceden uno.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     *
+     * @param posicion La posición (base 0).
+     * @throws IndexOutOfBoundsException si la posición no existe.
+     */
+    public void eliminar(int posicion) {
+        validarPosicion(posicion);
+        dividir(raiz, posicion);
+        int izquierda = divisionIzquierda;
+        dividir(divisionDerecha, 1);
+        desenlazar(divisionIzquierda);
+        liberar(divisionIzquierda);
+        raiz = unir(izquierda, divisionDerecha);
+        padre[raiz] = NULO;
+    }
+
+    /**
+     * Reemplaza el valor de una posición.
+     * <p><b>Complejidad: O(log n) esperado</b> - Se localiza el nodo y se recalculan sus
+     * ancestros subiendo por los padres.</p>
+     *
+     * @param posicion   La posición (base 0).
+     * @param nuevoValor El nuevo valor.
+     * @throws IndexOutOfBoundsException si la posición no existe.
+     */
+    public void actualizar(int posicion, double nuevoValor) {
+        validarPosicion(posicion);
+        int nodo = nodoEn(posicion);
+        boolean mismoValor = valor[nodo] == nuevoValor;
+        if (!mismoValor) {
+            desenlazar(nodo);
+        }
+        valor[nodo] = nuevoValor;
+        for (int ancestro = nodo; ancestro != NULO; ancestro = padre[ancestro]) {
+            recalcular(ancestro);
+        }
+        if (!mismoValor) {
+            enlazar(nodo);
+        }
+    }
+
+    /**
+     * @return El número de valores indexados.
+     */
+    public int tamano() {
+        return tamano[raiz];
+    }
+    //endregion
+
+    //region Consultas de Rango
+    /**
+     * Suma los valores de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b> - Diferencia de dos sumas de prefijo.</p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return La suma; {@code 0.0} si el rango está vacío.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     */
+    public double suma(int desde, int hasta) {
+        validarRango(desde, hasta);
+        return prefijo(hasta) - prefijo(desde);
+    }
+
+    /**
+     * Devuelve el menor valor de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El mínimo del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double minimo(int desde, int hasta) {
+        validarRangoNoVacio(desde, hasta);
+        return valor[extremo(raiz, desde, hasta, false)];
+    }
+
+    /**
+     * Devuelve el mayor valor de las posiciones {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return El máximo del rango.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public double maximo(int desde, int hasta) {
+        validarRangoNoVacio(desde, hasta);
+        return valor[extremo(raiz, desde, hasta, true)];
+    }
+
+    /**
+     * Devuelve la posición del mayor valor de {@code [desde, hasta)}.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     *
+     * @param desde Índice inicial (inclusivo).
+     * @param hasta Índice final (exclusivo).
+     * @return La posición (base 0) del máximo.
+     * @throws IndexOutOfBoundsException si el rango no está contenido en {@code [0, tamano())}.
+     * @throws IllegalArgumentException si el rango está vacío.
+     */
+    public int indiceDelMaximo(int desde, int hasta) {
+        validarRangoNoVacio(desde, hasta);
+        return posicionDe(extremo(raiz, desde, hasta, true));
+    }
+
+    /**
+     * Devuelve la primera posición cuyo valor es mayor o igual que un umbral.
+     * <p><b>Complejidad: O(log n) esperado</b> - Se desciende entrando en el subárbol
+     * izquierdo siempre que su máximo alcance el umbral.</p>
+     *
+     * @param umbral El valor mínimo buscado.
+     * @return La posición (base 0), o -1 si ningún valor alcanza el umbral.
+     */
+    public int primeraPosicionMayorOIgual(double umbral) {
+        int nodo = raiz;
+        if (!(valor[nodoMaximo[nodo]] >= umbral)) {
+            return -1;
+        }
+        int base = 0;
+        while (true) {
+            int izq = izquierdo[nodo];
+            if (valor[nodoMaximo[izq]] >= umbral) {
+                nodo = izq;
+            } else if (valor[nodo] >= umbral) {
+                return base + tamano[izq];
+            } else {
+                base += tamano[izq] + 1;
+                nodo = derecho[nodo];
+            }
+        }
+    }
+
+    /**
+     * Devuelve la primera posición en la que aparece un valor.
+     * <p><b>Complejidad: O(log n) esperado</b> - Búsqueda en la tabla hash y ascenso desde
+     * la primera aparición hasta la raíz.</p>
+     *
+     * @param v El valor a buscar.
+     * @return La posición (base 0), o -1 si no aparece (siempre -1 para {@code NaN}).
+     */
+    public int primeraPosicion(double v) {
+        int cabeza = primeraAparicion.obtener(v);
+        return cabeza == MapaDoubles.AUSENTE ? -1 : posicionDe(cabeza);
+    }
+
+    /**
+     * Devuelve el valor almacenado en una posición.
+     * <p><b>Complejidad: O(log n) esperado</b></p>
+     *
+     * @param posicion La posición (base 0).
+     * @return El valor.
+     * @throws IndexOutOfBoundsException si la posición no existe.
+     */
+    public double valorEn(int posicion) {
+        validarPosicion(posicion);
+        return valor[nodoEn(posicion)];
+    }
+    //endregion
+
+    //region Operaciones del Treap (Privadas)
+    /**
+     * Divide un subárbol en dos: los primeros {@code k} elementos y el resto.
+     * Los resultados se dejan en {@code divisionIzquierda} y {@code divisionDerecha}.
+     */
+    private void dividir(int nodo, int k) {
+        if (nodo == NULO) {
+            divisionIzquierda = NULO;
+            divisionDerecha = NULO;
+            return;
+        }
+        int tamIzq = tamano[izquierdo[nodo]];
+        if (k <= tamIzq) {
+            dividir(izquierdo[nodo], k);
+            izquierdo[nodo] = divisionDerecha;
+            recalcular(nodo);
+            divisionDerecha = nodo;
+        } else {
+            dividir(derecho[nodo], k - tamIzq - 1);
+            derecho[nodo] = divisionIzquierda;
+            recalcular(nodo);
+            divisionIzquierda = nodo;
+        }
+    }
+
+    /**
+     * Une dos subárboles, asumiendo que todos los elementos de {@code a} preceden a los de {@code b}.
+     */
+    private int unir(int a, int b) {
+        if (a == NULO) return b;
+        if (b == NULO) return a;
+        if (prioridad[a] > prioridad[b]) {
+            derecho[a] = unir(derecho[a], b);
+            recalcular(a);
+            return a;
+        } else {
+            izquierdo[b] = unir(a, izquierdo[b]);
+            recalcular(b);
+            return b;
+        }
+    }
+
+    /**
+     * Construye un treap con los nodos {@code 1..n}, cuyos valores ya están asignados y en
+     * orden, con el algoritmo del árbol cartesiano: la pila contiene la espina derecha y un
+     * nodo desapilado ya no cambia, así que se recalcula entonces.
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    private int construir(int n) {
+        int[] pila = new int[64];
+        int cima = 0;
+        for (int nodo = 1; nodo <= n; nodo++) {
+            inicializarNodo(nodo);
+            int ultimoDesapilado = NULO;
+            while (cima > 0 && prioridad[pila[cima - 1]] < prioridad[nodo]) {
+                ultimoDesapilado = pila[--cima];
+                recalcular(ultimoDesapilado);
+            }
+            izquierdo[nodo] = ultimoDesapilado;
+            if (cima > 0) {
+                derecho[pila[cima - 1]] = nodo;
+            }
+            if (cima == pila.length) {
+                pila = Arrays.copyOf(pila, cima * 2);
+            }
+            pila[cima++] = nodo;
+        }
+        // Se cierra la espina derecha de abajo hacia arriba.
+        while (cima > 0) {
+            recalcular(pila[--cima]);
+        }
+        int nuevaRaiz = (n == 0) ? NULO : pila[0];
+        padre[nuevaRaiz] = NULO;
+        return nuevaRaiz;
+    }
+
+    /**
+     * Recalcula los agregados de un nodo a partir de sus hijos y les asigna su padre.
+     */
+    private void recalcular(int nodo) {
+        int izq = izquierdo[nodo];
+        int der = derecho[nodo];
+        tamano[nodo] = tamano[izq] + 1 + tamano[der];
+        suma[nodo] = suma[izq] + valor[nodo] + suma[der];
+        nodoMinimo[nodo] = elegir(elegir(nodoMinimo[izq], nodo, false), nodoMinimo[der], false);
+        nodoMaximo[nodo] = elegir(elegir(nodoMaximo[izq], nodo, true), nodoMaximo[der], true);
+        padre[izq] = nodo;
+        padre[der] = nodo;
+    }
+
+    /**
+     * Nodo del extremo de las posiciones {@code [desde, hasta)} relativas al subárbol.
+     * Tras separarse los dos bordes del rango, cada lado solo sigue un camino y usa los
+     * agregados de los subárboles que quedan completamente dentro.
+     */
+    private int extremo(int nodo, int desde, int hasta, boolean maximo) {
+        if (nodo == NULO || desde >= hasta) {
+            return NULO;
+        }
+        if (desde == 0 && hasta == tamano[nodo]) {
+            return maximo ? nodoMaximo[nodo] : nodoMinimo[nodo];
+        }
+        int tamIzq = tamano[izquierdo[nodo]];
+        int resultado = NULO;
+        if (desde < tamIzq) {
+            resultado = extremo(izquierdo[nodo], desde, Math.min(hasta, tamIzq), maximo);
+        }
+        if (desde <= tamIzq && tamIzq < hasta) {
+            resultado = elegir(resultado, nodo, maximo);
+        }
+        if (hasta > tamIzq + 1) {
+            resultado = elegir(resultado, extremo(derecho[nodo], Math.max(desde - tamIzq - 1, 0), hasta - tamIzq - 1, maximo), maximo);
+        }
+        return resultado;
+    }
+
+    /**
+     * Elige entre dos nodos (el primero a la izquierda del segundo). En caso de empate se
+     * queda con el izquierdo, y un {@code NaN} solo gana a otro {@code NaN}.
+     */
+    private int elegir(int a, int b, boolean maximo) {
+        if (a == NULO) {
+            return b;
+        }
+        if (b == NULO) {
+            return a;
+        }
+        double va = valor[a];
+        double vb = valor[b];
+        boolean ganaB = (va != va) ? vb == vb : (maximo ? vb > va : vb < va);
+        return ganaB ? b : a;
+    }
+
+    /**
+     * Suma de las primeras {@code k} posiciones, descendiendo desde la raíz.
+     */
+    private double prefijo(int k) {
+        double acumulado = 0.0;
+        int nodo = raiz;
+        while (k > 0) {
+            int izq = izquierdo[nodo];
+            if (k <= tamano[izq]) {
+                nodo = izq;
+            } else {
+                acumulado += suma[izq] + valor[nodo];
+                k -= tamano[izq] + 1;
+                nodo = derecho[nodo];
+            }
+        }
+        return acumulado;
+    }
+
+    private int nodoEn(int posicion) {
+        int nodo = raiz;
+        while (true) {
+            int tamIzq = tamano[izquierdo[nodo]];
+            if (posicion < tamIzq) {
+                nodo = izquierdo[nodo];
+            } else if (posicion == tamIzq) {
+                return nodo;
+            } else {
+                posicion -= tamIzq + 1;
+                nodo = derecho[nodo];
+            }
+        }
+    }
+
+    /**
+     * Posición de un nodo: lo que tiene a su izquierda en su subárbol más, por cada
+     * ancestro del que cuelga por la derecha, el subárbol izquierdo de ese ancestro y él mismo.
+     */
+    private int posicionDe(int nodo) {
+        int posicion = tamano[izquierdo[nodo]];
+        while (nodo != raiz) {
+            int p = padre[nodo];
+            if (derecho[p] == nodo) {
+                posicion += tamano[izquierdo[p]] + 1;
+            }
+            nodo = p;
+        }
+        return posicion;
+    }
+    //endregion
+
+    //region Listas de Apariciones (Privadas)
+    /**
+     * Añade un nodo ya colocado en el árbol a la lista de su valor, en su lugar según la posición.
+     */
+    private void enlazar(int nodo) {
+        double v = valor[nodo];
+        int cabeza = primeraAparicion.obtener(v);
+        if (v != v || cabeza == MapaDoubles.AUSENTE) {
+            enlazarAlFinal(nodo);
+            return;
+        }
+        int posicion = posicionDe(nodo);
+        int ultimo = anteriorIgual[cabeza];
+        if (posicion < posicionDe(cabeza)) {
+            siguienteIgual[nodo] = cabeza;
+            anteriorIgual[nodo] = ultimo;
+            anteriorIgual[cabeza] = nodo;
+            primeraAparicion.poner(v, nodo);
+        } else if (posicion > posicionDe(ultimo)) {
+            enlazarAlFinal(nodo);
+        } else {
+            int previo = cabeza;
+            while (posicionDe(siguienteIgual[previo]) < posicion) {
+                previo = siguienteIgual[previo];
+            }
+            int siguiente = siguienteIgual[previo];
+            siguienteIgual[previo] = nodo;
+            anteriorIgual[nodo] = previo;
+            siguienteIgual[nodo] = siguiente;
+            anteriorIgual[siguiente] = nodo;
+        }
+    }
+
+    /**
+     * Añade un nodo como última aparición de su valor. Los {@code NaN} no se indexan.
+     */
+    private void enlazarAlFinal(int nodo) {
+        double v = valor[nodo];
+        if (v != v) {
+            return;
+        }
+        siguienteIgual[nodo] = NULO;
+        int cabeza = primeraAparicion.obtener(v);
+        if (cabeza == MapaDoubles.AUSENTE) {
+            anteriorIgual[nodo] = nodo;
+            primeraAparicion.poner(v, nodo);
+            return;
+        }
+        int ultimo = anteriorIgual[cabeza];
+        siguienteIgual[ultimo] = nodo;
+        anteriorIgual[nodo] = ultimo;
+        anteriorIgual[cabeza] = nodo;
+    }
+
+    /**
+     * Quita un nodo de la lista de su valor. Si era la cabeza, la siguiente aparición pasa
+     * a ser la primera.
+     */
+    private void desenlazar(int nodo) {
+        double v = valor[nodo];
+        if (v != v) {
+            return;
+        }
+        int cabeza = primeraAparicion.obtener(v);
+        int siguiente = siguienteIgual[nodo];
+        if (nodo == cabeza) {
+            if (siguiente == NULO) {
+                primeraAparicion.quitar(v);
+            } else {
+                anteriorIgual[siguiente] = anteriorIgual[nodo];
+                primeraAparicion.poner(v, siguiente);
+            }
+            return;
+        }
+        int previo = anteriorIgual[nodo];
+        siguienteIgual[previo] = siguiente;
+        anteriorIgual[siguiente == NULO ? cabeza : siguiente] = previo;
+    }
+    //endregion
+
+    //region Métodos de Ayuda (Privados)
+    private int nuevoNodo(double v) {
+        int nodo;
+        if (libres != NULO) {
+            nodo = libres;
+            libres = derecho[nodo];
+        } else {
+            if (usados + 1 == valor.length) {
+                asignarCapacidad(valor.length << 1);
+            }
+            nodo = ++usados;
+        }
+        valor[nodo] = v;
+        inicializarNodo(nodo);
+        recalcular(nodo);
+        return nodo;
+    }
+
+    private void inicializarNodo(int nodo) {
+        prioridad[nodo] = aleatorio.nextInt();
+        izquierdo[nodo] = NULO;
+        derecho[nodo] = NULO;
+    }
+
+    private void liberar(int nodo) {
+        derecho[nodo] = libres;
+        libres = nodo;
+    }
+
+    /**
+     * Deja el índice vacío conservando la capacidad de los arrays.
+     */
+    private void vaciar() {
+        raiz = NULO;
+        usados = 0;
+        libres = NULO;
+        primeraAparicion.limpiar();
+        valor[NULO] = Double.NaN;
+        nodoMinimo[NULO] = NULO;
+        nodoMaximo[NULO] = NULO;
+    }
+
+    /**
+     * Amplía los arrays de nodos conservando su contenido.
+     */
+    private void asignarCapacidad(int capacidad) {
+        if (valor == null) {
+            valor = new double[capacidad];
+            suma = new double[capacidad];
+            tamano = new int[capacidad];
+            prioridad = new int[capacidad];
+            izquierdo = new int[capacidad];
+            derecho = new int[capacidad];
+            padre = new int[capacidad];
+            nodoMinimo = new int[capacidad];
+            nodoMaximo = new int[capacidad];
+            siguienteIgual = new int[capacidad];
+            anteriorIgual = new int[capacidad];
+            return;
+        }
+        valor = Arrays.copyOf(valor, capacidad);
+        suma = Arrays.copyOf(suma, capacidad);
+        tamano = Arrays.copyOf(tamano, capacidad);
+        prioridad = Arrays.copyOf(prioridad, capacidad);
+        izquierdo = Arrays.copyOf(izquierdo, capacidad);
+        derecho = Arrays.copyOf(derecho, capacidad);
+        padre = Arrays.copyOf(padre, capacidad);
+        nodoMinimo = Arrays.copyOf(nodoMinimo, capacidad);
+        nodoMaximo = Arrays.copyOf(nodoMaximo, capacidad);
+        siguienteIgual = Arrays.copyOf(siguienteIgual, capacidad);
+        anteriorIgual = Arrays.copyOf(anteriorIgual, capacidad);
+    }
+
+    private void validarPosicion(int posicion) {
+        if (posicion < 0 || posicion >= tamano()) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + posicion + ", tamaño actual: " + tamano());
+        }
+    }
+
+    private void validarRango(int desde, int hasta) {
+        if (desde < 0 || hasta > tamano() || desde > hasta) {
+            throw new IndexOutOfBoundsException("Rango inválido [" + desde + ", " + hasta + "), tamaño actual: " + tamano());
+        }
+    }
+
+    private void validarRangoNoVacio(int desde, int hasta) {
+        validarRango(desde, hasta);
+        if (desde == hasta) {
+            throw new IllegalArgumentException("El rango [" + desde + ", " + hasta + ") está vacío.");
+        }
+    }
+    //endregion
+}
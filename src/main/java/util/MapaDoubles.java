@@ -0,0 +1,241 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Tabla hash de claves {@code double} a valores {@code int} con direccionamiento abierto
+ * (sondeo lineal) sobre arrays primitivos, sin convertir las claves a {@code Double}
+ * ("boxing"). Es la tabla sobre la que se construyen {@link ConjuntoDoubles} y el índice
+ * por valor de {@link IndicePosicional}.
+ * <p>
+ * La igualdad de claves sigue exactamente la semántica del operador {@code ==} de Java,
+ * que es la que usan los repositorios para comparar valores:
+ * </p>
+ * <ul>
+ *     <li>{@code 0.0} y {@code -0.0} son la misma clave.</li>
+ *     <li>{@code NaN} nunca es igual a nada (ni a sí mismo), por lo que no se almacena:
+ *     {@link #poner(double, int)} lo ignora y {@link #obtener(double)} nunca lo encuentra.</li>
+ * </ul>
+ * <p>
+ * Como {@code NaN} nunca se guarda, se usa su patrón de bits como marca de celda vacía.
+ * La tabla se mantiene con un factor de carga máximo de 1/2 y las eliminaciones desplazan
+ * hacia atrás las claves siguientes en lugar de dejar marcas de borrado, de modo que todas
+ * las operaciones cuestan <b>O(1) esperado</b>.
+ * </p>
+ */
+public final class MapaDoubles {
+
+    /**
+     * Valor devuelto por {@link #obtener(double)} cuando la clave no está.
+     */
+    public static final int AUSENTE = -1;
+
+    /**
+     * Marca de celda vacía: el patrón canónico de {@code NaN}, que nunca se inserta.
+     */
+    private static final long VACIO = Double.doubleToLongBits(Double.NaN);
+
+    /**
+     * Constante multiplicativa de Fibonacci (2^64 / φ) para dispersar los bits.
+     */
+    private static final long MEZCLA = 0x9E3779B97F4A7C15L;
+
+    private static final int CAPACIDAD_MAXIMA = 1 << 30;
+
+    private long[] claves;
+    private int[] valores;
+    private int desplazamiento;
+    private int cantidad;
+
+    /**
+     * Construye una tabla vacía dimensionada para el número de claves esperado, de forma
+     * que no necesite crecer si no se supera dicha cantidad.
+     *
+     * @param elementosEsperados Número aproximado de claves distintas a insertar.
+     * @throws IllegalArgumentException si {@code elementosEsperados} es negativo.
+     */
+    public MapaDoubles(int elementosEsperados) {
+        if (elementosEsperados < 0) {
+            throw new IllegalArgumentException("El número de elementos esperados no puede ser negativo.");
+        }
+        int capacidad = 16;
+        while (capacidad < CAPACIDAD_MAXIMA && capacidad < 2L * elementosEsperados) {
+            capacidad <<= 1;
+        }
+        inicializar(capacidad);
+    }
+
+    /**
+     * Devuelve el valor asociado a una clave.
+     * <p><b>Complejidad: O(1) esperado</b></p>
+     *
+     * @param clave La clave a buscar.
+     * @return Su valor, o {@link #AUSENTE} si no está (siempre para {@code NaN}).
+     */
+    public int obtener(double clave) {
+        int celda = buscarCelda(clave);
+        return celda < 0 ? AUSENTE : valores[celda];
+    }
+
+    /**
+     * @param clave La clave a buscar.
+     * @return {@code true} si la tabla contiene una clave igual (según {@code ==}).
+     */
+    public boolean contiene(double clave) {
+        return buscarCelda(clave) >= 0;
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el anterior si ya existía.
+     * <p><b>Complejidad: O(1) esperado</b>, O(1) amortizado si la tabla debe crecer.</p>
+     *
+     * @param clave La clave; si es {@code NaN} no se guarda nada.
+     * @param valor El valor a asociar.
+     */
+    public void poner(double clave, int valor) {
+        int celda = buscarCelda(clave);
+        if (celda >= 0) {
+            valores[celda] = valor;
+        } else if (clave == clave) {
+            colocar(normalizar(clave), valor);
+        }
+    }
+
+    /**
+     * Asocia un valor a una clave solo si esta aún no estaba.
+     * <p><b>Complejidad: O(1) esperado</b>, O(1) amortizado si la tabla debe crecer.</p>
+     *
+     * @param clave La clave; si es {@code NaN} no se guarda nada.
+     * @param valor El valor a asociar.
+     * @return {@code true} si la clave no estaba (o es {@code NaN}); {@code false} si ya existía.
+     */
+    public boolean ponerSiAusente(double clave, int valor) {
+        if (clave != clave) {
+            return true; // NaN != NaN: nunca está en la tabla.
+        }
+        if (buscarCelda(clave) >= 0) {
+            return false;
+        }
+        colocar(normalizar(clave), valor);
+        return true;
+    }
+
+    /**
+     * Quita una clave de la tabla.
+     * <p><b>Complejidad: O(1) esperado</b></p>
+     *
+     * @param clave La clave a quitar.
+     * @return {@code true} si la clave estaba.
+     */
+    public boolean quitar(double clave) {
+        int celda = buscarCelda(clave);
+        if (celda < 0) {
+            return false;
+        }
+        int mascara = claves.length - 1;
+        int hueco = celda;
+        for (int i = (celda + 1) & mascara; claves[i] != VACIO; i = (i + 1) & mascara) {
+            // La clave puede ocupar el hueco si este está entre su celda inicial y su celda actual.
+            if (((i - posicion(claves[i])) & mascara) >= ((i - hueco) & mascara)) {
+                claves[hueco] = claves[i];
+                valores[hueco] = valores[i];
+                hueco = i;
+            }
+        }
+        claves[hueco] = VACIO;
+        cantidad--;
+        return true;
+    }
+
+    /**
+     * Quita todas las claves conservando la capacidad.
+     * <p><b>Complejidad: O(capacidad)</b></p>
+     */
+    public void limpiar() {
+        Arrays.fill(claves, VACIO);
+        cantidad = 0;
+    }
+
+    /**
+     * @return El número de claves almacenadas.
+     */
+    public int tamano() {
+        return cantidad;
+    }
+
+    //region Métodos de Ayuda (Privados)
+    private void inicializar(int capacidad) {
+        claves = new long[capacidad];
+        Arrays.fill(claves, VACIO);
+        valores = new int[capacidad];
+        desplazamiento = 64 - Integer.numberOfTrailingZeros(capacidad);
+        cantidad = 0;
+    }
+
+    /**
+     * @return La celda que contiene la clave, o -1 si no está.
+     */
+    private int buscarCelda(double clave) {
+        if (clave != clave) {
+            return -1;
+        }
+        long bits = normalizar(clave);
+        int mascara = claves.length - 1;
+        for (int i = posicion(bits); claves[i] != VACIO; i = (i + 1) & mascara) {
+            if (claves[i] == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta una clave que se sabe ausente.
+     */
+    private void colocar(long bits, int valor) {
+        int mascara = claves.length - 1;
+        int i = posicion(bits);
+        while (claves[i] != VACIO) {
+            i = (i + 1) & mascara;
+        }
+        claves[i] = bits;
+        valores[i] = valor;
+        if (++cantidad * 2 > claves.length) {
+            crecer();
+        }
+    }
+
+    /**
+     * Duplica la tabla y reinserta las claves existentes.
+     * <p><b>Complejidad: O(n)</b></p>
+     */
+    private void crecer() {
+        if (claves.length >= CAPACIDAD_MAXIMA) {
+            throw new IllegalStateException("Se excedió la capacidad máxima de la tabla.");
+        }
+        long[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        inicializar(clavesAnteriores.length << 1);
+        for (int i = 0; i < clavesAnteriores.length; i++) {
+            if (clavesAnteriores[i] != VACIO) {
+                colocar(clavesAnteriores[i], valoresAnteriores[i]);
+            }
+        }
+    }
+
+    /**
+     * Convierte {@code -0.0} en {@code 0.0} (sumar cero positivo lo hace) y devuelve los
+     * bits del valor, de forma que la igualdad de bits coincida con {@code ==}.
+     */
+    private static long normalizar(double valor) {
+        return Double.doubleToRawLongBits(valor + 0.0);
+    }
+
+    /**
+     * Hash multiplicativo: los bits altos del producto son los mejor mezclados.
+     */
+    private int posicion(long bits) {
+        return (int) ((bits * MEZCLA) >>> desplazamiento);
+    }
+    //endregion
+}
@@ -1,10 +1,19 @@
 package util;
 
+import model.PoliticaCrecimiento;
+import model.RegistrosMensuales;
 import model.RepositorioVentas;
 import model.TipoRepositorio;
 import repository.ArrayRepositorio;
+import repository.BufferCircularRepositorio;
+import repository.BufferHuecoRepositorio;
+import repository.ListaDesenrolladaRepositorio;
 import repository.ListaDobleRepositorio;
 import repository.ListaSimpleRepositorio;
+import repository.RegistrosColumnares;
+import repository.RegistrosIndependientes;
+import repository.SerieTemporalRepositorio;
+import repository.TreapImplicitoRepositorio;
 
 /**
  * Implementa el patrón de diseño <b>Factory</b> para crear instancias de repositorios.
@@ -28,24 +37,75 @@ public final class RepositorioFactory {
      * Crea y devuelve una nueva instancia de {@link RepositorioVentas} según el tipo especificado.
      *
      * @param tipo El {@link TipoRepositorio} que define la implementación deseada
-     * (ARRAY, SIMPLE, DOBLE).
+     * (ARRAY, ARRAY_DINAMICO, SIMPLE, DOBLE, CIRCULAR, HUECO, DESENROLLADA, TREAP, SERIE_TEMPORAL).
+     * {@code COLUMNAR} no es un repositorio aislado: se crea con {@link #crearRegistros(TipoRepositorio, int)}.
      * @param capacidad El tamaño inicial para las implementaciones que lo requieran,
-     * como {@code ArrayRepositorio}. Este parámetro se ignora para
+     * como {@code ArrayRepositorio} o los buffers circular y con hueco. Este parámetro se ignora para
      * las implementaciones de listas enlazadas.
      * @return Una nueva instancia que cumple con el contrato de {@code RepositorioVentas}.
      * @throws IllegalArgumentException si se proporciona un tipo de repositorio no soportado.
      */
     public static RepositorioVentas crear(TipoRepositorio tipo, int capacidad) {
+        return crear(tipo, capacidad, PoliticaCrecimiento.DUPLICAR);
+    }
+
+    /**
+     * Crea una nueva instancia de {@link RepositorioVentas}, indicando la política de
+     * crecimiento que debe usar el array dinámico.
+     *
+     * @param tipo      El {@link TipoRepositorio} que define la implementación deseada.
+     * @param capacidad El tamaño inicial para las implementaciones basadas en arrays.
+     * @param politica  La {@link PoliticaCrecimiento} aplicada cuando el tipo es
+     * {@code ARRAY_DINAMICO}. Se ignora para los demás tipos.
+     * @return Una nueva instancia que cumple con el contrato de {@code RepositorioVentas}.
+     * @throws IllegalArgumentException si se proporciona un tipo de repositorio no soportado o
+     * {@code COLUMNAR}, que solo existe como almacén completo de registros.
+     */
+    public static RepositorioVentas crear(TipoRepositorio tipo, int capacidad, PoliticaCrecimiento politica) {
         switch (tipo) {
             case ARRAY:
                 return new ArrayRepositorio(capacidad);
+            case ARRAY_DINAMICO:
+                return new ArrayRepositorio(capacidad, politica);
             case SIMPLE:
                 return new ListaSimpleRepositorio();
             case DOBLE:
                 return new ListaDobleRepositorio();
+            case CIRCULAR:
+                return new BufferCircularRepositorio(capacidad);
+            case HUECO:
+                return new BufferHuecoRepositorio(capacidad);
+            case DESENROLLADA:
+                return new ListaDesenrolladaRepositorio();
+            case TREAP:
+                return new TreapImplicitoRepositorio();
+            case COLUMNAR:
+                // Una columna suelta arrastraría a la otra en cada inserción o eliminación.
+                throw new IllegalArgumentException("El tipo " + tipo + " solo puede crearse como almacén de registros; use crearRegistros.");
+            case SERIE_TEMPORAL:
+                return new SerieTemporalRepositorio();
             default:
                 // Lanza una excepción si se pasa un tipo de enum no contemplado en el switch.
                 throw new IllegalArgumentException("Tipo de repositorio desconocido: " + tipo);
         }
     }
+
+    /**
+     * Crea el almacén de registros mensuales (ventas y objetivos) para el tipo indicado.
+     * <p>
+     * Para {@code COLUMNAR} se crea un único almacén con columnas alineadas; para los
+     * demás tipos se combinan dos repositorios independientes de ese tipo.
+     * </p>
+     *
+     * @param tipo      El {@link TipoRepositorio} que define la implementación deseada.
+     * @param capacidad El tamaño inicial para las implementaciones basadas en arrays.
+     * @return Un nuevo {@link RegistrosMensuales}.
+     * @throws IllegalArgumentException si se proporciona un tipo de repositorio no soportado.
+     */
+    public static RegistrosMensuales crearRegistros(TipoRepositorio tipo, int capacidad) {
+        if (tipo == TipoRepositorio.COLUMNAR) {
+            return new RegistrosColumnares(capacidad);
+        }
+        return new RegistrosIndependientes(crear(tipo, capacidad), crear(tipo, capacidad));
+    }
 }